@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,10 +24,13 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    jmhImplementation(libs.hdrhistogram)
 }
 
 // about source and compilation
@@ -50,3 +54,31 @@ tasks.test {
     ignoreFailures = true
     useJUnitPlatform()
 }
+
+// benchmark tasks
+// ex) ./gradlew jmh -Pjmh.includes=PointServiceBenchmark -Pjmh.threads=8 -Pjmh.throttle=false
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    fork.set(1)
+    threads.set(providers.gradleProperty("jmh.threads").map { it.toInt() }.orElse(1))
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.set(listOf(it)) }
+    providers.gradleProperty("jmh.throttle").orNull?.let {
+        benchmarkParameters.put("throttle", objects.listProperty(String::class.java).value(listOf(it)))
+    }
+    providers.gradleProperty("jmh.records").orNull?.let {
+        benchmarkParameters.put("records", objects.listProperty(String::class.java).value(listOf(it)))
+    }
+    resultFormat.set("JSON")
+}
+
+// load harness tasks
+// ex) ./gradlew loadTest -Pload.users=10000 -Pload.distribution=ZIPFIAN -Pload.rate=2000 -Pload.duration=60s
+//     ./gradlew loadTest -Pload.target=HTTP -Pload.baseUrl=http://localhost:8080 -Pload.rate=500
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "PointService 또는 HTTP API 에 부하를 주고 요청 종류별 처리량과 지연 분포를 출력합니다."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("io.hhplus.tdd.load.PointLoadHarness")
+    args = providers.gradlePropertiesPrefixedBy("load.").get()
+        .map { (key, value) -> "${key.removePrefix("load.")}=$value" }
+}
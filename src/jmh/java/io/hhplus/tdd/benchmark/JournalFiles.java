@@ -0,0 +1,24 @@
+package io.hhplus.tdd.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * 벤치마크가 만든 저널/스냅샷 디렉터리를 지웁니다.
+ */
+final class JournalFiles {
+
+    private JournalFiles() {
+    }
+
+    static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.lock.UserLockTable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 비교 기준용 : 문자열 키로 유저별 락을 만들고 회수하지 않던 기존 방식
+ */
+public class LegacyUserLockTable implements UserLockTable {
+
+    private final ConcurrentHashMap<String, Lock> userLockMap = new ConcurrentHashMap<>();
+
+    @Override
+    public Lock lockOf(long userId) {
+        return userLockMap.computeIfAbsent(String.valueOf(userId), id -> new ReentrantLock());
+    }
+
+    @Override
+    public void release(long userId, Lock lock) {
+    }
+
+    @Override
+    public int size() {
+        return userLockMap.size();
+    }
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 내역 수가 늘어날 때 유저 한 명의 내역 조회 지연 비교
+ * - TABLE : PointHistoryTable 의 전체 순회 조회
+ * - INDEXED : 유저별 보조 인덱스 조회
+ * - COLUMNAR : 유저별 열 배열 조회 (조회할 때 PointHistory 생성)
+ * 유저당 내역 수는 고정하고 유저 수를 늘려 전체 내역 수를 키웁니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class PointHistoryBenchmark {
+
+    private static final int HISTORY_PER_USER = 10;
+
+    @Param({"TABLE", "INDEXED", "COLUMNAR"})
+    public String source;
+
+    @Param({"100000", "1000000", "10000000"})
+    public int totalRows;
+
+    private StubPointHistoryTable pointHistoryTable;
+    private PointHistoryRepository pointHistoryRepository;
+    private int userCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pointHistoryTable = new StubPointHistoryTable(false);
+        pointHistoryRepository = "COLUMNAR".equals(source)
+                ? new ColumnarPointHistoryRepository()
+                : new IndexedPointHistoryRepository(pointHistoryTable);
+        userCount = totalRows / HISTORY_PER_USER;
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < totalRows; i++) {
+            pointHistoryRepository.insert(1 + i % userCount, 100L, TransactionType.CHARGE, now);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Random {
+        private final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Benchmark
+    public List<PointHistory> selectAllByUserId(Random random) {
+        long userId = 1 + random.random.nextInt(userCount);
+        return "TABLE".equals(source)
+                ? pointHistoryTable.selectAllByUserId(userId)
+                : pointHistoryRepository.selectAllByUserId(userId);
+    }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+
+import java.lang.ref.Reference;
+
+/**
+ * 내역 N 건을 기록한 뒤 저장소가 붙잡고 있는 힙 크기와 전체 GC 시간을 측정합니다.
+ * - TABLE : PointHistoryTable 의 전역 리스트
+ * - INDEXED : 테이블 + 유저별 인덱스 (현재 기본 구성)
+ * - COLUMNAR : 유저별 열 배열
+ *
+ * java -Xmx6g -cp build/libs/hhplus-tdd-jvm-jmh.jar io.hhplus.tdd.benchmark.PointHistoryFootprint 10000000 10
+ */
+public final class PointHistoryFootprint {
+
+    public static void main(String[] args) {
+        int totalRows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int historyPerUser = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int userCount = Math.max(1, totalRows / historyPerUser);
+        for (String store : new String[]{"TABLE", "INDEXED", "COLUMNAR"}) {
+            long before = usedHeap();
+            long start = System.nanoTime();
+            Object retainedStore;
+            long now = System.currentTimeMillis();
+            if ("TABLE".equals(store)) {
+                StubPointHistoryTable table = new StubPointHistoryTable(false);
+                for (int i = 0; i < totalRows; i++) {
+                    table.insert(1 + i % userCount, 100L, TransactionType.CHARGE, now + i);
+                }
+                retainedStore = table;
+            } else if ("INDEXED".equals(store)) {
+                IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(new StubPointHistoryTable(false));
+                for (int i = 0; i < totalRows; i++) {
+                    repository.insert(1 + i % userCount, 100L, TransactionType.CHARGE, now + i);
+                }
+                retainedStore = repository;
+            } else {
+                ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository();
+                for (int i = 0; i < totalRows; i++) {
+                    repository.insert(1 + i % userCount, 100L, TransactionType.CHARGE, now + i);
+                }
+                retainedStore = repository;
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            long gcStart = System.nanoTime();
+            System.gc();
+            long gcMillis = (System.nanoTime() - gcStart) / 1_000_000;
+            long retained = usedHeap() - before;
+            System.out.printf("%-9s rows=%,d users=%,d retained=%,d bytes (%.1f bytes/row) fill=%,d ms full-gc=%,d ms%n",
+                    store, totalRows, userCount, retained, (double) retained / totalRows, elapsedMillis, gcMillis);
+            Reference.reachabilityFence(retainedStore);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
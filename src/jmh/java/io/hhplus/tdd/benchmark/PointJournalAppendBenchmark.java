@@ -0,0 +1,51 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.journal.JournalSyncMode;
+import io.hhplus.tdd.point.journal.MappedPointJournal;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 저널 기록 처리량
+ * - syncMode : NONE(반영하지 않음), INTERVAL(주기적 반영), GROUP(응답 전 그룹 fsync)
+ * - GROUP 은 스레드가 많을수록 한 번의 fsync 에 더 많은 기록이 묶입니다. (-Pjmh.threads=N)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointJournalAppendBenchmark {
+
+    @Param({"NONE", "INTERVAL", "GROUP"})
+    public JournalSyncMode syncMode;
+
+    private Path directory;
+    private MappedPointJournal journal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-journal-append");
+        journal = new MappedPointJournal(directory, 1 << 20, syncMode, Duration.ofMillis(10));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        JournalFiles.delete(directory);
+    }
+
+    @Benchmark
+    public long append() {
+        long sequence = journal.append(Thread.currentThread().getId(), 10L, TransactionType.CHARGE, System.currentTimeMillis());
+        journal.sync(sequence);
+        return sequence;
+    }
+}
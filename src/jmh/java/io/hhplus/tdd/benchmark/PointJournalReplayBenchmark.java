@@ -0,0 +1,59 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.journal.JournalSyncMode;
+import io.hhplus.tdd.point.journal.MappedPointJournal;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 저널 재생 시간
+ * 기록을 읽어 유저별 잔액을 다시 계산하는 데까지 걸리는 시간을 잽니다. (테이블 적재 시간은 제외)
+ * 100M 기록은 디스크를 약 4GB 사용하므로 -Pjmh.records=100000000 으로 따로 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PointJournalReplayBenchmark {
+
+    private static final int USER_COUNT = 1_000_000;
+
+    @Param({"10000000"})
+    public int records;
+
+    private Path directory;
+    private MappedPointJournal journal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-journal-replay");
+        journal = new MappedPointJournal(directory, 1 << 24, JournalSyncMode.NONE, Duration.ofMillis(10));
+        for (int i = 0; i < records; i++) {
+            journal.append(1 + i % USER_COUNT, 10L, i % 4 == 0 ? TransactionType.USE : TransactionType.CHARGE, i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        JournalFiles.delete(directory);
+    }
+
+    @Benchmark
+    public Map<Long, Long> replay() {
+        Map<Long, Long> balances = new HashMap<>();
+        journal.replay(record -> balances.merge(record.userId(),
+                record.type() == TransactionType.CHARGE ? record.amount() : -record.amount(), Long::sum));
+        return balances;
+    }
+}
@@ -0,0 +1,151 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.engine.PointEngineMode;
+import io.hhplus.tdd.point.lock.UserLockMode;
+import io.hhplus.tdd.point.service.PointService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * PointServiceImpl 의 충전/사용/조회 경로 벤치마크
+ *
+ * - distribution : 단일 유저 경합(SINGLE), 균등 분산(UNIFORM), 핫 유저 편중(ZIPFIAN)
+ * - engine : 요청 스레드가 유저 락을 잡고 실행(LOCK), 유저 파티션별 단일 스레드가 실행(MAILBOX)
+ * - partitions : MAILBOX 모드의 파티션 수 (0 이면 CPU 코어 수)
+ * - lockMode : 유저 락 테이블 종류 (STRIPED, RECLAIMABLE)
+ * - cacheSize : 잔액 캐시 크기 (0 이면 캐시 없음)
+ * - groupCommit : 같은 유저의 동시 충전/사용을 묶어서 기록
+ * - historyOutbox : 내역을 대기열에 넣고 백그라운드에서 기록
+ * - metrics : 구간별 시간(퍼센타일 히스토그램)/거절 수 측정
+ * - throttle : false 면 테이블의 임의 지연을 제거하여 서비스 자체의 오버헤드만 측정합니다.
+ * - 스레드 수는 -Pjmh.threads=N 으로 지정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointServiceBenchmark {
+
+    private static final long INITIAL_POINT = Long.MAX_VALUE / 4;
+    private static final long AMOUNT = 10L;
+
+    @Param({"false", "true"})
+    public boolean throttle;
+
+    @Param({"SINGLE", "UNIFORM", "ZIPFIAN"})
+    public UserIdDistribution distribution;
+
+    @Param({"10000"})
+    public int userCount;
+
+    @Param({"LOCK"})
+    public PointEngineMode engine;
+
+    @Param({"0"})
+    public int partitions;
+
+    @Param({"STRIPED"})
+    public UserLockMode lockMode;
+
+    @Param({"100000"})
+    public int cacheSize;
+
+    @Param({"false", "true"})
+    public boolean groupCommit;
+
+    @Param({"false"})
+    public boolean historyOutbox;
+
+    @Param({"false"})
+    public boolean metrics;
+
+    @Param({"10"})
+    public int historyPerUser;
+
+    private PointServiceFixture fixture;
+    private PointService pointService;
+    private ZipfianGenerator zipfian;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = PointServiceFixture.builder()
+                                     .throttle(throttle)
+                                     .engine(engine, partitions)
+                                     .lockMode(lockMode)
+                                     .cacheSize(cacheSize)
+                                     .groupCommit(groupCommit)
+                                     .historyOutbox(historyOutbox)
+                                     .metrics(metrics)
+                                     .build()
+                                     .seed(userCount, INITIAL_POINT, historyPerUser);
+        pointService = fixture.pointService();
+        zipfian = new ZipfianGenerator(userCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        fixture.close();
+    }
+
+    @State(Scope.Thread)
+    public static class UserIds {
+
+        private LongSupplier generator;
+        private SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp(PointServiceBenchmark benchmark) {
+            random = new SplittableRandom(Thread.currentThread().getId());
+            generator = benchmark.distribution.newGenerator(benchmark.userCount, benchmark.zipfian, random);
+        }
+
+        long next() {
+            return generator.getAsLong();
+        }
+    }
+
+    @Benchmark
+    public UserPoint charge(UserIds ids) {
+        return pointService.charge(ids.next(), AMOUNT);
+    }
+
+    @Benchmark
+    public UserPoint use(UserIds ids) {
+        return pointService.use(ids.next(), AMOUNT);
+    }
+
+    @Benchmark
+    public UserPoint selectById(UserIds ids) {
+        return pointService.selectById(ids.next());
+    }
+
+    @Benchmark
+    public List<PointHistory> selectAllByUserId(UserIds ids) {
+        return pointService.selectAllByUserId(ids.next());
+    }
+
+    /**
+     * 충전 40%, 사용 40%, 조회 20% 혼합 부하
+     */
+    @Benchmark
+    public void mixed(UserIds ids, Blackhole blackhole) {
+        int dice = ids.random.nextInt(10);
+        long id = ids.next();
+        if (dice < 4) {
+            blackhole.consume(pointService.charge(id, AMOUNT));
+        } else if (dice < 8) {
+            blackhole.consume(pointService.use(id, AMOUNT));
+        } else {
+            blackhole.consume(pointService.selectById(id));
+        }
+    }
+}
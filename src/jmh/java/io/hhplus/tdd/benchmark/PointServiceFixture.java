@@ -0,0 +1,187 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.engine.LockUserTaskExecutor;
+import io.hhplus.tdd.point.engine.MailboxUserTaskExecutor;
+import io.hhplus.tdd.point.engine.PointEngineMode;
+import io.hhplus.tdd.point.engine.UserTaskExecutor;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.journal.NoOpPointJournal;
+import io.hhplus.tdd.point.lock.ReclaimableUserLockTable;
+import io.hhplus.tdd.point.lock.StripedUserLockTable;
+import io.hhplus.tdd.point.lock.UserLockMode;
+import io.hhplus.tdd.point.lock.UserLockTable;
+import io.hhplus.tdd.point.lock.UserLockWaitLimiter;
+import io.hhplus.tdd.point.metrics.MicrometerPointTransactionMetrics;
+import io.hhplus.tdd.point.metrics.NoOpPointTransactionMetrics;
+import io.hhplus.tdd.point.metrics.PointTransactionMetrics;
+import io.hhplus.tdd.point.repository.CachedUserPointRepository;
+import io.hhplus.tdd.point.repository.HistoryBackpressure;
+import io.hhplus.tdd.point.repository.InMemoryPointSummaryRepository;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.OutboxPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointTableRepository;
+import io.hhplus.tdd.point.service.GroupCommitQueue;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * 벤치마크 대상 PointService 와 테이블을 조립합니다.
+ * 서비스의 의존성이 바뀌면 이 클래스만 수정합니다.
+ */
+public final class PointServiceFixture implements AutoCloseable {
+
+    static final int DEFAULT_STRIPES = 4096;
+
+    /**
+     * 샤드로 묶을 수 있도록 모든 서비스가 같은 저널을 씁니다.
+     */
+    private static final NoOpPointJournal POINT_JOURNAL = new NoOpPointJournal();
+
+    private final StubUserPointTable userPointTable;
+    private final StubPointHistoryTable pointHistoryTable;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserTaskExecutor userTaskExecutor;
+    private final PointServiceImpl pointService;
+    private final boolean throttle;
+
+    private PointServiceFixture(Builder builder) {
+        this.throttle = builder.throttle;
+        this.userPointTable = new StubUserPointTable(throttle);
+        this.pointHistoryTable = new StubPointHistoryTable(throttle);
+        this.pointHistoryRepository = builder.historyOutbox
+                ? new OutboxPointHistoryRepository(pointHistoryTable, 10_000, 4, HistoryBackpressure.BLOCK, Duration.ofMinutes(1))
+                : new IndexedPointHistoryRepository(pointHistoryTable);
+        UserPointRepository userPointRepository = new UserPointTableRepository(userPointTable);
+        if (builder.cacheSize > 0) {
+            userPointRepository = new CachedUserPointRepository(userPointRepository, builder.cacheSize);
+        }
+        UserLockTable userLockTable = userLockTable(builder.lockMode);
+        PointTransactionMetrics pointTransactionMetrics = builder.metrics
+                ? new MicrometerPointTransactionMetrics(new SimpleMeterRegistry(), userLockTable)
+                : new NoOpPointTransactionMetrics();
+        this.userTaskExecutor = switch (builder.engine) {
+            case LOCK -> new LockUserTaskExecutor(userLockTable, UserLockWaitLimiter.unbounded(), pointTransactionMetrics);
+            case MAILBOX -> new MailboxUserTaskExecutor(builder.partitions > 0 ? builder.partitions : Runtime.getRuntime().availableProcessors(),
+                    1024, pointTransactionMetrics);
+        };
+        this.pointService = new PointServiceImpl(userPointRepository, pointHistoryRepository, userTaskExecutor,
+                new GroupCommitQueue(builder.groupCommit), POINT_JOURNAL, pointTransactionMetrics, IdempotencyStore.disabled(),
+                new InMemoryPointSummaryRepository());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    static UserLockTable userLockTable(UserLockMode lockMode) {
+        return switch (lockMode) {
+            case STRIPED -> new StripedUserLockTable(DEFAULT_STRIPES);
+            case RECLAIMABLE -> new ReclaimableUserLockTable();
+        };
+    }
+
+    public PointServiceImpl pointService() {
+        return pointService;
+    }
+
+    /**
+     * 1 ~ userCount 유저에게 초기 잔액과 유저별 이력을 지연 없이 적재합니다.
+     */
+    public PointServiceFixture seed(long userCount, long initialPoint, int historyPerUser) {
+        long now = System.currentTimeMillis();
+        pointHistoryTable.throttle(false);
+        for (long id = 1; id <= userCount; id++) {
+            userPointTable.seed(id, initialPoint);
+            for (int i = 0; i < historyPerUser; i++) {
+                pointHistoryRepository.insert(id, initialPoint, TransactionType.CHARGE, now);
+            }
+        }
+        pointHistoryTable.throttle(throttle);
+        return this;
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (userTaskExecutor instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        if (pointHistoryRepository instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    public static final class Builder {
+
+        private boolean throttle;
+        private UserLockMode lockMode = UserLockMode.STRIPED;
+        private int cacheSize;
+        private boolean groupCommit;
+        private boolean historyOutbox;
+        private boolean metrics;
+        private PointEngineMode engine = PointEngineMode.LOCK;
+        private int partitions;
+
+        private Builder() {
+        }
+
+        /**
+         * 테이블의 임의 지연 사용 여부
+         */
+        public Builder throttle(boolean throttle) {
+            this.throttle = throttle;
+            return this;
+        }
+
+        public Builder lockMode(UserLockMode lockMode) {
+            this.lockMode = lockMode;
+            return this;
+        }
+
+        /**
+         * 잔액 캐시 크기 (0 이면 캐시를 쓰지 않습니다)
+         */
+        public Builder cacheSize(int cacheSize) {
+            this.cacheSize = cacheSize;
+            return this;
+        }
+
+        public Builder groupCommit(boolean groupCommit) {
+            this.groupCommit = groupCommit;
+            return this;
+        }
+
+        /**
+         * 내역을 대기열에 넣고 백그라운드에서 기록할지 여부
+         */
+        public Builder historyOutbox(boolean historyOutbox) {
+            this.historyOutbox = historyOutbox;
+            return this;
+        }
+
+        /**
+         * 구간별 시간/거절 수 측정 여부 (SimpleMeterRegistry 에 기록)
+         */
+        public Builder metrics(boolean metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * 실행 방식과 MAILBOX 모드의 파티션 수 (0 이면 CPU 코어 수)
+         */
+        public Builder engine(PointEngineMode engine, int partitions) {
+            this.engine = engine;
+            this.partitions = partitions;
+            return this;
+        }
+
+        public PointServiceFixture build() {
+            return new PointServiceFixture(this);
+        }
+    }
+}
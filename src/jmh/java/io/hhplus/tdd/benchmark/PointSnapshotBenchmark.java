@@ -0,0 +1,87 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.journal.PointSnapshotStore;
+import io.hhplus.tdd.point.journal.PointSnapshotStore.Snapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 스냅샷 적재/갱신 시간
+ * - load : 스냅샷 전체를 읽는 시간 (시작 시 복구 시간의 하한)
+ * - fold : 스냅샷에 1M 유저의 변화량을 더해 새 스냅샷을 쓰는 시간 (백그라운드 스냅샷 한 번의 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PointSnapshotBenchmark {
+
+    private static final int CHUNK = 5_000_000;
+    private static final int DELTA_USERS = 1_000_000;
+
+    @Param({"50000000"})
+    public int users;
+
+    private Path directory;
+    private PointSnapshotStore store;
+    private Snapshot base;
+    private Map<Long, Long> deltas;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("point-snapshot");
+        store = new PointSnapshotStore(directory);
+        Optional<Snapshot> current = Optional.empty();
+        for (int from = 1; from <= users; from += CHUNK) {
+            Map<Long, Long> chunk = new HashMap<>();
+            for (long userId = from; userId < Math.min(users + 1L, from + CHUNK); userId++) {
+                chunk.put(userId, userId % 100_000);
+            }
+            current = Optional.of(store.write(current, ++sequence, chunk));
+            store.prune(1);
+        }
+        base = current.orElseThrow();
+
+        SplittableRandom random = new SplittableRandom(42);
+        deltas = new HashMap<>();
+        while (deltas.size() < DELTA_USERS) {
+            deltas.merge(1L + random.nextLong(users), 10L, Long::sum);
+        }
+        System.out.printf("snapshot: users=%d, size=%dMB%n", base.userCount(), base.sizeBytes() >> 20);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        JournalFiles.delete(directory);
+    }
+
+    @Benchmark
+    public long load() {
+        long[] sum = {0};
+        store.forEach(base, (userId, point) -> sum[0] += point);
+        return sum[0];
+    }
+
+    @Benchmark
+    public Snapshot fold() {
+        Snapshot snapshot = store.write(Optional.of(base), ++sequence, deltas);
+        try {
+            Files.delete(snapshot.path());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,111 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.engine.PointEngineMode;
+import io.hhplus.tdd.point.lock.UserLockMode;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import io.hhplus.tdd.point.service.ShardedPointService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 무작위 두 유저 사이의 송금 처리량 벤치마크
+ *
+ * - transfer : 두 유저의 작업을 정해진 순서로 잡고 한 번에 기록하는 송금
+ * - useThenCharge : 기존 방식 (보낸 유저 사용 후 받은 유저 충전, 유저 작업을 한 명씩 두 번 잡음)
+ * - userCount : 작을수록 같은 유저(스트라이프)를 반대 방향으로 잡는 송금이 자주 겹칩니다.
+ * - engine : 유저 락(LOCK) 또는 파티션 스레드(MAILBOX), shards 가 1 보다 크면 샤드 사이 송금도 섞입니다.
+ * - 스레드 수는 -Pjmh.threads=N 으로 지정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PointTransferBenchmark {
+
+    private static final long INITIAL_POINT = Long.MAX_VALUE / 4;
+    private static final long AMOUNT = 1L;
+
+    @Param({"16", "10000"})
+    public int userCount;
+
+    @Param({"LOCK", "MAILBOX"})
+    public PointEngineMode engine;
+
+    @Param({"STRIPED"})
+    public UserLockMode lockMode;
+
+    @Param({"1", "4"})
+    public int shards;
+
+    private final List<PointServiceFixture> fixtures = new ArrayList<>();
+    private PointService pointService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<PointServiceImpl> services = new ArrayList<>();
+        for (int i = 0; i < shards; i++) {
+            PointServiceFixture fixture = PointServiceFixture.builder()
+                                                             .throttle(false)
+                                                             .lockMode(lockMode)
+                                                             .engine(engine, 0)
+                                                             .build()
+                                                             .seed(userCount, INITIAL_POINT, 0);
+            fixtures.add(fixture);
+            services.add(fixture.pointService());
+        }
+        pointService = shards == 1 ? services.get(0) : new ShardedPointService(services);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        for (PointServiceFixture fixture : fixtures) {
+            fixture.close();
+        }
+        fixtures.clear();
+    }
+
+    @State(Scope.Thread)
+    public static class UserPairs {
+
+        private SplittableRandom random;
+        private int userCount;
+        long from;
+        long to;
+
+        @Setup(Level.Trial)
+        public void setUp(PointTransferBenchmark benchmark) {
+            random = new SplittableRandom(Thread.currentThread().getId());
+            userCount = benchmark.userCount;
+        }
+
+        /**
+         * 서로 다른 두 유저를 고릅니다.
+         */
+        void next() {
+            from = 1 + random.nextInt(userCount);
+            long other = 1 + random.nextInt(userCount - 1);
+            to = other >= from ? other + 1 : other;
+        }
+    }
+
+    @Benchmark
+    public void transfer(UserPairs pairs, Blackhole blackhole) {
+        pairs.next();
+        blackhole.consume(pointService.transfer(pairs.from, pairs.to, AMOUNT));
+    }
+
+    @Benchmark
+    public void useThenCharge(UserPairs pairs, Blackhole blackhole) {
+        pairs.next();
+        blackhole.consume(pointService.use(pairs.from, AMOUNT));
+        blackhole.consume(pointService.charge(pairs.to, AMOUNT));
+    }
+}
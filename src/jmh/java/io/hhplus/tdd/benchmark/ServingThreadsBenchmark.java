@@ -0,0 +1,99 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.service.PointService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시 접속 clients 명이 한 번씩 충전할 때 모두 끝나기까지 걸리는 시간 (요청 스레드 종류별 비교)
+ *
+ * - threads : Tomcat 기본 스레드 풀처럼 platformThreads 개의 플랫폼 스레드로 처리(PLATFORM),
+ *             요청마다 가상 스레드로 처리(VIRTUAL, spring.threads.virtual.enabled=true 와 같은 방식, Java 21 이상)
+ * - users : 요청이 나뉘는 유저 수 (clients 보다 작으면 같은 유저의 요청이 유저 락을 기다립니다)
+ * - 테이블의 임의 지연(throttle)을 켠 상태로, 요청 시간 대부분이 sleep 과 락 대기인 경우를 측정합니다.
+ *
+ * ex) java -jar build/libs/hhplus-tdd-jvm-jmh.jar ServingThreadsBenchmark -p clients=10000
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ServingThreadsBenchmark {
+
+    private static final long AMOUNT = 10L;
+
+    public enum ServingThreads {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    public ServingThreads threads;
+
+    @Param({"10000"})
+    public int clients;
+
+    @Param({"10000"})
+    public int users;
+
+    @Param({"200"})
+    public int platformThreads;
+
+    private PointServiceFixture fixture;
+    private PointService pointService;
+    private Executor executor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fixture = PointServiceFixture.builder()
+                                     .throttle(true)
+                                     .build()
+                                     .seed(users, 0L, 0);
+        pointService = fixture.pointService();
+        executor = switch (threads) {
+            case PLATFORM -> Executors.newFixedThreadPool(platformThreads);
+            case VIRTUAL -> new VirtualThreadTaskExecutor("serving-");
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        fixture.close();
+    }
+
+    /**
+     * @return 실패한 요청 수
+     */
+    @Benchmark
+    public int chargeAll() throws InterruptedException {
+
+        CountDownLatch done = new CountDownLatch(clients);
+        AtomicInteger failures = new AtomicInteger();
+        for (int i = 0; i < clients; i++) {
+            long userId = 1L + i % users;
+            executor.execute(() -> {
+                try {
+                    pointService.charge(userId, AMOUNT);
+                } catch (RuntimeException e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        return failures.get();
+    }
+}
@@ -0,0 +1,110 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import io.hhplus.tdd.point.service.ShardedPointService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 유저 샤드 수에 따른 충전/사용/조회 처리량 벤치마크
+ *
+ * - shards : 샤드 수, 샤드마다 PointServiceFixture 하나(테이블, 내역 인덱스, 캐시, 락 테이블)를 따로 둡니다.
+ *            1 이면 기존처럼 모든 유저가 같은 테이블과 캐시를 함께 씁니다.
+ * - distribution : UNIFORM 은 여러 유저 부하, SINGLE 은 샤드로 나눌 수 없는 한 유저 경합
+ * - 스레드 수는 -Pjmh.threads=N 으로 지정합니다. (샤드 수만큼의 코어가 있어야 확장성을 볼 수 있습니다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShardedPointServiceBenchmark {
+
+    private static final long INITIAL_POINT = Long.MAX_VALUE / 4;
+    private static final long AMOUNT = 10L;
+
+    @Param({"1", "2", "4", "8"})
+    public int shards;
+
+    @Param({"UNIFORM"})
+    public UserIdDistribution distribution;
+
+    @Param({"10000"})
+    public int userCount;
+
+    @Param({"100000"})
+    public int cacheSize;
+
+    @Param({"10"})
+    public int historyPerUser;
+
+    private final List<PointServiceFixture> fixtures = new ArrayList<>();
+    private PointService pointService;
+    private ZipfianGenerator zipfian;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<PointServiceImpl> services = new ArrayList<>();
+        for (int i = 0; i < shards; i++) {
+            // 다른 샤드의 유저도 함께 적재되지만 라우터가 보내지 않으므로 조회되지 않습니다.
+            PointServiceFixture fixture = PointServiceFixture.builder()
+                                                             .throttle(false)
+                                                             .cacheSize(Math.max(1, cacheSize / shards))
+                                                             .build()
+                                                             .seed(userCount, INITIAL_POINT, historyPerUser);
+            fixtures.add(fixture);
+            services.add(fixture.pointService());
+        }
+        pointService = new ShardedPointService(services);
+        zipfian = new ZipfianGenerator(userCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        for (PointServiceFixture fixture : fixtures) {
+            fixture.close();
+        }
+        fixtures.clear();
+    }
+
+    @State(Scope.Thread)
+    public static class UserIds {
+
+        private LongSupplier generator;
+        private SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp(ShardedPointServiceBenchmark benchmark) {
+            random = new SplittableRandom(Thread.currentThread().getId());
+            generator = benchmark.distribution.newGenerator(benchmark.userCount, benchmark.zipfian, random);
+        }
+
+        long next() {
+            return generator.getAsLong();
+        }
+    }
+
+    /**
+     * 충전 40%, 사용 40%, 조회 20% 혼합 부하
+     */
+    @Benchmark
+    public void mixed(UserIds ids, Blackhole blackhole) {
+        int dice = ids.random.nextInt(10);
+        long id = ids.next();
+        if (dice < 4) {
+            blackhole.consume(pointService.charge(id, AMOUNT));
+        } else if (dice < 8) {
+            blackhole.consume(pointService.use(id, AMOUNT));
+        } else {
+            blackhole.consume(pointService.selectById(id));
+        }
+    }
+}
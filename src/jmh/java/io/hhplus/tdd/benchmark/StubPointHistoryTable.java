@@ -0,0 +1,62 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 PointHistoryTable
+ * - throttle 스위치로 원본 테이블의 임의 지연(sleep)을 켜고 끌 수 있습니다.
+ * - 원본과 같이 전역 리스트를 순회하여 조회하되, 동시 삽입에 안전하도록 동기화합니다.
+ */
+public class StubPointHistoryTable extends PointHistoryTable {
+
+    private final List<PointHistory> table = new ArrayList<>();
+    private final AtomicLong cursor = new AtomicLong(1);
+    private volatile boolean throttle;
+
+    public StubPointHistoryTable(boolean throttle) {
+        this.throttle = throttle;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        throttle(300L);
+        PointHistory pointHistory = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+        synchronized (table) {
+            table.add(pointHistory);
+        }
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        synchronized (table) {
+            return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+        }
+    }
+
+    /**
+     * 임의 지연을 켜거나 끕니다. (데이터 적재 중에는 끕니다)
+     */
+    public void throttle(boolean throttle) {
+        this.throttle = throttle;
+    }
+
+    private void throttle(long millis) {
+        if (!throttle) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
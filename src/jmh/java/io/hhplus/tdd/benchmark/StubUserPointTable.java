@@ -0,0 +1,56 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 벤치마크용 UserPointTable
+ * - throttle 스위치로 원본 테이블의 임의 지연(sleep)을 켜고 끌 수 있습니다.
+ * - 멀티 유저 동시 쓰기에서도 안전하도록 ConcurrentHashMap 을 사용합니다.
+ */
+public class StubUserPointTable extends UserPointTable {
+
+    private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+    private final boolean throttle;
+
+    public StubUserPointTable(boolean throttle) {
+        this.throttle = throttle;
+    }
+
+    @Override
+    public UserPoint selectById(Long id) {
+        throttle(200);
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        throttle(300);
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+
+    /**
+     * 지연 없이 초기 잔액을 적재합니다.
+     */
+    public void seed(long id, long amount) {
+        table.put(id, new UserPoint(id, amount, System.currentTimeMillis()));
+    }
+
+    private void throttle(long millis) {
+        if (!throttle) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
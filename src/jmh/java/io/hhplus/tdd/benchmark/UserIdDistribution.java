@@ -0,0 +1,29 @@
+package io.hhplus.tdd.benchmark;
+
+import java.util.SplittableRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * 벤치마크 요청이 사용할 유저 아이디 분포
+ * - SINGLE : 모든 요청이 한 명의 유저에 몰리는 경우 (최대 경합)
+ * - UNIFORM : 전체 유저에 고르게 분산되는 경우
+ * - ZIPFIAN : 소수의 핫 유저에 요청이 몰리는 경우
+ */
+public enum UserIdDistribution {
+
+    SINGLE,
+    UNIFORM,
+    ZIPFIAN;
+
+    /**
+     * 1 ~ userCount 범위의 유저 아이디를 뽑는 생성기를 만듭니다.
+     * zipfian 은 초기화 비용이 크므로 미리 만들어 둔 것을 공유합니다.
+     */
+    public LongSupplier newGenerator(long userCount, ZipfianGenerator zipfian, SplittableRandom random) {
+        return switch (this) {
+            case SINGLE -> () -> 1L;
+            case UNIFORM -> () -> 1L + random.nextLong(userCount);
+            case ZIPFIAN -> () -> 1L + zipfian.next(random);
+        };
+    }
+}
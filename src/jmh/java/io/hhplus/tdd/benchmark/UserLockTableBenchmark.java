@@ -0,0 +1,82 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.lock.UserLockMode;
+import io.hhplus.tdd.point.lock.UserLockTable;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.LongSupplier;
+
+/**
+ * 유저 락 테이블의 획득/해제 경합 벤치마크 (1M 유저)
+ * - LEGACY : 기존 ConcurrentHashMap&lt;String, Lock&gt; 방식
+ * - STRIPED, RECLAIMABLE : UserLockMode
+ * 할당량은 -prof gc 로 함께 확인합니다. 점유 메모리는 UserLockTableFootprint 로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UserLockTableBenchmark {
+
+    @Param({"LEGACY", "STRIPED", "RECLAIMABLE"})
+    public String mode;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    public UserIdDistribution distribution;
+
+    @Param({"1000000"})
+    public int userCount;
+
+    /**
+     * 락을 쥐고 있는 동안 소모할 CPU 토큰 수
+     */
+    @Param({"64"})
+    public int holdTokens;
+
+    private UserLockTable userLockTable;
+    private ZipfianGenerator zipfian;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userLockTable = "LEGACY".equals(mode)
+                ? new LegacyUserLockTable()
+                : PointServiceFixture.userLockTable(UserLockMode.valueOf(mode));
+        zipfian = new ZipfianGenerator(userCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println("\n[" + mode + "] lock table size = " + userLockTable.size());
+    }
+
+    @State(Scope.Thread)
+    public static class UserIds {
+
+        private LongSupplier generator;
+
+        @Setup(Level.Trial)
+        public void setUp(UserLockTableBenchmark benchmark) {
+            SplittableRandom random = new SplittableRandom(Thread.currentThread().getId());
+            generator = benchmark.distribution.newGenerator(benchmark.userCount, benchmark.zipfian, random);
+        }
+    }
+
+    @Benchmark
+    public void lockAndRelease(UserIds ids) {
+        long userId = ids.generator.getAsLong();
+        Lock lock = userLockTable.lockOf(userId);
+        lock.lock();
+        try {
+            Blackhole.consumeCPU(holdTokens);
+        } finally {
+            lock.unlock();
+            userLockTable.release(userId, lock);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.lock.UserLockMode;
+import io.hhplus.tdd.point.lock.UserLockTable;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 서로 다른 유저 N 명이 한 번씩 락을 쓴 뒤 테이블이 붙잡고 있는 힙 크기를 측정합니다.
+ *
+ * java -Xmx4g -cp build/libs/hhplus-tdd-jvm-jmh.jar io.hhplus.tdd.benchmark.UserLockTableFootprint 1000000
+ */
+public final class UserLockTableFootprint {
+
+    public static void main(String[] args) {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        for (String mode : new String[]{"LEGACY", "STRIPED", "RECLAIMABLE"}) {
+            long before = usedHeap();
+            UserLockTable userLockTable = "LEGACY".equals(mode)
+                    ? new LegacyUserLockTable()
+                    : PointServiceFixture.userLockTable(UserLockMode.valueOf(mode));
+            long start = System.nanoTime();
+            for (long userId = 1; userId <= userCount; userId++) {
+                Lock lock = userLockTable.lockOf(userId);
+                lock.lock();
+                lock.unlock();
+                userLockTable.release(userId, lock);
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            long retained = usedHeap() - before;
+            System.out.printf("%-12s users=%,d locks=%,d retained=%,d bytes (%.1f bytes/user) elapsed=%,d ms%n",
+                    mode, userCount, userLockTable.size(), retained, (double) retained / userCount, elapsedMillis);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,55 @@
+package io.hhplus.tdd.benchmark;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+
+import java.lang.ref.Reference;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서로 다른 유저 N 명의 잔액을 기록한 뒤 저장소가 붙잡고 있는 힙 크기와, 전체 GC 한 번에 걸리는 시간을 측정합니다.
+ * HASH_MAP 은 UserPointTable 과 같은 HashMap&lt;Long, UserPoint&gt; 입니다.
+ *
+ * java -Xmx16g -cp build/libs/hhplus-tdd-jvm-jmh.jar io.hhplus.tdd.benchmark.UserPointStoreFootprint 10000000
+ */
+public final class UserPointStoreFootprint {
+
+    public static void main(String[] args) {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        for (String store : new String[]{"HASH_MAP", "PRIMITIVE"}) {
+            long before = usedHeap();
+            long start = System.nanoTime();
+            Object retainedStore;
+            if ("HASH_MAP".equals(store)) {
+                Map<Long, UserPoint> table = new HashMap<>();
+                for (long userId = 1; userId <= userCount; userId++) {
+                    table.put(userId, new UserPoint(userId, userId, System.currentTimeMillis()));
+                }
+                retainedStore = table;
+            } else {
+                PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(256, 0);
+                for (long userId = 1; userId <= userCount; userId++) {
+                    repository.insertOrUpdate(userId, userId);
+                }
+                retainedStore = repository;
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            long gcStart = System.nanoTime();
+            System.gc();
+            long gcMillis = (System.nanoTime() - gcStart) / 1_000_000;
+            long retained = usedHeap() - before;
+            System.out.printf("%-10s users=%,d retained=%,d bytes (%.1f bytes/user) fill=%,d ms full-gc=%,d ms%n",
+                    store, userCount, retained, (double) retained / userCount, elapsedMillis, gcMillis);
+            Reference.reachabilityFence(retainedStore);
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
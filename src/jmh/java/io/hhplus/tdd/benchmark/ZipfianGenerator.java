@@ -0,0 +1,54 @@
+package io.hhplus.tdd.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zipfian 분포 난수 생성기 (Gray et al. "Quickly Generating Billion-Record Synthetic Databases")
+ * - 0 ~ items-1 범위에서 작은 값일수록 자주 뽑힙니다.
+ * - 상태가 불변이므로 여러 스레드가 공유하고, 난수원만 스레드별로 넘겨 받습니다.
+ */
+public final class ZipfianGenerator {
+
+    public static final double DEFAULT_THETA = 0.99;
+
+    private final long items;
+    private final double theta;
+    private final double alpha;
+    private final double zetan;
+    private final double eta;
+
+    public ZipfianGenerator(long items) {
+        this(items, DEFAULT_THETA);
+    }
+
+    public ZipfianGenerator(long items, double theta) {
+        if (items < 2) {
+            throw new IllegalArgumentException("items 는 2 이상이어야 합니다. items: " + items);
+        }
+        this.items = items;
+        this.theta = theta;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.zetan = zeta(items, theta);
+        this.eta = (1 - Math.pow(2.0 / items, 1 - theta)) / (1 - zeta(2, theta) / zetan);
+    }
+
+    public long next(SplittableRandom random) {
+        double u = random.nextDouble();
+        double uz = u * zetan;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return 1;
+        }
+        return Math.min(items - 1, (long) (items * Math.pow(eta * u - eta + 1, alpha)));
+    }
+
+    private static double zeta(long n, double theta) {
+        double sum = 0;
+        for (long i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
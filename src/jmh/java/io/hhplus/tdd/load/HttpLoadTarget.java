@@ -0,0 +1,53 @@
+package io.hhplus.tdd.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 실행 중인 서버의 /point API 를 호출합니다. 2xx 가 아닌 응답과 연결 오류는 실패로 셉니다.
+ */
+public class HttpLoadTarget implements LoadTarget {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    public HttpLoadTarget(LoadOptions options) {
+        this.httpClient = HttpClient.newBuilder()
+                                    .connectTimeout(TIMEOUT)
+                                    .build();
+        this.baseUrl = options.baseUrl().endsWith("/") ? options.baseUrl().substring(0, options.baseUrl().length() - 1) : options.baseUrl();
+    }
+
+    @Override
+    public boolean execute(LoadOperation operation, long userId, long amount) {
+
+        HttpRequest request = switch (operation) {
+            case CHARGE -> patch(userId + "/charge", amount);
+            case USE -> patch(userId + "/use", amount);
+            case READ -> HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + userId)).timeout(TIMEOUT).GET().build();
+        };
+        try {
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private HttpRequest patch(String path, long amount) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + path))
+                          .timeout(TIMEOUT)
+                          .header("Content-Type", "application/json")
+                          .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                          .build();
+    }
+}
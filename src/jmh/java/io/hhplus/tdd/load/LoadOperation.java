@@ -0,0 +1,11 @@
+package io.hhplus.tdd.load;
+
+/**
+ * 부하 요청 종류
+ */
+public enum LoadOperation {
+
+    CHARGE,
+    USE,
+    READ
+}
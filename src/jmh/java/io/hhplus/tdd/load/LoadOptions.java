@@ -0,0 +1,115 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.benchmark.UserIdDistribution;
+import io.hhplus.tdd.point.engine.PointEngineMode;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 설정 (key=value 인자, Gradle 에서는 -Pload.key=value)
+ *
+ * @param target       SERVICE (같은 JVM 의 PointService) | HTTP (실행 중인 서버)
+ * @param baseUrl      HTTP 대상 서버 주소
+ * @param users        요청이 나뉘는 유저 수 (1 ~ users)
+ * @param distribution 유저 아이디 분포 (SINGLE, UNIFORM, ZIPFIAN)
+ * @param mix          충전:사용:조회 비율
+ * @param rate         초당 요청 수 (open loop, 0 이면 각 작업 스레드가 응답을 받자마자 다음 요청을 보내는 closed loop)
+ * @param workers      요청을 보내는 스레드 수
+ * @param warmup       결과에서 제외할 시작 구간
+ * @param duration     측정 구간
+ * @param amount       충전/사용 금액
+ * @param initialPoint SERVICE 대상의 유저별 초기 잔액
+ * @param throttle     SERVICE 대상 테이블의 임의 지연 사용 여부
+ * @param engine       SERVICE 대상의 실행 방식
+ * @param groupCommit  SERVICE 대상의 그룹 커밋 사용 여부
+ * @param output       퍼센타일 분포(.hgrm) 파일을 남길 디렉터리 (비우면 남기지 않습니다)
+ */
+public record LoadOptions(
+        Target target,
+        String baseUrl,
+        int users,
+        UserIdDistribution distribution,
+        int[] mix,
+        double rate,
+        int workers,
+        Duration warmup,
+        Duration duration,
+        long amount,
+        long initialPoint,
+        boolean throttle,
+        PointEngineMode engine,
+        boolean groupCommit,
+        Path output
+) {
+
+    public enum Target {
+        SERVICE,
+        HTTP
+    }
+
+    public static LoadOptions parse(String... args) {
+
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("key=value 형식이어야 합니다. " + arg);
+            }
+            values.put(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+        }
+        LoadOptions options = new LoadOptions(
+                Target.valueOf(values.getOrDefault("target", "SERVICE").toUpperCase(Locale.ROOT)),
+                values.getOrDefault("baseUrl", "http://localhost:8080"),
+                Integer.parseInt(values.getOrDefault("users", "10000")),
+                UserIdDistribution.valueOf(values.getOrDefault("distribution", "UNIFORM").toUpperCase(Locale.ROOT)),
+                parseMix(values.getOrDefault("mix", "40:40:20")),
+                Double.parseDouble(values.getOrDefault("rate", "1000")),
+                Integer.parseInt(values.getOrDefault("workers", "64")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "5s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "30s")),
+                Long.parseLong(values.getOrDefault("amount", "10")),
+                Long.parseLong(values.getOrDefault("initialPoint", "1000000000")),
+                Boolean.parseBoolean(values.getOrDefault("throttle", "true")),
+                PointEngineMode.valueOf(values.getOrDefault("engine", "LOCK").toUpperCase(Locale.ROOT)),
+                Boolean.parseBoolean(values.getOrDefault("groupCommit", "false")),
+                values.getOrDefault("output", "build/load").isEmpty() ? null : Path.of(values.getOrDefault("output", "build/load"))
+        );
+        if (options.users <= 0 || options.workers <= 0 || options.rate < 0 || options.duration.isZero()) {
+            throw new IllegalArgumentException("users, workers, duration 은 0 보다 크고 rate 는 0 이상이어야 합니다.");
+        }
+        return options;
+    }
+
+    /**
+     * 충전:사용:조회 비율 (예: 40:40:20)
+     */
+    private static int[] parseMix(String mix) {
+
+        String[] parts = mix.split(":");
+        if (parts.length != LoadOperation.values().length) {
+            throw new IllegalArgumentException("mix 는 충전:사용:조회 비율이어야 합니다. " + mix);
+        }
+        int[] weights = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            weights[i] = Integer.parseInt(parts[i].trim());
+        }
+        return weights;
+    }
+
+    public boolean openLoop() {
+        return rate > 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("target=%s%s users=%d distribution=%s mix=%d:%d:%d rate=%s workers=%d warmup=%s duration=%s",
+                target, target == Target.HTTP ? "(" + baseUrl + ")" : "(throttle=" + throttle + ", engine=" + engine + ", groupCommit=" + groupCommit + ")",
+                users, distribution, mix[0], mix[1], mix[2], openLoop() ? String.format("%.0f/s", rate) : "closed-loop",
+                workers, warmup, duration);
+    }
+}
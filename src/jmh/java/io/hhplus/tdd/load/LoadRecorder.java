@@ -0,0 +1,69 @@
+package io.hhplus.tdd.load;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 작업 스레드 하나가 요청 종류별로 기록하는 지연 히스토그램 (나노초)
+ *
+ * - response : 요청을 보냈어야 하는 시각(open loop 의 예정 시각)부터 응답까지. 앞선 요청이 밀려 늦게 보낸 시간도 포함하므로
+ *              coordinated omission 이 보정된 값입니다.
+ * - service : 실제로 요청을 보낸 시각부터 응답까지
+ *
+ * 스레드마다 따로 기록하고 측정이 끝난 뒤 합칩니다.
+ */
+public class LoadRecorder {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Histogram[] response = new Histogram[LoadOperation.values().length];
+    private final Histogram[] service = new Histogram[LoadOperation.values().length];
+    private final long[] errors = new long[LoadOperation.values().length];
+    private long lastReceivedNanos = Long.MIN_VALUE;
+
+    public LoadRecorder() {
+        for (int i = 0; i < response.length; i++) {
+            response[i] = new Histogram(SIGNIFICANT_DIGITS);
+            service[i] = new Histogram(SIGNIFICANT_DIGITS);
+        }
+    }
+
+    public void record(LoadOperation operation, long receivedNanos, long responseNanos, long serviceNanos, boolean success) {
+
+        int index = operation.ordinal();
+        lastReceivedNanos = Math.max(lastReceivedNanos, receivedNanos);
+        response[index].recordValue(responseNanos);
+        service[index].recordValue(serviceNanos);
+        if (!success) {
+            errors[index]++;
+        }
+    }
+
+    public void add(LoadRecorder other) {
+
+        for (int i = 0; i < response.length; i++) {
+            response[i].add(other.response[i]);
+            service[i].add(other.service[i]);
+            errors[i] += other.errors[i];
+        }
+        lastReceivedNanos = Math.max(lastReceivedNanos, other.lastReceivedNanos);
+    }
+
+    /**
+     * 마지막 응답을 받은 시각 (System.nanoTime)
+     */
+    public long lastReceivedNanos() {
+        return lastReceivedNanos;
+    }
+
+    public Histogram response(LoadOperation operation) {
+        return response[operation.ordinal()];
+    }
+
+    public Histogram service(LoadOperation operation) {
+        return service[operation.ordinal()];
+    }
+
+    public long errors(LoadOperation operation) {
+        return errors[operation.ordinal()];
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.load;
+
+/**
+ * 부하를 받을 대상 (PointService 를 직접 호출하거나 HTTP API 를 호출합니다)
+ */
+public interface LoadTarget extends AutoCloseable {
+
+    /**
+     * 요청 하나를 실행하고 성공 여부를 반환합니다.
+     */
+    boolean execute(LoadOperation operation, long userId, long amount);
+
+    @Override
+    default void close() throws Exception {
+    }
+}
@@ -0,0 +1,216 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.benchmark.UserIdDistribution;
+import io.hhplus.tdd.benchmark.ZipfianGenerator;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * PointService 또는 HTTP API 에 부하를 주고 요청 종류별 처리량과 지연 분포를 출력합니다.
+ *
+ * - open loop (rate > 0) : 요청 n 의 예정 시각을 시작 + n / rate 로 정해 두고, 작업 스레드가 순서대로 가져가 그 시각에 보냅니다.
+ *   대상이 느려 예정 시각보다 늦게 보내더라도 지연은 예정 시각부터 재므로 coordinated omission 이 보정됩니다.
+ *   측정 구간에 예정된 요청은 구간이 끝난 뒤에도 모두 보냅니다.
+ * - closed loop (rate = 0) : 작업 스레드가 응답을 받자마자 다음 요청을 보냅니다. 최대 처리량 확인용입니다.
+ *
+ * ex) ./gradlew loadTest -Pload.users=10000 -Pload.distribution=ZIPFIAN -Pload.rate=2000 -Pload.duration=60s
+ */
+public final class PointLoadHarness {
+
+    private static final long START_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final LoadOptions options;
+    private final LoadTarget target;
+    private final ZipfianGenerator zipfian;
+    private final AtomicLong tickets = new AtomicLong();
+
+    private long startNanos;
+    private long measureFromNanos;
+    private long measureToNanos;
+
+    private PointLoadHarness(LoadOptions options, LoadTarget target) {
+        this.options = options;
+        this.target = target;
+        this.zipfian = options.distribution() == UserIdDistribution.ZIPFIAN
+                ? new ZipfianGenerator(options.users())
+                : null;
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        LoadOptions options = LoadOptions.parse(args);
+        System.out.println("load: " + options);
+        try (LoadTarget target = options.target() == LoadOptions.Target.HTTP
+                ? new HttpLoadTarget(options)
+                : new ServiceLoadTarget(options)) {
+            PointLoadHarness harness = new PointLoadHarness(options, target);
+            LoadRecorder result = harness.run();
+            report(options, result, harness.elapsedSeconds(result));
+        }
+        System.exit(0);
+    }
+
+    /**
+     * 작업 스레드를 모두 돌리고 기록을 합칩니다.
+     */
+    LoadRecorder run() {
+
+        startNanos = System.nanoTime() + START_DELAY_NANOS;
+        measureFromNanos = startNanos + options.warmup().toNanos();
+        measureToNanos = measureFromNanos + options.duration().toNanos();
+
+        AtomicInteger sequence = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(options.workers(), runnable -> {
+            Thread thread = new Thread(runnable, "load-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<CompletableFuture<LoadRecorder>> results = new ArrayList<>();
+        for (int i = 0; i < options.workers(); i++) {
+            long seed = i;
+            results.add(CompletableFuture.supplyAsync(() -> work(new SplittableRandom(seed)), workers));
+        }
+        LoadRecorder merged = new LoadRecorder();
+        results.forEach(result -> merged.add(result.join()));
+        workers.shutdown();
+        return merged;
+    }
+
+    /**
+     * 측정 구간 시작부터 마지막 응답까지의 시간
+     * 대상이 예정 속도를 따라가지 못하면 측정 구간보다 길어지므로, 처리량은 보낸 속도가 아니라 실제로 처리한 속도가 됩니다.
+     */
+    double elapsedSeconds(LoadRecorder result) {
+        return (Math.max(measureToNanos, result.lastReceivedNanos()) - measureFromNanos) / 1e9;
+    }
+
+    private LoadRecorder work(SplittableRandom random) {
+
+        LoadRecorder recorder = new LoadRecorder();
+        LongSupplier userIds = options.distribution().newGenerator(options.users(), zipfian, random);
+        int[] mix = options.mix();
+        int totalWeight = mix[0] + mix[1] + mix[2];
+        double intervalNanos = options.openLoop() ? 1e9 / options.rate() : 0;
+
+        while (true) {
+            long intended;
+            if (options.openLoop()) {
+                intended = startNanos + (long) (tickets.getAndIncrement() * intervalNanos);
+                if (intended >= measureToNanos) {
+                    return recorder;
+                }
+                parkUntil(intended);
+            } else {
+                intended = Math.max(System.nanoTime(), startNanos);
+                parkUntil(intended);
+                if (intended >= measureToNanos) {
+                    return recorder;
+                }
+            }
+            LoadOperation operation = pick(mix, totalWeight, random);
+            long userId = userIds.getAsLong();
+
+            long sent = System.nanoTime();
+            boolean success = target.execute(operation, userId, options.amount());
+            long received = System.nanoTime();
+            if (intended >= measureFromNanos) {
+                recorder.record(operation, received, received - intended, received - sent, success);
+            }
+        }
+    }
+
+    private static LoadOperation pick(int[] mix, int totalWeight, SplittableRandom random) {
+
+        int value = random.nextInt(totalWeight);
+        LoadOperation[] operations = LoadOperation.values();
+        for (int i = 0; i < operations.length; i++) {
+            value -= mix[i];
+            if (value < 0) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static void report(LoadOptions options, LoadRecorder result, double seconds) throws IOException {
+
+        Histogram totalResponse = new Histogram(3);
+        Histogram totalService = new Histogram(3);
+        long totalErrors = 0;
+
+        PrintStream out = System.out;
+        out.printf("%-8s %10s %8s %12s | %-8s %10s %10s %10s %10s%n",
+                "op", "count", "errors", "ops/s", "latency", "p50(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        for (LoadOperation operation : LoadOperation.values()) {
+            Histogram response = result.response(operation);
+            Histogram service = result.service(operation);
+            if (response.getTotalCount() == 0) {
+                continue;
+            }
+            printRows(out, operation.name(), response, service, result.errors(operation), seconds);
+            totalResponse.add(response);
+            totalService.add(service);
+            totalErrors += result.errors(operation);
+            write(options, operation.name(), response, service);
+        }
+        printRows(out, "TOTAL", totalResponse, totalService, totalErrors, seconds);
+        out.printf(Locale.ROOT, "elapsed %.1fs (measured %ss)%n", seconds, options.duration().toSeconds());
+        write(options, "total", totalResponse, totalService);
+    }
+
+    private static void printRows(PrintStream out, String name, Histogram response, Histogram service, long errors, double seconds) {
+
+        out.printf(Locale.ROOT, "%-8s %10d %8d %12.1f | %-8s %10.2f %10.2f %10.2f %10.2f%n",
+                name, response.getTotalCount(), errors, response.getTotalCount() / seconds, "response",
+                millis(response, 50), millis(response, 99), millis(response, 99.9), response.getMaxValue() / NANOS_PER_MILLI);
+        out.printf(Locale.ROOT, "%-8s %10s %8s %12s | %-8s %10.2f %10.2f %10.2f %10.2f%n",
+                "", "", "", "", "service",
+                millis(service, 50), millis(service, 99), millis(service, 99.9), service.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    /**
+     * HdrHistogram 퍼센타일 분포 파일(.hgrm, 밀리초)을 남깁니다. HdrHistogram plotter 로 그래프를 그릴 수 있습니다.
+     */
+    private static void write(LoadOptions options, String name, Histogram response, Histogram service) throws IOException {
+
+        if (options.output() == null) {
+            return;
+        }
+        Files.createDirectories(options.output());
+        String prefix = name.toLowerCase(Locale.ROOT);
+        try (PrintStream file = new PrintStream(Files.newOutputStream(options.output().resolve(prefix + "-response.hgrm")))) {
+            response.outputPercentileDistribution(file, NANOS_PER_MILLI);
+        }
+        try (PrintStream file = new PrintStream(Files.newOutputStream(options.output().resolve(prefix + "-service.hgrm")))) {
+            service.outputPercentileDistribution(file, NANOS_PER_MILLI);
+        }
+    }
+}
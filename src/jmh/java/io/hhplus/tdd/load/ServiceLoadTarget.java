@@ -0,0 +1,44 @@
+package io.hhplus.tdd.load;
+
+import io.hhplus.tdd.benchmark.PointServiceFixture;
+import io.hhplus.tdd.point.service.PointService;
+
+/**
+ * 벤치마크와 같은 방식으로 조립한 PointService 를 같은 JVM 에서 직접 호출합니다.
+ * 잔액 부족 등으로 던진 예외는 실패로 셉니다.
+ */
+public class ServiceLoadTarget implements LoadTarget {
+
+    private final PointServiceFixture fixture;
+    private final PointService pointService;
+
+    public ServiceLoadTarget(LoadOptions options) {
+        this.fixture = PointServiceFixture.builder()
+                                          .throttle(options.throttle())
+                                          .engine(options.engine(), 0)
+                                          .groupCommit(options.groupCommit())
+                                          .build()
+                                          .seed(options.users(), options.initialPoint(), 0);
+        this.pointService = fixture.pointService();
+    }
+
+    @Override
+    public boolean execute(LoadOperation operation, long userId, long amount) {
+
+        try {
+            switch (operation) {
+                case CHARGE -> pointService.charge(userId, amount);
+                case USE -> pointService.use(userId, amount);
+                case READ -> pointService.selectById(userId);
+            }
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        fixture.close();
+    }
+}
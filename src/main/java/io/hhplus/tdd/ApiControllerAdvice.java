@@ -1,12 +1,81 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.PointRequestRejectedException;
+import io.hhplus.tdd.point.cluster.CrossNodeTransferException;
+import io.hhplus.tdd.point.cluster.PointForwardingException;
+import io.hhplus.tdd.point.constant.ErrorMessage;
+import io.hhplus.tdd.point.idempotency.IdempotencyKeyConflictException;
+import io.hhplus.tdd.point.lock.UserLockBusyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+
+    /**
+     * 유저 락을 기다리지 못한 요청은 다시 시도할 수 있도록 알립니다.
+     * 대기 요청이 가득 차면 429, 기다리다 시간을 넘기면 503 으로 응답합니다.
+     */
+    @ExceptionHandler(value = UserLockBusyException.class)
+    public ResponseEntity<ErrorResponse> handleUserLockBusy(UserLockBusyException e) {
+        HttpStatus status = e.reason() == ErrorMessage.TOO_MANY_WAITERS ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status)
+                             .header(HttpHeaders.RETRY_AFTER, "1")
+                             .body(new ErrorResponse(String.valueOf(status.value()), e.getMessage()));
+    }
+
+    /**
+     * 다른 노드가 맡은 유저의 요청을 전달하지 못하면 다시 시도할 수 있도록 503 으로 응답합니다.
+     */
+    @ExceptionHandler(value = PointForwardingException.class)
+    public ResponseEntity<ErrorResponse> handlePointForwarding(PointForwardingException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .header(HttpHeaders.RETRY_AFTER, "1")
+                             .body(new ErrorResponse("503", e.getMessage()));
+    }
+
+    /**
+     * 비동기 요청을 맡을 스레드의 대기열이 가득 차면 503 으로 응답합니다.
+     */
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecution(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .header(HttpHeaders.RETRY_AFTER, "1")
+                             .body(new ErrorResponse("503", "요청이 밀려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요."));
+    }
+
+    /**
+     * 다른 노드로 넘긴 유저나 처리 중인 멱등 키가 가득 찬 경우처럼 이유가 있는 거절은 그 이유를 503 으로 알립니다.
+     */
+    @ExceptionHandler(value = PointRequestRejectedException.class)
+    public ResponseEntity<ErrorResponse> handlePointRequestRejected(PointRequestRejectedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                             .header(HttpHeaders.RETRY_AFTER, "1")
+                             .body(new ErrorResponse("503", e.getMessage()));
+    }
+
+    /**
+     * 이미 사용한 멱등 키를 다른 요청에 다시 쓰면 409 로 응답합니다.
+     */
+    @ExceptionHandler(value = IdempotencyKeyConflictException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyConflict(IdempotencyKeyConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResponse("409", e.getMessage()));
+    }
+
+    /**
+     * 다른 노드가 맡은 유저에게 보내는 송금은 다시 시도해도 처리할 수 없으므로 422 로 응답합니다.
+     */
+    @ExceptionHandler(value = CrossNodeTransferException.class)
+    public ResponseEntity<ErrorResponse> handleCrossNodeTransfer(CrossNodeTransferException e) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(new ErrorResponse("422", e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 노드 목록이 바뀌어 다른 노드로 옮겨 가는 유저의 잔액과 내역
+ *
+ * @param userId    유저 id
+ * @param point     넘기는 시점의 잔액
+ * @param histories 넘기는 시점까지의 내역 (기록 순서)
+ */
+public record PointHandoff(
+        long userId,
+        long point,
+        List<PointHistory> histories
+) {
+
+    public static PointHandoff empty(long userId) {
+        return new PointHandoff(userId, 0, List.of());
+    }
+}
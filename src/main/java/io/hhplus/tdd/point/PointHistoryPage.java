@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 한 페이지
+ *
+ * @param histories 조회된 내역 (id 오름차순)
+ * @param nextAfter 다음 페이지 조회에 사용할 커서, 더 이상 내역이 없으면 null
+ */
+public record PointHistoryPage(
+        List<PointHistory> histories,
+        Long nextAfter
+) {
+
+    public static PointHistoryPage empty() {
+        return new PointHistoryPage(List.of(), null);
+    }
+
+    public boolean hasNext() {
+        return nextAfter != null;
+    }
+}
@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 내역 페이지 조회 조건
+ *
+ * @param after      이 id 보다 뒤의 내역부터 조회합니다. (처음이면 0)
+ * @param fromMillis updateMillis 하한 (포함)
+ * @param toMillis   updateMillis 상한 (미포함)
+ * @param limit      한 페이지의 최대 내역 수
+ */
+public record PointHistoryQuery(
+        long after,
+        long fromMillis,
+        long toMillis,
+        int limit
+) {
+
+    /**
+     * 한 페이지의 최대 크기
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    public static PointHistoryQuery of(Long after, Long fromMillis, Long toMillis, int limit) {
+        return new PointHistoryQuery(
+                after == null ? 0L : after,
+                fromMillis == null ? Long.MIN_VALUE : fromMillis,
+                toMillis == null ? Long.MAX_VALUE : toMillis,
+                limit);
+    }
+
+    public PointHistoryQuery next(long after) {
+        return new PointHistoryQuery(after, fromMillis, toMillis, limit);
+    }
+
+    public boolean matches(PointHistory pointHistory) {
+        return matches(pointHistory.id(), pointHistory.updateMillis());
+    }
+
+    public boolean matches(long id, long updateMillis) {
+        return id > after
+                && updateMillis >= fromMillis
+                && updateMillis < toMillis;
+    }
+}
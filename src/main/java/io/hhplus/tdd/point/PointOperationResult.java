@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전/사용 요청 한 건의 처리 결과
+ * 성공하면 userPoint 에 반영 직후의 잔액이, 실패하면 error 에 사유가 담깁니다.
+ */
+public record PointOperationResult(
+        UserPoint userPoint,
+        String error
+) {
+
+    public static PointOperationResult success(UserPoint userPoint) {
+        return new PointOperationResult(userPoint, null);
+    }
+
+    public static PointOperationResult failure(String error) {
+        return new PointOperationResult(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
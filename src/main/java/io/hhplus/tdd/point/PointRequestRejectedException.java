@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.constant.ErrorMessage;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 다시 시도하면 처리할 수 있지만 지금은 받을 수 없어 거절된 요청
+ * - USER_HANDED_OFF : 다른 노드로 넘긴 유저
+ * - IDEMPOTENCY_KEYS_IN_FLIGHT : 처리 중인 멱등 키가 가득 참
+ */
+public class PointRequestRejectedException extends RejectedExecutionException {
+
+    private final ErrorMessage reason;
+
+    public PointRequestRejectedException(ErrorMessage reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public ErrorMessage reason() {
+        return reason;
+    }
+}
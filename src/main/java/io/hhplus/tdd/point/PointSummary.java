@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 유저의 충전/사용 누적 집계
+ *
+ * @param userId            유저 아이디
+ * @param chargeCount       충전 횟수
+ * @param chargeAmount      충전 금액 합계
+ * @param useCount          사용 횟수
+ * @param useAmount         사용 금액 합계
+ * @param firstUpdateMillis 첫 거래 시각 (거래가 없으면 0)
+ * @param lastUpdateMillis  마지막 거래 시각 (거래가 없으면 0)
+ * @param coveredFromMillis 집계가 포함하는 거래의 시작 시각. 0 이면 모든 거래를 포함합니다.
+ *                          스냅샷으로 복구하면 스냅샷 이후의 거래만 집계되므로 그 첫 거래(없으면 복구) 시각입니다.
+ */
+public record PointSummary(
+        long userId,
+        long chargeCount,
+        long chargeAmount,
+        long useCount,
+        long useAmount,
+        long firstUpdateMillis,
+        long lastUpdateMillis,
+        long coveredFromMillis
+) {
+
+    public PointSummary(long userId, long chargeCount, long chargeAmount, long useCount, long useAmount,
+                        long firstUpdateMillis, long lastUpdateMillis) {
+        this(userId, chargeCount, chargeAmount, useCount, useAmount, firstUpdateMillis, lastUpdateMillis, 0);
+    }
+
+    public static PointSummary empty(long userId) {
+        return new PointSummary(userId, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * 집계가 coveredFromMillis 이후의 거래만 포함함을 표시한 집계를 반환합니다.
+     */
+    public PointSummary coveredFrom(long coveredFromMillis) {
+        return new PointSummary(userId, chargeCount, chargeAmount, useCount, useAmount, firstUpdateMillis, lastUpdateMillis,
+                coveredFromMillis);
+    }
+
+    /**
+     * 거래 한 건을 더한 집계를 반환합니다.
+     */
+    public PointSummary add(TransactionType type, long amount, long updateMillis) {
+
+        long first = chargeCount + useCount == 0 ? updateMillis : Math.min(firstUpdateMillis, updateMillis);
+        long last = Math.max(lastUpdateMillis, updateMillis);
+        if (type == TransactionType.CHARGE) {
+            return new PointSummary(userId, chargeCount + 1, chargeAmount + amount, useCount, useAmount, first, last,
+                    coveredFromMillis);
+        }
+        return new PointSummary(userId, chargeCount, chargeAmount, useCount + 1, useAmount + amount, first, last,
+                coveredFromMillis);
+    }
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 송금 요청 한 건 (보내는 유저는 경로의 id)
+ */
+public record PointTransfer(
+        long toUserId,
+        long amount
+) {
+}
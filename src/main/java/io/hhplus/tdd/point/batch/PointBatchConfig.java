@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.batch;
+
+import io.hhplus.tdd.point.cluster.PointClusterMembership;
+import io.hhplus.tdd.point.cluster.PointHandoffClient;
+import io.hhplus.tdd.point.service.PointService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableConfigurationProperties(PointBatchProperties.class)
+public class PointBatchConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService pointBatchExecutor(PointBatchProperties properties) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "point-batch-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(properties.parallelism(), threadFactory);
+    }
+
+    @Bean
+    public PointBatchService pointBatchService(PointService pointService,
+                                               @Qualifier("pointBatchExecutor") ExecutorService pointBatchExecutor,
+                                               PointBatchProperties properties,
+                                               ObjectProvider<PointClusterMembership> pointClusterMembership,
+                                               ObjectProvider<PointHandoffClient> pointHandoffClient) {
+        return new PointBatchService(pointService, pointBatchExecutor, properties.maxInFlight(), properties.maxOperations(),
+                pointClusterMembership.getIfAvailable(), pointHandoffClient.getIfAvailable());
+    }
+}
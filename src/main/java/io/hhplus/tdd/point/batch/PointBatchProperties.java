@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 대량 충전/사용 설정 (point.batch.*)
+ *
+ * @param parallelism   유저 단위 작업을 동시에 처리할 스레드 수
+ * @param maxInFlight   한 요청에서 동시에 실행 중일 수 있는 유저 작업 수
+ * @param maxOperations 한 요청에 담을 수 있는 최대 요청 건수
+ */
+@ConfigurationProperties(prefix = "point.batch")
+public record PointBatchProperties(
+        @DefaultValue("16") int parallelism,
+        @DefaultValue("1024") int maxInFlight,
+        @DefaultValue("1000000") int maxOperations
+) {
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.batch;
+
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 대량 요청 중 한 건의 처리 결과
+ * index 는 요청 배열에서의 위치이며, 결과는 유저별로 끝나는 대로 흘려보내므로 요청 순서와 다를 수 있습니다.
+ */
+public record PointBatchResult(
+        int index,
+        long userId,
+        TransactionType type,
+        long amount,
+        UserPoint userPoint,
+        String error
+) {
+
+    public static PointBatchResult of(int index, PointOperation operation, PointOperationResult result) {
+        return new PointBatchResult(index, operation.userId(), operation.type(), operation.amount(),
+                result.userPoint(), result.error());
+    }
+}
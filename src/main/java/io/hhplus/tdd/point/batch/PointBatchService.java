@@ -0,0 +1,133 @@
+package io.hhplus.tdd.point.batch;
+
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.cluster.PointClusterMembership;
+import io.hhplus.tdd.point.cluster.PointHandoffClient;
+import io.hhplus.tdd.point.constant.ErrorMessage;
+import io.hhplus.tdd.point.engine.UserTaskExecutor;
+import io.hhplus.tdd.point.service.PointService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * 여러 유저의 충전/사용 요청을 한 번에 처리합니다.
+ * - 요청을 유저별로 묶어 유저 안에서는 요청 순서대로, 유저 사이에서는 병렬로 처리합니다.
+ * - 유저별 처리는 PointService.executeAll 에 맡기므로 유저 락은 유저당 한 번만 잡습니다.
+ * - 결과는 유저 작업이 끝나는 대로 sink 로 전달합니다. sink 는 여러 스레드에서 호출됩니다.
+ * - 여러 노드 구성에서는 이 노드가 맡은 유저만 처리하고, 다른 노드의 유저 요청은 맡은 노드를 알려주며 실패로 돌려줍니다.
+ */
+public class PointBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointBatchService.class);
+
+    private final PointService pointService;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final int maxOperations;
+    private final PointClusterMembership membership;
+    private final PointHandoffClient handoffClient;
+
+    public PointBatchService(PointService pointService, Executor executor, int maxInFlight, int maxOperations) {
+        this(pointService, executor, maxInFlight, maxOperations, null, null);
+    }
+
+    /**
+     * @param membership    여러 노드 구성이 아니면 null
+     * @param handoffClient 여러 노드 구성이 아니면 null
+     */
+    public PointBatchService(PointService pointService, Executor executor, int maxInFlight, int maxOperations,
+                             PointClusterMembership membership, PointHandoffClient handoffClient) {
+        if (maxInFlight <= 0 || maxOperations <= 0) {
+            throw new IllegalArgumentException("동시 실행 수와 최대 요청 수는 1 이상이어야 합니다. maxInFlight: "
+                    + maxInFlight + ", maxOperations: " + maxOperations);
+        }
+        this.pointService = pointService;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.maxOperations = maxOperations;
+        this.membership = membership;
+        this.handoffClient = handoffClient;
+    }
+
+    /**
+     * 요청 수를 검증한 뒤 실행할 일괄 처리를 돌려줍니다.
+     * 스트리밍 응답은 응답을 쓰기 전에 검증이 끝나도록 이 메서드로 먼저 검증합니다.
+     */
+    public PreparedBatch prepare(List<PointOperation> operations) {
+        if (operations.size() > maxOperations) {
+            throw new IllegalArgumentException(ErrorMessage.BATCH_TOO_LARGE.format(operations.size(), maxOperations));
+        }
+        return sink -> run(operations, sink);
+    }
+
+    /**
+     * 요청 수를 검증하고 모든 요청을 처리할 때까지 기다립니다.
+     */
+    public void execute(List<PointOperation> operations, Consumer<PointBatchResult> sink) {
+        prepare(operations).execute(sink);
+    }
+
+    /**
+     * 동시에 제출하는 유저 작업 수를 maxInFlight 로 제한하여 큰 요청이 실행기 대기열을 채우지 않도록 합니다.
+     */
+    private void run(List<PointOperation> operations, Consumer<PointBatchResult> sink) {
+
+        Map<Long, List<Integer>> indexesByUser = new LinkedHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            indexesByUser.computeIfAbsent(operations.get(i).userId(), id -> new ArrayList<>()).add(i);
+        }
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(indexesByUser.size());
+        for (Map.Entry<Long, List<Integer>> entry : indexesByUser.entrySet()) {
+            inFlight.acquireUninterruptibly();
+            futures.add(CompletableFuture.runAsync(() -> executeUser(entry.getKey(), entry.getValue(), operations, sink), executor)
+                                         .whenComplete((ignored, e) -> inFlight.release()));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void executeUser(long userId, List<Integer> indexes, List<PointOperation> operations, Consumer<PointBatchResult> sink) {
+
+        List<PointOperation> userOperations = indexes.stream().map(operations::get).toList();
+        List<PointOperationResult> results;
+        try {
+            if (membership != null && !membership.isLocal(userId)) {
+                String owner = membership.ownerOf(userId);
+                results = Collections.nCopies(userOperations.size(),
+                        PointOperationResult.failure(ErrorMessage.NOT_OWNER_NODE.format(userId, owner)));
+            } else {
+                if (handoffClient != null) {
+                    UserTaskExecutor.await(handoffClient.takeOver(userId));
+                }
+                results = pointService.executeAll(userId, userOperations);
+            }
+        }
+        catch (RuntimeException e) {
+            log.warn("사용자 ID {}의 일괄 처리 중 오류 발생: {}", userId, e.getMessage());
+            results = Collections.nCopies(userOperations.size(), PointOperationResult.failure(e.getMessage()));
+        }
+        for (int i = 0; i < indexes.size(); i++) {
+            sink.accept(PointBatchResult.of(indexes.get(i), userOperations.get(i), results.get(i)));
+        }
+    }
+
+    /**
+     * 검증을 마친 일괄 처리 (결과는 처리되는 대로 sink 로 전달합니다)
+     */
+    public interface PreparedBatch {
+
+        void execute(Consumer<PointBatchResult> sink);
+    }
+}
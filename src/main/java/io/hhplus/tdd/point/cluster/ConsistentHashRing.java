@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 유저 id 를 노드에 배치하는 consistent hash 링
+ *
+ * - 노드마다 virtualNodes 개의 점을 링 위에 두고, 유저 id 의 해시에서 시계 방향으로 처음 만나는 점의 노드가 유저를 맡습니다.
+ * - 노드를 더하거나 빼면 그 노드의 점과 맞닿은 구간의 유저만 옮겨 가고, 나머지 유저의 노드는 바뀌지 않습니다.
+ *   (N 개에서 N + 1 개로 늘리면 약 1 / (N + 1) 의 유저만 새 노드로 옮겨 갑니다)
+ * - 해시는 JVM 과 실행 순서에 상관없이 같은 값을 내므로 같은 노드 목록을 가진 노드끼리는 같은 배치를 계산합니다.
+ * - 점과 노드는 정렬된 배열로 보관하여 조회할 때 이진 탐색만 합니다. (만든 뒤에는 바뀌지 않습니다)
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final String[] owners;
+    private final Set<String> nodes;
+
+    public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+
+        if (nodeIds.isEmpty() || virtualNodes <= 0) {
+            throw new IllegalArgumentException("노드가 하나 이상, 가상 노드 수가 1 이상이어야 합니다. virtualNodes: " + virtualNodes);
+        }
+        this.nodes = Set.copyOf(new LinkedHashSet<>(nodeIds));
+
+        Point[] ring = new Point[nodes.size() * virtualNodes];
+        int index = 0;
+        for (String node : nodes) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring[index++] = new Point(hash(node + "#" + i), node);
+            }
+        }
+        // 해시가 겹치면 노드 id 순서로 정하여 노드마다 같은 링이 되도록 합니다.
+        Arrays.sort(ring, Comparator.comparingLong(Point::hash).thenComparing(Point::node));
+        points = new long[ring.length];
+        owners = new String[ring.length];
+        for (int i = 0; i < ring.length; i++) {
+            points[i] = ring[i].hash();
+            owners[i] = ring[i].node();
+        }
+    }
+
+    /**
+     * 유저를 맡은 노드 id
+     */
+    public String ownerOf(long userId) {
+
+        int index = Arrays.binarySearch(points, mix(userId));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public Set<String> nodes() {
+        return nodes;
+    }
+
+    /**
+     * 문자열의 UTF-8 바이트를 FNV-1a 로 해시한 뒤 비트를 고르게 섞습니다.
+     */
+    static long hash(String value) {
+
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * 64 비트 finalizer (MurmurHash3 fmix64)
+     */
+    static long mix(long value) {
+
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private record Point(long hash, String node) {
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.cluster;
+
+/**
+ * 받는 유저를 다른 노드가 맡아 송금할 수 없음 (노드 사이에는 두 기록을 함께 남기는 방법이 없습니다)
+ */
+public class CrossNodeTransferException extends RuntimeException {
+
+    public CrossNodeTransferException(String message) {
+        super(message);
+    }
+}
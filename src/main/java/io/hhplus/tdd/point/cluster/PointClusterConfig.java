@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.service.PointService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(PointClusterProperties.class)
+public class PointClusterConfig {
+
+    /**
+     * point.cluster.enabled=true : 설정의 노드 목록으로 링을 만듭니다. node-id 가 목록에 없으면 시작하지 않습니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+    public PointClusterMembership pointClusterMembership(PointClusterProperties properties) {
+        return new PointClusterMembership(properties.nodeId(), properties.nodes(), properties.previousNodes(),
+                properties.virtualNodes());
+    }
+
+    /**
+     * point.cluster.previous-nodes 가 있으면 새로 맡은 유저를 처음 처리하기 전에 이전 노드에서 넘겨받습니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+    public PointHandoffClient pointHandoffClient(PointClusterMembership pointClusterMembership, PointService pointService,
+                                                 ObjectMapper objectMapper, PointClusterProperties properties) {
+        return new PointHandoffClient(pointClusterMembership, pointService, objectMapper, properties.forwardTimeout());
+    }
+
+    /**
+     * /point/{id}/**, /async/point/{id}/** 요청 중 다른 노드의 유저 요청을 맡은 노드로 전달합니다.
+     * (여러 유저를 담는 /point/batch 는 PointBatchService 가 이 노드의 유저만 처리합니다)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+    public WebMvcConfigurer pointForwardingConfigurer(PointClusterMembership pointClusterMembership,
+                                                      PointHandoffClient pointHandoffClient,
+                                                      PointClusterProperties properties) {
+        PointForwardingInterceptor interceptor = new PointForwardingInterceptor(pointClusterMembership, pointHandoffClient,
+                properties.forwardTimeout());
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/point/**", "/async/point/**");
+            }
+        };
+    }
+}
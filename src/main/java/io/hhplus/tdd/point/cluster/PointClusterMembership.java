@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point.cluster;
+
+import io.hhplus.tdd.point.constant.ErrorMessage;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 설정으로 정해진 노드 목록과 이 노드의 위치
+ * 외부 조정자 없이 모든 노드가 같은 목록에서 같은 링을 계산하여 유저를 맡은 노드를 정합니다.
+ *
+ * - 바꾸기 전의 노드 목록(previous)이 있으면 그 링도 계산하여, 맡은 노드가 바뀐 유저의 이전 노드를 찾습니다.
+ * - 다른 노드에 넘긴 유저는 링과 상관없이 넘겨받은 노드가 맡은 것으로 봅니다.
+ *   넘겨받을 수 있는 노드는 설정의 nodes 에 있는 다른 노드뿐이며, 주소도 설정의 것만 씁니다.
+ */
+public class PointClusterMembership {
+
+    private final String selfId;
+    private final Map<String, URI> addresses;
+    private final Set<String> nodes;
+    private final ConsistentHashRing ring;
+    private final ConsistentHashRing previousRing;
+    private final Map<Long, String> handedOff = new ConcurrentHashMap<>();
+
+    public PointClusterMembership(String selfId, Map<String, URI> addresses, int virtualNodes) {
+        this(selfId, addresses, Map.of(), virtualNodes);
+    }
+
+    /**
+     * @param previousAddresses 바꾸기 전의 노드 목록 (없으면 빈 맵, 목록에서 빠진 노드도 여기에 있으면 시작할 수 있습니다)
+     */
+    public PointClusterMembership(String selfId, Map<String, URI> addresses, Map<String, URI> previousAddresses,
+                                  int virtualNodes) {
+
+        if (selfId == null || !(addresses.containsKey(selfId) || previousAddresses.containsKey(selfId))) {
+            throw new IllegalArgumentException("point.cluster.node-id 는 point.cluster.nodes 중 하나여야 합니다. node-id: "
+                    + selfId + ", nodes: " + addresses.keySet());
+        }
+        this.selfId = selfId;
+        Map<String, URI> known = new HashMap<>(previousAddresses);
+        known.putAll(addresses);
+        this.addresses = Map.copyOf(known);
+        this.nodes = Set.copyOf(addresses.keySet());
+        this.ring = new ConsistentHashRing(addresses.keySet(), virtualNodes);
+        this.previousRing = previousAddresses.isEmpty() ? null : new ConsistentHashRing(previousAddresses.keySet(), virtualNodes);
+    }
+
+    public String selfId() {
+        return selfId;
+    }
+
+    public String ownerOf(long userId) {
+        String handedOffTo = handedOff.get(userId);
+        return handedOffTo != null ? handedOffTo : ring.ownerOf(userId);
+    }
+
+    public boolean isLocal(long userId) {
+        return selfId.equals(ownerOf(userId));
+    }
+
+    /**
+     * 바꾸기 전의 목록에서 이 유저를 맡았던 노드 (맡은 노드가 바뀌지 않았거나 이전 목록이 없으면 null)
+     */
+    public String previousOwnerOf(long userId) {
+        if (previousRing == null) {
+            return null;
+        }
+        String previous = previousRing.ownerOf(userId);
+        return previous.equals(ring.ownerOf(userId)) ? null : previous;
+    }
+
+    /**
+     * 이후 이 유저는 nodeId 노드가 맡은 것으로 봅니다.
+     * 설정의 nodes 에 없는 노드나 이 노드 자신이면 표시하지 않고 예외를 던집니다.
+     */
+    public void handOff(long userId, String nodeId) {
+        if (nodeId == null || nodeId.equals(selfId) || !nodes.contains(nodeId)) {
+            throw new IllegalArgumentException(ErrorMessage.INVALID_HANDOFF_TARGET.format(userId, nodeId));
+        }
+        handedOff.put(userId, nodeId);
+    }
+
+    public URI addressOf(String nodeId) {
+        return addresses.get(nodeId);
+    }
+}
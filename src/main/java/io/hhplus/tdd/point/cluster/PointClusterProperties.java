@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.cluster;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 여러 노드 구성 설정 (point.cluster.*)
+ *
+ * @param enabled        유저 id 를 노드에 나누어 맡고, 다른 노드의 유저 요청은 그 노드에 전달할지 여부
+ * @param nodeId         이 노드의 id (nodes 의 키 중 하나)
+ * @param nodes          모든 노드의 id 와 주소 (모든 노드가 같은 목록을 가져야 합니다)
+ * @param previousNodes  바꾸기 전의 노드 목록 (새로 맡은 유저를 처음 처리할 때 이전 노드에서 잔액과 내역을 넘겨받습니다)
+ * @param virtualNodes   노드마다 링에 둘 점의 수 (많을수록 고르게 나뉩니다)
+ * @param forwardTimeout 다른 노드에 전달한 요청의 연결/응답 제한 시간, 넘으면 503
+ */
+@ConfigurationProperties(prefix = "point.cluster")
+public record PointClusterProperties(
+        @DefaultValue("false") boolean enabled,
+        String nodeId,
+        Map<String, URI> nodes,
+        Map<String, URI> previousNodes,
+        @DefaultValue("160") int virtualNodes,
+        @DefaultValue("3s") Duration forwardTimeout
+) {
+
+    public Map<String, URI> nodes() {
+        return nodes == null ? Map.of() : nodes;
+    }
+
+    public Map<String, URI> previousNodes() {
+        return previousNodes == null ? Map.of() : previousNodes;
+    }
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.cluster;
+
+import io.hhplus.tdd.point.constant.ErrorMessage;
+
+/**
+ * 다른 노드가 맡은 유저의 요청을 전달하지 못함
+ * - NODE_UNREACHABLE : 맡은 노드에 연결하지 못했거나 제한 시간 안에 응답이 없음
+ * - NODE_ROUTING_MISMATCH : 전달받은 노드도 다른 노드를 맡은 노드로 계산함 (노드 목록을 바꾸는 중)
+ * - HANDOFF_FAILED : 새로 맡은 유저를 이전 노드에서 넘겨받지 못함
+ */
+public class PointForwardingException extends RuntimeException {
+
+    private final ErrorMessage reason;
+
+    public PointForwardingException(ErrorMessage reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public PointForwardingException(ErrorMessage reason, String message, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+    }
+
+    public ErrorMessage reason() {
+        return reason;
+    }
+}
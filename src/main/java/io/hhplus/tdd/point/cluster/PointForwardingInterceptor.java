@@ -0,0 +1,213 @@
+package io.hhplus.tdd.point.cluster;
+
+import io.hhplus.tdd.point.constant.ErrorMessage;
+import io.hhplus.tdd.point.engine.UserTaskExecutor;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 경로에 유저 id({id})가 있는 요청 중 다른 노드가 맡은 유저의 요청을 그 노드의 같은 경로로 전달하고,
+ * 받은 응답(상태, 본문)을 그대로 돌려줍니다. 이 노드가 맡은 유저면 컨트롤러가 그대로 처리합니다.
+ *
+ * - 전달한 요청에는 FORWARDED_FROM_HEADER 를 붙여 한 번만 전달되게 합니다. 전달받은 노드가 또 다른 노드를
+ *   맡은 노드로 계산하면(노드 목록을 바꾸는 중 서로 다른 목록을 가진 경우) 다시 전달하지 않고 503 으로 거절합니다.
+ * - 본문은 스트림 그대로 옮기므로 NDJSON 스트리밍 조회도 받는 대로 내려보냅니다.
+ * - CompletableFuture 를 반환하는 비동기 API(/async/point/**)는 서블릿 비동기 처리로 요청 스레드를 바로 돌려주고
+ *   HttpClient.sendAsync 의 응답이 오면 응답합니다. 전달하지 못하면 같은 요청을 다시 디스패치하여 예외로 응답합니다.
+ * - 이 노드가 맡은 유저면 PointHandoffClient 로 이전 노드에서 먼저 넘겨받습니다. (옮겨 온 유저를 처음 처리할 때 한 번)
+ */
+public class PointForwardingInterceptor implements HandlerInterceptor {
+
+    public static final String FORWARDED_FROM_HEADER = "X-Point-Forwarded-From";
+
+    private static final Logger log = LoggerFactory.getLogger(PointForwardingInterceptor.class);
+    private static final List<String> REQUEST_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.ACCEPT, "Idempotency-Key");
+    private static final List<String> RESPONSE_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.RETRY_AFTER);
+    private static final String FAILURE_ATTRIBUTE = PointForwardingInterceptor.class.getName() + ".failure";
+
+    private final PointClusterMembership membership;
+    private final PointHandoffClient handoffClient;
+    private final HttpClient httpClient;
+    private final Duration timeout;
+
+    public PointForwardingInterceptor(PointClusterMembership membership, PointHandoffClient handoffClient, Duration timeout) {
+        this(membership, handoffClient, HttpClient.newBuilder().connectTimeout(timeout).build(), timeout);
+    }
+
+    public PointForwardingInterceptor(PointClusterMembership membership, PointHandoffClient handoffClient,
+                                      HttpClient httpClient, Duration timeout) {
+        this.membership = membership;
+        this.handoffClient = handoffClient;
+        this.httpClient = httpClient;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+
+        // 비동기로 전달하거나 넘겨받다 실패하여 다시 디스패치된 요청
+        if (request.getAttribute(FAILURE_ATTRIBUTE) instanceof RuntimeException failure) {
+            throw failure;
+        }
+        Long userId = userIdOf(request);
+        if (userId == null) {
+            return true;
+        }
+        if (membership.isLocal(userId)) {
+            return takeOver(request, handler, userId);
+        }
+        String owner = membership.ownerOf(userId);
+        String forwardedFrom = request.getHeader(FORWARDED_FROM_HEADER);
+        if (forwardedFrom != null) {
+            log.warn("{} 에서 전달받은 사용자 {} 의 요청을 {} 가 맡은 것으로 계산했습니다.", forwardedFrom, userId, owner);
+            throw new PointForwardingException(ErrorMessage.NODE_ROUTING_MISMATCH, ErrorMessage.NODE_ROUTING_MISMATCH.format(userId, owner));
+        }
+
+        HttpRequest forwardRequest = forwardRequest(request, owner);
+        if (isAsync(request, handler)) {
+            forwardAsync(request, response, forwardRequest, userId, owner);
+            return false;
+        }
+        HttpResponse<InputStream> forwarded;
+        try {
+            forwarded = httpClient.send(forwardRequest, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw unreachable(forwardRequest, userId, owner, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unreachable(forwardRequest, userId, owner, e);
+        }
+        copyStatusAndHeaders(forwarded, response);
+        try (InputStream body = forwarded.body()) {
+            body.transferTo(response.getOutputStream());
+        }
+        return false;
+    }
+
+    /**
+     * 옮겨 온 유저를 넘겨받은 뒤에 컨트롤러가 처리하도록 합니다.
+     * 비동기 API 는 넘겨받기를 기다리지 않고 요청 스레드를 돌려준 뒤, 끝나면 같은 요청을 다시 디스패치합니다.
+     */
+    private boolean takeOver(HttpServletRequest request, Object handler, long userId) {
+
+        CompletableFuture<Void> takeover = handoffClient.takeOver(userId);
+        if (takeover.isDone() || !isAsync(request, handler)) {
+            UserTaskExecutor.await(takeover);
+            return true;
+        }
+        AsyncContext asyncContext = request.startAsync();
+        takeover.whenComplete((ignored, e) -> {
+            if (e != null) {
+                request.setAttribute(FAILURE_ATTRIBUTE, unwrap(e));
+            }
+            asyncContext.dispatch();
+        });
+        return false;
+    }
+
+    /**
+     * 요청 스레드를 돌려주고, 맡은 노드의 응답이 오면 그 스레드(HttpClient 실행기)에서 응답을 씁니다.
+     */
+    private void forwardAsync(HttpServletRequest request, HttpServletResponse response, HttpRequest forwardRequest,
+                              long userId, String owner) {
+
+        AsyncContext asyncContext = request.startAsync();
+        httpClient.sendAsync(forwardRequest, HttpResponse.BodyHandlers.ofByteArray()).whenComplete((forwarded, e) -> {
+            if (e != null) {
+                request.setAttribute(FAILURE_ATTRIBUTE, unreachable(forwardRequest, userId, owner, unwrap(e)));
+                asyncContext.dispatch();
+                return;
+            }
+            try {
+                copyStatusAndHeaders(forwarded, response);
+                response.getOutputStream().write(forwarded.body());
+            } catch (IOException writeFailure) {
+                log.warn("사용자 {} 의 전달받은 응답을 쓰지 못했습니다: {}", userId, writeFailure.toString());
+            } finally {
+                asyncContext.complete();
+            }
+        });
+    }
+
+    private HttpRequest forwardRequest(HttpServletRequest request, String owner) throws IOException {
+
+        String query = request.getQueryString();
+        URI uri = membership.addressOf(owner).resolve(request.getRequestURI() + (query == null ? "" : "?" + query));
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                                                 .timeout(timeout)
+                                                 .header(FORWARDED_FROM_HEADER, membership.selfId())
+                                                 .method(request.getMethod(),
+                                                         HttpRequest.BodyPublishers.ofByteArray(request.getInputStream().readAllBytes()));
+        for (String header : REQUEST_HEADERS) {
+            String value = request.getHeader(header);
+            if (value != null) {
+                builder.header(header, value);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void copyStatusAndHeaders(HttpResponse<?> forwarded, HttpServletResponse response) {
+
+        response.setStatus(forwarded.statusCode());
+        for (String header : RESPONSE_HEADERS) {
+            forwarded.headers().firstValue(header).ifPresent(value -> response.setHeader(header, value));
+        }
+    }
+
+    private static PointForwardingException unreachable(HttpRequest forwardRequest, long userId, String owner, Throwable cause) {
+
+        log.warn("사용자 {} 의 요청을 {} ({}) 에 전달하지 못했습니다: {}", userId, owner, forwardRequest.uri(), cause.toString());
+        return new PointForwardingException(ErrorMessage.NODE_UNREACHABLE, ErrorMessage.NODE_UNREACHABLE.format(userId, owner), cause);
+    }
+
+    /**
+     * CompletableFuture 를 반환하는 컨트롤러 메서드 (서블릿 비동기 처리를 쓸 수 있을 때)
+     */
+    private static boolean isAsync(HttpServletRequest request, Object handler) {
+
+        return request.isAsyncSupported() && handler instanceof HandlerMethod method
+                && CompletionStage.class.isAssignableFrom(method.getReturnType().getParameterType());
+    }
+
+    private static Throwable unwrap(Throwable e) {
+
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    /**
+     * 경로 변수 id (없거나 숫자가 아니면 null 을 반환하여 컨트롤러의 검증에 맡깁니다)
+     */
+    private static Long userIdOf(HttpServletRequest request) {
+
+        Object variables = request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (!(variables instanceof Map<?, ?> map) || !(map.get("id") instanceof String id)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
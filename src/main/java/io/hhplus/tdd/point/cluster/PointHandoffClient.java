@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.PointHandoff;
+import io.hhplus.tdd.point.constant.ErrorMessage;
+import io.hhplus.tdd.point.service.PointService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드 목록이 바뀌어 이 노드가 새로 맡은 유저를, 처음 처리하기 전에 이전 노드에서 넘겨받습니다.
+ *
+ * - 이전 노드의 HANDOFF_PATH 를 호출하면 이전 노드는 이 유저를 이 노드가 맡은 것으로 표시하고(이후 요청은 이 노드로 전달)
+ *   그때까지의 잔액과 내역을 돌려주며, 이 노드는 받은 내용을 PointService.takeOver 로 기록합니다.
+ * - 유저마다 한 번만 넘겨받으며, 넘겨받는 동안 들어온 같은 유저의 요청은 끝날 때까지 기다립니다.
+ *   넘겨받지 못하면 그 요청들은 503 으로 거절하고 다음 요청에서 다시 시도합니다.
+ * - 넘겨받은 유저는 재시작 전까지 기억하며, 재시작 후 다시 요청해도 이미 기록이 있으면 takeOver 가 무시합니다.
+ */
+public class PointHandoffClient {
+
+    public static final String HANDOFF_PATH = "/cluster/point/%d/handoff";
+
+    private static final Logger log = LoggerFactory.getLogger(PointHandoffClient.class);
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    private final PointClusterMembership membership;
+    private final PointService pointService;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Duration timeout;
+    private final Map<Long, CompletableFuture<Void>> takeovers = new ConcurrentHashMap<>();
+
+    public PointHandoffClient(PointClusterMembership membership, PointService pointService, ObjectMapper objectMapper,
+                              Duration timeout) {
+        this.membership = membership;
+        this.pointService = pointService;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.timeout = timeout;
+    }
+
+    /**
+     * 이 노드가 맡은 유저 중 이전 노드에서 옮겨 온 유저면 넘겨받기를 시작하고, 끝나면 완료되는 future 를 돌려줍니다.
+     * 옮겨 온 유저가 아니거나 이미 넘겨받았으면 완료된 future 를 돌려줍니다.
+     */
+    public CompletableFuture<Void> takeOver(long userId) {
+
+        String previousOwner = membership.previousOwnerOf(userId);
+        if (previousOwner == null || !membership.isLocal(userId)) {
+            return DONE;
+        }
+        CompletableFuture<Void> takeover = takeovers.computeIfAbsent(userId, id -> pull(id, previousOwner));
+        if (takeover.isCompletedExceptionally()) {
+            takeovers.remove(userId, takeover);
+        }
+        return takeover;
+    }
+
+    private CompletableFuture<Void> pull(long userId, String previousOwner) {
+
+        URI uri = membership.addressOf(previousOwner).resolve(HANDOFF_PATH.formatted(userId) + "?to="
+                + URLEncoder.encode(membership.selfId(), StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                                         .timeout(timeout)
+                                         .POST(HttpRequest.BodyPublishers.noBody())
+                                         .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                         .exceptionally(e -> {
+                             log.warn("사용자 {} 를 {} ({}) 에서 넘겨받지 못했습니다: {}", userId, previousOwner, uri, e.toString());
+                             throw new PointForwardingException(ErrorMessage.HANDOFF_FAILED,
+                                     ErrorMessage.HANDOFF_FAILED.format(userId, previousOwner), e);
+                         })
+                         .thenAccept(response -> {
+                             if (response.statusCode() != 200) {
+                                 log.warn("사용자 {} 를 {} 에서 넘겨받지 못했습니다. status: {}, body: {}", userId, previousOwner,
+                                         response.statusCode(), new String(response.body(), StandardCharsets.UTF_8));
+                                 throw new PointForwardingException(ErrorMessage.HANDOFF_FAILED,
+                                         ErrorMessage.HANDOFF_FAILED.format(userId, previousOwner));
+                             }
+                             PointHandoff handoff = read(response.body());
+                             pointService.takeOver(handoff);
+                             log.info("사용자 {} 를 {} 에서 넘겨받았습니다. 잔액: {}, 내역: {}건", userId, previousOwner,
+                                     handoff.point(), handoff.histories().size());
+                         });
+    }
+
+    private PointHandoff read(byte[] body) {
+        try {
+            return objectMapper.readValue(body, PointHandoff.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
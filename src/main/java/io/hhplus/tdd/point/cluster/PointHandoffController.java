@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point.cluster;
+
+import io.hhplus.tdd.point.PointHandoff;
+import io.hhplus.tdd.point.service.PointService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 노드 사이에서만 부르는 유저 넘기기 API (PointHandoffClient 가 호출합니다)
+ * /point/** 가 아니므로 다른 노드로 전달하지 않고 항상 이 노드가 처리합니다.
+ */
+@RestController
+@RequestMapping("/cluster/point")
+@ConditionalOnProperty(prefix = "point.cluster", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class PointHandoffController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHandoffController.class);
+
+    private final PointService pointService;
+    private final PointClusterMembership pointClusterMembership;
+
+    /**
+     * 이후 이 유저의 요청은 to 노드(설정의 주소)로 전달하도록 표시한 뒤, 그때까지의 잔액과 내역을 돌려줍니다.
+     * to 가 설정의 nodes 에 없거나 이 노드 자신이면 아무것도 넘기지 않고 거절합니다.
+     */
+    @PostMapping("{id}/handoff")
+    public PointHandoff handOff(
+            @PathVariable long id,
+            @RequestParam String to
+    ) {
+        log.debug("handOff({}, {})", id, to);
+        pointClusterMembership.handOff(id, to);
+        return pointService.handOff(id);
+    }
+}
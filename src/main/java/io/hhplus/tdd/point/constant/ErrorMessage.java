@@ -7,7 +7,22 @@ public enum ErrorMessage {
     NEGATIVE_ID_ERROR("음수 아이디는 사용할 수 없습니다. id: %d"),
     NEGATIVE_AMOUNT_ERROR("충전할 수 없는 금액입니다. amount: %d"),
     INSUFFICIENT_BALANCE("사용자의 포인트 잔액이 부족합니다. id: %d, 잔액: %d"),
-    IN_VALID_TRANSACTION_TYPE("유효하지 않은 거래유형 입니다. transactionType: %d")
+    IN_VALID_TRANSACTION_TYPE("유효하지 않은 거래유형 입니다. transactionType: %d"),
+    INVALID_PAGE_LIMIT("조회할 수 없는 페이지 크기입니다. limit: %d, max: %d"),
+    BATCH_TOO_LARGE("한 번에 처리할 수 있는 요청 수를 초과했습니다. size: %d, max: %d"),
+    TOO_MANY_WAITERS("같은 사용자의 요청이 너무 많이 대기 중입니다. 잠시 후 다시 시도해 주세요. id: %d, max: %d"),
+    USER_LOCK_TIMEOUT("요청이 밀려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요. id: %d, timeout: %dms"),
+    INVALID_IDEMPOTENCY_KEY("멱등 키는 1 ~ %d 자여야 합니다."),
+    IDEMPOTENCY_KEY_REUSED("이미 다른 요청에 사용한 멱등 키입니다. key: %s, transactionType: %s, amount: %d"),
+    IDEMPOTENCY_KEYS_IN_FLIGHT("처리 중인 멱등 키가 너무 많습니다. 잠시 후 다시 시도해 주세요. id: %d, max: %d"),
+    NOT_OWNER_NODE("다른 노드가 맡은 사용자입니다. 해당 노드로 요청해 주세요. id: %d, node: %s"),
+    NODE_UNREACHABLE("사용자를 맡은 노드에 요청을 전달하지 못했습니다. 잠시 후 다시 시도해 주세요. id: %d, node: %s"),
+    NODE_ROUTING_MISMATCH("노드 사이의 사용자 배치가 맞지 않아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요. id: %d, node: %s"),
+    SELF_TRANSFER("자기 자신에게는 송금할 수 없습니다. id: %d"),
+    CROSS_NODE_TRANSFER("다른 노드가 맡은 사용자에게는 송금할 수 없습니다. id: %d, node: %s"),
+    INVALID_HANDOFF_TARGET("사용자를 넘길 수 없는 노드입니다. id: %d, node: %s"),
+    HANDOFF_FAILED("이전 노드에서 사용자를 넘겨받지 못했습니다. 잠시 후 다시 시도해 주세요. id: %d, node: %s"),
+    USER_HANDED_OFF("다른 노드로 넘긴 사용자입니다. 잠시 후 다시 시도해 주세요. id: %d")
     ;
 
     private final String message;
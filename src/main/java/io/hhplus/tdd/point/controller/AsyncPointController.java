@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.service.PointService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 요청 스레드를 잡아두지 않는 포인트 조회/충전/사용 API
+ *
+ * CompletableFuture 를 반환하면 서블릿 비동기 처리로 요청 스레드를 바로 돌려주고, 결과가 나오면 응답합니다.
+ * 유저 락 대기와 저장소 호출은 실행 방식별 전용 스레드(LOCK: point-async, MAILBOX: point-mailbox)에서 처리합니다.
+ */
+@RestController
+@RequestMapping("/async/point")
+@RequiredArgsConstructor
+public class AsyncPointController {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncPointController.class);
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    private final PointService pointService;
+
+    /**
+     * 특정 유저의 포인트를 조회합니다.
+     */
+    @GetMapping("{id}")
+    public CompletableFuture<UserPoint> point(
+            @PathVariable long id
+    ) {
+        log.debug("asyncPoint({})", id);
+        return pointService.selectByIdAsync(id);
+    }
+
+    /**
+     * 특정 유저의 포인트를 충전합니다.
+     */
+    @PatchMapping("{id}/charge")
+    public CompletableFuture<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        log.debug("asyncCharge({}, {}, {})", id, amount, idempotencyKey);
+        return pointService.chargeAsync(id, amount, idempotencyKey);
+    }
+
+    /**
+     * 특정 유저의 포인트를 사용합니다.
+     */
+    @PatchMapping("{id}/use")
+    public CompletableFuture<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        log.debug("asyncUse({}, {}, {})", id, amount, idempotencyKey);
+        return pointService.useAsync(id, amount, idempotencyKey);
+    }
+}
@@ -1,14 +1,34 @@
 package io.hhplus.tdd.point.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.PointTransfer;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.batch.PointBatchService;
+import io.hhplus.tdd.point.cluster.CrossNodeTransferException;
+import io.hhplus.tdd.point.cluster.PointClusterMembership;
+import io.hhplus.tdd.point.cluster.PointHandoffClient;
+import io.hhplus.tdd.point.constant.ErrorMessage;
+import io.hhplus.tdd.point.engine.UserTaskExecutor;
 import io.hhplus.tdd.point.service.PointService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 @RestController
 @RequestMapping("/point")
@@ -16,8 +36,13 @@ import java.util.List;
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
     private final PointService pointService;
+    private final PointBatchService pointBatchService;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<PointClusterMembership> pointClusterMembership;
+    private final ObjectProvider<PointHandoffClient> pointHandoffClient;
 
     /**
      * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
@@ -41,27 +66,144 @@ public class PointController {
         return pointService.selectAllByUserId(id);
     }
 
+    /**
+     * 특정 유저의 충전/사용 누적 집계를 조회합니다.
+     * 거래를 기록할 때마다 갱신해 둔 값이므로 내역을 읽지 않습니다.
+     */
+    @GetMapping("{id}/summary")
+    public PointSummary summary(
+            @PathVariable long id
+    ) {
+        log.debug("summary({})", id);
+        return pointService.selectSummary(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 id 커서 기준으로 한 페이지씩 조회합니다.
+     * 응답의 nextAfter 를 다음 요청의 after 로 넘기면 이어서 조회합니다.
+     */
+    @GetMapping("{id}/histories/page")
+    public PointHistoryPage historyPage(
+            @PathVariable long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        log.debug("historyPage({}, {}, {}, {}, {})", id, after, from, to, limit);
+        return pointService.selectHistoryPage(id, PointHistoryQuery.of(after, from, to, limit));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 한 줄에 한 건씩(NDJSON) 내려보냅니다.
+     * 내부적으로 페이지 단위로 조회하며 페이지마다 flush 하므로 서버는 한 페이지만큼의 메모리만 사용합니다.
+     */
+    @GetMapping("{id}/histories/stream")
+    public ResponseEntity<StreamingResponseBody> historyStream(
+            @PathVariable long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to
+    ) {
+        log.debug("historyStream({}, {}, {}, {})", id, after, from, to);
+        PointHistoryQuery first = PointHistoryQuery.of(after, from, to, PointHistoryQuery.MAX_LIMIT);
+        PointHistoryPage firstPage = pointService.selectHistoryPage(id, first);
+        StreamingResponseBody body = outputStream -> {
+            PointHistoryPage page = firstPage;
+            writeLines(outputStream, page.histories());
+            while (page.hasNext()) {
+                page = pointService.selectHistoryPage(id, first.next(page.nextAfter()));
+                writeLines(outputStream, page.histories());
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 충전하지 않고 처음 결과를 반환합니다.
      */
     @PatchMapping("{id}/charge")
     public UserPoint charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
     ) {
-        log.debug("charge({}, {})", id, amount);
-        return pointService.charge(id, amount);
+        log.debug("charge({}, {}, {})", id, amount, idempotencyKey);
+        return pointService.charge(id, amount, idempotencyKey);
     }
 
     /**
      * TODO - 특정 유저의 포인트를 사용하는 기능을 작성해주세요.
+     * Idempotency-Key 헤더가 있으면 같은 키의 재시도는 다시 사용하지 않고 처음 결과를 반환합니다.
      */
     @PatchMapping("{id}/use")
     public UserPoint use(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        log.debug("use({}, {}, {})", id, amount, idempotencyKey);
+        return pointService.use(id, amount, idempotencyKey);
+    }
+
+    /**
+     * 특정 유저의 포인트를 다른 유저에게 송금합니다.
+     * 두 유저의 잔액과 내역을 한 번에 기록하고, 보낸 유저의 잔액을 응답합니다.
+     * 여러 노드 구성에서는 받는 유저도 이 노드가 맡은 유저여야 하며, 아니면 422 로 응답합니다. (보내는 유저의 노드로는 전달됩니다)
+     */
+    @PatchMapping("{id}/transfer")
+    public UserPoint transfer(
+            @PathVariable long id,
+            @RequestBody PointTransfer transfer
+    ) {
+        log.debug("transfer({}, {}, {})", id, transfer.toUserId(), transfer.amount());
+        PointClusterMembership membership = pointClusterMembership.getIfAvailable();
+        if (membership != null && !membership.isLocal(transfer.toUserId())) {
+            throw new CrossNodeTransferException(ErrorMessage.CROSS_NODE_TRANSFER.format(transfer.toUserId(),
+                    membership.ownerOf(transfer.toUserId())));
+        }
+        // 받는 유저가 이 노드로 옮겨 온 유저면 먼저 넘겨받습니다. (보내는 유저는 PointForwardingInterceptor 가 넘겨받음)
+        pointHandoffClient.ifAvailable(client -> UserTaskExecutor.await(client.takeOver(transfer.toUserId())));
+        return pointService.transfer(id, transfer.toUserId(), transfer.amount());
+    }
+
+    /**
+     * 여러 유저의 포인트 충전/사용 요청을 한 번에 처리합니다.
+     * 결과는 처리되는 대로 한 줄에 한 건씩(NDJSON) 내려보냅니다.
+     */
+    @PostMapping("batch")
+    public ResponseEntity<StreamingResponseBody> batch(
+            @RequestBody List<PointOperation> operations
     ) {
-        log.debug("use({}, {})", id, amount);
-        return pointService.use(id, amount);
+        log.debug("batch({})", operations.size());
+        PointBatchService.PreparedBatch batch = pointBatchService.prepare(operations);
+        StreamingResponseBody body = outputStream -> {
+            // 쓰는 동안 가상 스레드가 캐리어 스레드를 붙잡지 않도록 모니터 대신 ReentrantLock 을 사용합니다.
+            ReentrantLock writeLock = new ReentrantLock();
+            batch.execute(result -> {
+                writeLock.lock();
+                try {
+                    writeLines(outputStream, List.of(result));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } finally {
+                    writeLock.unlock();
+                }
+            });
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * 값마다 한 줄씩 JSON 으로 쓰고 flush 합니다.
+     * ObjectMapper.writeValue(OutputStream) 는 스트림을 닫으므로 바이트로 직렬화하여 씁니다.
+     */
+    private void writeLines(OutputStream outputStream, List<?> values) throws IOException {
+        for (Object value : values) {
+            outputStream.write(objectMapper.writeValueAsBytes(value));
+            outputStream.write('\n');
+        }
+        outputStream.flush();
     }
 }
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.engine;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 동시에 실행 중인 작업 수를 제한하는 실행기
+ *
+ * 작업마다 스레드를 만드는 실행기(가상 스레드)는 대기열이 없으므로, 실행 중인 작업이 maxInFlight 개면
+ * 기다리지 않고 RejectedExecutionException 으로 거절하여 스레드 풀의 대기열과 같은 상한을 둡니다.
+ */
+public class InFlightLimitExecutor implements Executor {
+
+    private final Executor delegate;
+    private final int maxInFlight;
+    private final Semaphore permits;
+
+    public InFlightLimitExecutor(Executor delegate, int maxInFlight) {
+
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("동시 실행 수는 1 이상이어야 합니다. maxInFlight: " + maxInFlight);
+        }
+        this.delegate = delegate;
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("동시에 실행 중인 작업이 " + maxInFlight + " 개를 넘었습니다.");
+        }
+        // 위임 실행기가 호출한 스레드에서 실행하다 실패할 수도 있으므로 자리는 한 번만 돌려줍니다.
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        try {
+            delegate.execute(() -> {
+                try {
+                    command.run();
+                } finally {
+                    release.run();
+                }
+            });
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+    /**
+     * 지금 실행 중인 작업 수
+     */
+    public int inFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+}
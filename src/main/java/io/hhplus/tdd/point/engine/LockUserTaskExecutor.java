@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.lock.UserLockBusyException;
+import io.hhplus.tdd.point.lock.UserLockTable;
+import io.hhplus.tdd.point.lock.UserLockWaitLimiter;
+import io.hhplus.tdd.point.metrics.PointTransactionMetrics;
+import io.hhplus.tdd.point.metrics.PointTransactionStage;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+/**
+ * 호출한 스레드가 유저 락을 잡고 작업을 실행합니다.
+ * submit 으로 맡긴 작업은 전용 실행기(asyncExecutor)의 스레드가 유저 락을 잡고 실행합니다.
+ */
+@RequiredArgsConstructor
+public class LockUserTaskExecutor implements UserTaskExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(LockUserTaskExecutor.class);
+
+    private final UserLockTable userLockTable;
+    private final UserLockWaitLimiter userLockWaitLimiter;
+    private final PointTransactionMetrics pointTransactionMetrics;
+    private final Executor asyncExecutor;
+
+    /**
+     * submit 으로 맡긴 작업도 호출한 스레드에서 바로 실행합니다.
+     */
+    public LockUserTaskExecutor(UserLockTable userLockTable, UserLockWaitLimiter userLockWaitLimiter,
+                                PointTransactionMetrics pointTransactionMetrics) {
+        this(userLockTable, userLockWaitLimiter, pointTransactionMetrics, Runnable::run);
+    }
+
+    /**
+     * 실행기가 가득 차 작업을 받지 못하면 RejectedExecutionException 으로 실패한 결과를 반환합니다.
+     */
+    @Override
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> task) {
+        return submitBlocking(userId, () -> execute(userId, task));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submitBlocking(long userId, Supplier<T> task) {
+
+        try {
+            return CompletableFuture.supplyAsync(task, asyncExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 두 유저의 락을 락 테이블이 정한 순서(lockOrderOf)대로 잡고 작업을 실행합니다.
+     * 두 유저가 같은 락(같은 스트라이프)을 쓰면 한 번만 잡습니다.
+     */
+    @Override
+    public <T> T execute(long userId, long otherUserId, Supplier<T> task) {
+
+        long order = userLockTable.lockOrderOf(userId);
+        long otherOrder = userLockTable.lockOrderOf(otherUserId);
+        if (order == otherOrder) {
+            return execute(userId, task);
+        }
+        long first = order < otherOrder ? userId : otherUserId;
+        long second = order < otherOrder ? otherUserId : userId;
+        return execute(first, () -> execute(second, task));
+    }
+
+    /**
+     * 유저 락을 사용하여 동시성 문제를 해결하며,
+     * 작업을 실행합니다.
+     */
+    @Override
+    public <T> T execute(long userId, Supplier<T> task) {
+
+        Lock userLock = userLockTable.lockOf(userId);
+        long waitStarted = pointTransactionMetrics.start();
+        long holdStarted;
+        if (userLock.tryLock()) {
+            holdStarted = pointTransactionMetrics.record(PointTransactionStage.LOCK_WAIT, waitStarted);
+        } else {
+            // 다른 요청이 락을 쥐고 있으면 정해진 만큼만 기다린 뒤 경합으로 기록합니다.
+            int waiters;
+            try {
+                waiters = userLockWaitLimiter.acquire(userId, userLock); // 락을 걸고
+            } catch (UserLockBusyException e) {
+                userLockTable.release(userId, userLock);
+                pointTransactionMetrics.reject(e.reason());
+                log.warn("사용자 ID {}의 락을 기다리지 못했습니다: {}", userId, e.getMessage());
+                throw e;
+            }
+            holdStarted = pointTransactionMetrics.recordContention(userId, waiters, waitStarted);
+        }
+        log.debug("{} 사용자의 락을 걸었습니다. 시간: {}", userId, System.currentTimeMillis());
+        RuntimeException failure = null;
+        try {
+            return task.get();
+        }
+        catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        }
+        finally {
+            userLock.unlock(); // 락 해제
+            pointTransactionMetrics.record(PointTransactionStage.LOCK_HOLD, holdStarted);
+            userLockTable.release(userId, userLock);
+            // 로그 출력(I/O)으로 락을 쥐는 시간이 늘지 않도록 락을 푼 뒤 기록합니다.
+            if (failure != null) {
+                log.error("사용자 ID {}에 대한 트랜잭션 처리 중 오류 발생: {}", userId, failure.getMessage());
+            }
+            log.debug("{} 사용자의 락을 해제했습니다. 시간: {}", userId, System.currentTimeMillis());
+        }
+    }
+}
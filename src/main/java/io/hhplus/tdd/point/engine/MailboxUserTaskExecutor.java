@@ -0,0 +1,218 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.metrics.PointTransactionMetrics;
+import io.hhplus.tdd.point.metrics.PointTransactionStage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 유저를 고정된 수의 파티션에 나누고, 파티션마다 단일 스레드가 자기 대기열(mailbox)의 작업을 차례로 실행합니다.
+ *
+ * - 한 유저의 작업은 항상 같은 파티션 스레드에서 들어온 순서대로 실행되므로 락 없이 순서가 보장됩니다.
+ * - 파티션 스레드는 자기 유저들의 잔액을 쓰는 유일한 스레드입니다.
+ * - 대기열이 가득 차면 자리가 날 때까지 맡기는 스레드를 멈춥니다.
+ * - 작업 안에서 다른 유저의 작업을 기다리면 같은 파티션일 때 멈추므로, 작업은 자기 유저만 다룹니다.
+ * - 두 유저의 작업은 번호가 작은 파티션 스레드가 큰 파티션 스레드의 실행을 기다리는 방향으로만 실행하므로
+ *   파티션 스레드끼리 서로를 기다리지 않습니다.
+ */
+public class MailboxUserTaskExecutor implements UserTaskExecutor, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MailboxUserTaskExecutor.class);
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final Partition[] partitions;
+    private final PointTransactionMetrics pointTransactionMetrics;
+    private final long closeTimeoutMillis;
+
+    /**
+     * @param partitionCount  파티션(스레드) 수
+     * @param mailboxCapacity 파티션별 대기열 크기
+     */
+    public MailboxUserTaskExecutor(int partitionCount, int mailboxCapacity, PointTransactionMetrics pointTransactionMetrics) {
+        this(partitionCount, mailboxCapacity, pointTransactionMetrics, CLOSE_TIMEOUT);
+    }
+
+    /**
+     * @param closeTimeout 종료 시 파티션 스레드가 남은 작업을 마치기를 기다릴 시간
+     */
+    public MailboxUserTaskExecutor(int partitionCount, int mailboxCapacity, PointTransactionMetrics pointTransactionMetrics,
+                                   Duration closeTimeout) {
+
+        if (partitionCount <= 0 || mailboxCapacity <= 0) {
+            throw new IllegalArgumentException("파티션 수와 대기열 크기는 1 이상이어야 합니다. partitions: " + partitionCount + ", capacity: " + mailboxCapacity);
+        }
+        this.pointTransactionMetrics = pointTransactionMetrics;
+        this.closeTimeoutMillis = closeTimeout.toMillis();
+        this.partitions = new Partition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new Partition(i, mailboxCapacity);
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(long userId, Supplier<T> task) {
+
+        Partition partition = partitionOf(userId);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        if (Thread.currentThread() == partition.thread) {
+            // 파티션 스레드 안에서 같은 파티션에 맡기면 기다리지 않고 바로 실행합니다.
+            run(userId, task, result, pointTransactionMetrics.start());
+            return result;
+        }
+        long enqueued = pointTransactionMetrics.start();
+        partition.offer(new Mail(() -> run(userId, task, result, enqueued), result::completeExceptionally));
+        return result;
+    }
+
+    /**
+     * 유저의 파티션 스레드에서 실행하므로 같은 유저의 앞선 쓰기가 반영된 뒤 실행됩니다.
+     */
+    @Override
+    public <T> CompletableFuture<T> submitBlocking(long userId, Supplier<T> task) {
+        return submit(userId, task);
+    }
+
+    /**
+     * 번호가 작은 파티션 스레드에서 큰 파티션에 작업을 맡기고 끝날 때까지 기다립니다.
+     * 기다리는 동안 작은 파티션의 다른 작업은 실행되지 않으므로 두 유저의 작업과 겹치지 않습니다.
+     */
+    @Override
+    public <T> T execute(long userId, long otherUserId, Supplier<T> task) {
+
+        int index = partitionIndexOf(userId);
+        int otherIndex = partitionIndexOf(otherUserId);
+        if (index == otherIndex) {
+            return execute(userId, task);
+        }
+        long first = index < otherIndex ? userId : otherUserId;
+        long second = index < otherIndex ? otherUserId : userId;
+        return execute(first, () -> UserTaskExecutor.await(submit(second, task)));
+    }
+
+    public int partitionCount() {
+        return partitions.length;
+    }
+
+    /**
+     * 유저가 속한 파티션 번호
+     */
+    public int partitionIndexOf(long userId) {
+
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (((hash >>> 32) * partitions.length) >>> 32);
+    }
+
+    /**
+     * 새 작업을 막고, 이미 맡긴 작업을 모두 실행한 뒤 파티션 스레드를 끝냅니다.
+     * 제한 시간 안에 끝나지 않은 파티션의 남은 작업은 RejectedExecutionException 으로 거절합니다.
+     */
+    @Override
+    public void close() {
+
+        for (Partition partition : partitions) {
+            partition.closed = true;
+        }
+        for (Partition partition : partitions) {
+            partition.join(closeTimeoutMillis);
+        }
+    }
+
+    private Partition partitionOf(long userId) {
+        return partitions[partitionIndexOf(userId)];
+    }
+
+    private <T> void run(long userId, Supplier<T> task, CompletableFuture<T> result, long enqueued) {
+
+        long started = pointTransactionMetrics.record(PointTransactionStage.LOCK_WAIT, enqueued);
+        try {
+            result.complete(task.get());
+        } catch (Throwable e) {
+            log.error("사용자 ID {}에 대한 트랜잭션 처리 중 오류 발생: {}", userId, e.getMessage());
+            result.completeExceptionally(e);
+        } finally {
+            pointTransactionMetrics.record(PointTransactionStage.LOCK_HOLD, started);
+        }
+    }
+
+    /**
+     * 대기열의 작업 한 건 (실행하지 못하면 reject 로 결과를 실패시킵니다)
+     */
+    private record Mail(Runnable task, Consumer<Throwable> reject) {
+    }
+
+    private static final class Partition {
+
+        private static final long POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+        private final BlockingQueue<Mail> mailbox;
+        private final Thread thread;
+        private volatile boolean closed;
+
+        Partition(int index, int capacity) {
+            this.mailbox = new ArrayBlockingQueue<>(capacity);
+            this.thread = new Thread(this::runLoop, "point-mailbox-" + index);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        void offer(Mail task) {
+
+            if (closed) {
+                throw new IllegalStateException("메일박스가 종료되었습니다. " + thread.getName());
+            }
+            try {
+                mailbox.put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("메일박스에 작업을 넣는 중 인터럽트되었습니다. " + thread.getName(), e);
+            }
+        }
+
+        private void runLoop() {
+
+            while (!closed || !mailbox.isEmpty()) {
+                try {
+                    Mail mail = mailbox.poll(POLL_NANOS, TimeUnit.NANOSECONDS);
+                    if (mail != null) {
+                        mail.task().run();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        void join(long timeoutMillis) {
+
+            try {
+                thread.join(timeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            Mail mail;
+            if (thread.isAlive()) {
+                // 파티션 스레드가 아직 작업 중이면 같은 유저의 작업이 두 스레드에서 겹치지 않도록 실행하지 않고 거절합니다.
+                log.warn("메일박스 종료 대기 시간이 지나 남은 작업을 거절합니다. {}", thread.getName());
+                while ((mail = mailbox.poll()) != null) {
+                    mail.reject().accept(new RejectedExecutionException("메일박스가 종료되어 작업을 실행하지 못했습니다. " + thread.getName()));
+                }
+                return;
+            }
+            // 종료 직전에 들어온 작업도 결과를 받도록 남은 작업을 실행합니다.
+            while ((mail = mailbox.poll()) != null) {
+                mail.task().run();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.engine;
+
+import io.hhplus.tdd.point.lock.UserLockTable;
+import io.hhplus.tdd.point.lock.UserLockWaitLimiter;
+import io.hhplus.tdd.point.metrics.PointTransactionMetrics;
+import io.hhplus.tdd.point.shard.ConditionalOnShardDisabled;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+@EnableConfigurationProperties(PointEngineProperties.class)
+public class PointEngineConfig {
+
+    /**
+     * 비동기 요청의 유저 락 대기와 저장소 호출을 맡는 스레드 풀
+     * 대기열이 가득 차면 기다리지 않고 RejectedExecutionException 으로 거절합니다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = "point.engine", name = "mode", havingValue = "lock", matchIfMissing = true)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolExecutor pointAsyncExecutor(PointEngineProperties properties) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(properties.asyncThreads(), properties.asyncThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.asyncQueueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, "point-async-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 가상 스레드 모드(spring.threads.virtual.enabled=true, Java 21 이상)에서는 요청마다 가상 스레드를 만듭니다.
+     * 스레드 풀의 스레드 수 + 대기열 크기만큼 동시에 실행하고, 넘으면 같은 방식으로 거절합니다.
+     */
+    @Bean(name = "pointAsyncExecutor")
+    @ConditionalOnProperty(prefix = "point.engine", name = "mode", havingValue = "lock", matchIfMissing = true)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public InFlightLimitExecutor pointVirtualAsyncExecutor(PointEngineProperties properties) {
+        return new InFlightLimitExecutor(new VirtualThreadTaskExecutor("point-async-"),
+                properties.asyncThreads() + properties.asyncQueueCapacity());
+    }
+
+    /**
+     * 샤드를 켜면 샤드마다 실행기를 따로 두므로 등록하지 않습니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point.engine", name = "mode", havingValue = "lock", matchIfMissing = true)
+    @ConditionalOnShardDisabled
+    public UserTaskExecutor lockUserTaskExecutor(UserLockTable userLockTable,
+                                                 UserLockWaitLimiter userLockWaitLimiter,
+                                                 PointTransactionMetrics pointTransactionMetrics,
+                                                 @Qualifier("pointAsyncExecutor") Executor pointAsyncExecutor) {
+        return new LockUserTaskExecutor(userLockTable, userLockWaitLimiter, pointTransactionMetrics, pointAsyncExecutor);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.engine", name = "mode", havingValue = "mailbox")
+    public MailboxUserTaskExecutor mailboxUserTaskExecutor(PointEngineProperties properties,
+                                                           PointTransactionMetrics pointTransactionMetrics) {
+        return new MailboxUserTaskExecutor(properties.partitionCount(), properties.mailboxCapacity(), pointTransactionMetrics);
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.engine;
+
+/**
+ * 같은 유저의 충전/사용을 한 번에 하나씩 실행하는 방식
+ * - LOCK : 요청 스레드가 유저 락을 잡고 실행
+ * - MAILBOX : 유저를 파티션에 나누고 파티션별 단일 스레드가 실행
+ */
+public enum PointEngineMode {
+    LOCK,
+    MAILBOX
+}
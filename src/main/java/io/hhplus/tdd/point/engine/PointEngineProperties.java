@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.engine;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 실행 방식 설정 (point.engine.*)
+ *
+ * @param mode               실행 방식
+ * @param partitions         MAILBOX 모드의 파티션(스레드) 수 (0 이면 CPU 코어 수)
+ * @param mailboxCapacity    MAILBOX 모드의 파티션별 대기열 크기
+ * @param asyncThreads       LOCK 모드에서 비동기 요청의 유저 락 대기와 저장소 호출을 맡을 스레드 수
+ * @param asyncQueueCapacity LOCK 모드에서 스레드를 기다리는 비동기 요청 수, 넘으면 503 으로 거절
+ */
+@ConfigurationProperties(prefix = "point.engine")
+public record PointEngineProperties(
+        @DefaultValue("LOCK") PointEngineMode mode,
+        @DefaultValue("0") int partitions,
+        @DefaultValue("1024") int mailboxCapacity,
+        @DefaultValue("64") int asyncThreads,
+        @DefaultValue("10000") int asyncQueueCapacity
+) {
+
+    public int partitionCount() {
+        return partitions > 0 ? partitions : Runtime.getRuntime().availableProcessors();
+    }
+}
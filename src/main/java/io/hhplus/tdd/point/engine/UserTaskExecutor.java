@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point.engine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 유저의 작업을 한 번에 하나씩, 들어온 순서대로 실행합니다.
+ * - LOCK : 호출한 스레드가 유저 락을 잡고 직접 실행합니다. (submit 은 전용 스레드가 실행)
+ * - MAILBOX : 유저가 속한 파티션의 단일 스레드가 실행합니다.
+ */
+public interface UserTaskExecutor {
+
+    /**
+     * 작업을 맡기고 결과를 CompletableFuture 로 받습니다.
+     */
+    <T> CompletableFuture<T> submit(long userId, Supplier<T> task);
+
+    /**
+     * 같은 유저의 작업과 겹쳐도 되는 블로킹 작업(조회 등)을 전용 스레드에 맡기고 결과를 CompletableFuture 로 받습니다.
+     */
+    <T> CompletableFuture<T> submitBlocking(long userId, Supplier<T> task);
+
+    /**
+     * 작업을 실행하고 결과를 기다립니다. 작업이 던진 예외는 그대로 던집니다.
+     */
+    default <T> T execute(long userId, Supplier<T> task) {
+        return await(submit(userId, task));
+    }
+
+    /**
+     * 두 유저의 작업과 모두 겹치지 않게 작업을 실행하고 결과를 기다립니다. (송금 등)
+     * 두 유저를 항상 정해진 순서로 잡으므로 반대 방향의 요청과 서로를 기다리지 않습니다.
+     */
+    <T> T execute(long userId, long otherUserId, Supplier<T> task);
+
+    static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
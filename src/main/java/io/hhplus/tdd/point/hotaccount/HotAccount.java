@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.hotaccount;
+
+/**
+ * 락 경합이 잦은 유저 한 명의 집계
+ *
+ * @param userId         유저 아이디
+ * @param contentions    락을 바로 얻지 못하고 기다린 횟수 (최대 error 만큼 과대 추정될 수 있습니다)
+ * @param error          contentions 의 최대 과대 추정치
+ * @param totalWaitNanos 추적을 시작한 뒤 락을 기다린 시간의 합
+ * @param maxWaitNanos   가장 오래 기다린 시간
+ * @param maxWaiters     락을 얻으려 할 때 함께 기다리던 최대 스레드 수 (자신 포함)
+ */
+public record HotAccount(
+        long userId,
+        long contentions,
+        long error,
+        long totalWaitNanos,
+        long maxWaitNanos,
+        int maxWaiters
+) {
+
+    HotAccount merge(HotAccount other) {
+        return new HotAccount(userId, contentions + other.contentions, error + other.error,
+                totalWaitNanos + other.totalWaitNanos, Math.max(maxWaitNanos, other.maxWaitNanos),
+                Math.max(maxWaiters, other.maxWaiters));
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.hotaccount;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(HotAccountProperties.class)
+@ConditionalOnProperty(prefix = "point", name = {"metrics.enabled", "hot-account.enabled"}, havingValue = "true", matchIfMissing = true)
+public class HotAccountConfig {
+
+    @Bean
+    public HotAccountTracker hotAccountTracker(HotAccountProperties properties) {
+        return new HotAccountTracker(properties.capacity(), properties.window(), properties.buckets());
+    }
+
+    @Bean
+    public HotAccountEndpoint hotAccountEndpoint(HotAccountTracker hotAccountTracker, HotAccountProperties properties) {
+        return new HotAccountEndpoint(hotAccountTracker, properties.top());
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.hotaccount;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+/**
+ * 최근 구간에서 유저 락 경합이 잦은 유저를 보여줍니다.
+ * - GET /actuator/hotaccounts : 기다린 횟수 순
+ * - GET /actuator/hotaccounts/{order} : contentions | wait_time | waiters 순
+ */
+@Endpoint(id = "hotaccounts")
+@RequiredArgsConstructor
+public class HotAccountEndpoint {
+
+    private final HotAccountTracker hotAccountTracker;
+    private final int limit;
+
+    @ReadOperation
+    public HotAccountReport hotAccounts() {
+        return hotAccounts(HotAccountOrder.CONTENTIONS);
+    }
+
+    @ReadOperation
+    public HotAccountReport hotAccounts(@Selector HotAccountOrder order) {
+        return new HotAccountReport(hotAccountTracker.window().toSeconds(), order, hotAccountTracker.top(limit, order));
+    }
+}
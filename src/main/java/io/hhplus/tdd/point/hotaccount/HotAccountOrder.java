@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.hotaccount;
+
+import java.util.Comparator;
+
+/**
+ * 상위 유저 정렬 기준
+ * - CONTENTIONS : 락을 기다린 횟수
+ * - WAIT_TIME : 락을 기다린 시간의 합
+ * - WAITERS : 함께 기다리던 최대 스레드 수
+ */
+public enum HotAccountOrder {
+
+    CONTENTIONS(Comparator.comparingLong(HotAccount::contentions)),
+    WAIT_TIME(Comparator.comparingLong(HotAccount::totalWaitNanos)),
+    WAITERS(Comparator.comparingInt(HotAccount::maxWaiters));
+
+    private final Comparator<HotAccount> comparator;
+
+    HotAccountOrder(Comparator<HotAccount> comparator) {
+        this.comparator = comparator.reversed();
+    }
+
+    Comparator<HotAccount> comparator() {
+        return comparator;
+    }
+}
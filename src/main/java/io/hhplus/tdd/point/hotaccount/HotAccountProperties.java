@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.hotaccount;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 락 경합 유저 추적 설정 (point.hot-account.*)
+ *
+ * @param enabled  추적 여부 (point.metrics.enabled 가 함께 켜져 있어야 합니다)
+ * @param capacity 버킷마다 추적할 최대 유저 수
+ * @param window   집계 구간
+ * @param buckets  구간을 나눌 버킷 수
+ * @param top      엔드포인트에 보여줄 유저 수
+ */
+@ConfigurationProperties(prefix = "point.hot-account")
+public record HotAccountProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("128") int capacity,
+        @DefaultValue("1m") Duration window,
+        @DefaultValue("6") int buckets,
+        @DefaultValue("10") int top
+) {
+}
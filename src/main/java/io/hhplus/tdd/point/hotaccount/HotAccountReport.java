@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.hotaccount;
+
+import java.util.List;
+
+/**
+ * hotaccounts 엔드포인트 응답
+ *
+ * @param windowSeconds 집계 구간
+ * @param order         정렬 기준
+ * @param accounts      상위 유저
+ */
+public record HotAccountReport(
+        long windowSeconds,
+        HotAccountOrder order,
+        List<HotAccount> accounts
+) {
+}
@@ -0,0 +1,254 @@
+package io.hhplus.tdd.point.hotaccount;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저 락 경합이 잦은 유저를 최근 구간 기준으로 추적합니다.
+ *
+ * - 구간(window)을 같은 길이의 버킷 여러 개로 나누어 돌려 쓰고, 조회 시 구간 안의 버킷을 합칩니다.
+ * - 버킷마다 Space-Saving 으로 최대 capacity 명만 추적합니다. 자리가 없으면 가장 적게 기다린 유저를 내보내고
+ *   그 횟수를 이어받으므로, 실제로 자주 기다린 유저는 항상 남고 횟수는 error 이내로 과대 추정됩니다.
+ * - 락을 바로 얻지 못한 경우에만 호출되므로 경합이 없는 요청에는 비용이 없습니다.
+ */
+public class HotAccountTracker {
+
+    private final int capacity;
+    private final long bucketNanos;
+    private final Bucket[] buckets;
+
+    /**
+     * @param capacity    버킷마다 추적할 최대 유저 수
+     * @param window      조회 구간
+     * @param bucketCount 구간을 나눌 버킷 수
+     */
+    public HotAccountTracker(int capacity, Duration window, int bucketCount) {
+
+        if (capacity <= 0 || bucketCount <= 0 || window.toNanos() < bucketCount) {
+            throw new IllegalArgumentException("capacity, window, bucketCount 는 양수여야 합니다.");
+        }
+        this.capacity = capacity;
+        this.bucketNanos = window.toNanos() / bucketCount;
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * 락을 기다린 한 번을 기록합니다.
+     *
+     * @param waiters   락을 얻으려 할 때 기다리던 스레드 수 (자신 포함)
+     * @param waitNanos 락을 얻기까지 기다린 시간
+     * @param nowNanos  System.nanoTime() 기준 현재 시각
+     */
+    public void record(long userId, int waiters, long waitNanos, long nowNanos) {
+
+        long epoch = Math.floorDiv(nowNanos, bucketNanos);
+        buckets[(int) Math.floorMod(epoch, (long) buckets.length)].record(epoch, userId, waiters, waitNanos, capacity);
+    }
+
+    /**
+     * 최근 구간에서 order 기준 상위 limit 명
+     */
+    public List<HotAccount> top(int limit, HotAccountOrder order) {
+        return top(limit, order, System.nanoTime());
+    }
+
+    public List<HotAccount> top(int limit, HotAccountOrder order, long nowNanos) {
+
+        long current = Math.floorDiv(nowNanos, bucketNanos);
+        Map<Long, HotAccount> merged = new HashMap<>();
+        for (Bucket bucket : buckets) {
+            bucket.collect(current - buckets.length + 1, current, merged);
+        }
+        List<HotAccount> accounts = new ArrayList<>(merged.values());
+        accounts.sort(order.comparator());
+        return accounts.size() > limit ? List.copyOf(accounts.subList(0, limit)) : List.copyOf(accounts);
+    }
+
+    public Duration window() {
+        return Duration.ofNanos(bucketNanos * buckets.length);
+    }
+
+    /**
+     * 버킷 하나의 Space-Saving 요약 (stream-summary)
+     * 같은 횟수의 유저를 한 그룹으로 묶고 그룹을 횟수 오름차순 연결 리스트로 두어, 횟수 증가와 최소 유저 교체를 O(1) 에 처리합니다.
+     * 경합 경로에서 여러 스레드가 갱신하므로, 가상 스레드가 캐리어 스레드를 붙잡지 않도록 모니터 대신 ReentrantLock 으로 보호합니다.
+     */
+    private static final class Bucket {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, Counter> counters = new HashMap<>();
+        private Group min;
+        private long epoch = Long.MIN_VALUE;
+
+        void record(long epoch, long userId, int waiters, long waitNanos, int capacity) {
+
+            lock.lock();
+            try {
+                if (this.epoch != epoch) {
+                    counters.clear();
+                    min = null;
+                    this.epoch = epoch;
+                }
+                Counter counter = counters.get(userId);
+                if (counter != null) {
+                    increment(counter);
+                } else if (counters.size() < capacity) {
+                    counter = new Counter(userId);
+                    counters.put(userId, counter);
+                    attach(counter, groupOfOne());
+                } else {
+                    // 가장 적게 기다린 유저의 자리와 횟수를 이어받습니다.
+                    counter = min.head;
+                    counters.remove(counter.userId);
+                    counter.reset(userId);
+                    counters.put(userId, counter);
+                    increment(counter);
+                }
+                counter.waitNanos += waitNanos;
+                counter.maxWaitNanos = Math.max(counter.maxWaitNanos, waitNanos);
+                counter.maxWaiters = Math.max(counter.maxWaiters, waiters);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void collect(long fromEpoch, long toEpoch, Map<Long, HotAccount> merged) {
+
+            lock.lock();
+            try {
+                if (epoch < fromEpoch || epoch > toEpoch) {
+                    return;
+                }
+                counters.forEach((userId, counter) -> merged.merge(userId,
+                        new HotAccount(userId, counter.group.count, counter.error, counter.waitNanos, counter.maxWaitNanos,
+                                counter.maxWaiters),
+                        HotAccount::merge));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 횟수 1 그룹은 있으면 항상 맨 앞입니다.
+         */
+        private Group groupOfOne() {
+
+            if (min != null && min.count == 1) {
+                return min;
+            }
+            Group group = new Group(1);
+            group.next = min;
+            if (min != null) {
+                min.prev = group;
+            }
+            min = group;
+            return group;
+        }
+
+        /**
+         * 바로 다음 그룹이 count + 1 이면 그리로 옮기고, 아니면 그 사이에 새 그룹을 만듭니다.
+         */
+        private void increment(Counter counter) {
+
+            Group group = counter.group;
+            Group next = group.next;
+            if (next == null || next.count != group.count + 1) {
+                Group created = new Group(group.count + 1);
+                created.prev = group;
+                created.next = next;
+                if (next != null) {
+                    next.prev = created;
+                }
+                group.next = created;
+                next = created;
+            }
+            detach(counter);
+            attach(counter, next);
+        }
+
+        private static void attach(Counter counter, Group group) {
+
+            counter.group = group;
+            counter.prev = null;
+            counter.next = group.head;
+            if (group.head != null) {
+                group.head.prev = counter;
+            }
+            group.head = counter;
+        }
+
+        /**
+         * 그룹에서 빼고, 비게 된 그룹은 목록에서 지웁니다.
+         */
+        private void detach(Counter counter) {
+
+            Group group = counter.group;
+            if (counter.prev != null) {
+                counter.prev.next = counter.next;
+            } else {
+                group.head = counter.next;
+            }
+            if (counter.next != null) {
+                counter.next.prev = counter.prev;
+            }
+            if (group.head != null) {
+                return;
+            }
+            if (group.prev != null) {
+                group.prev.next = group.next;
+            } else {
+                min = group.next;
+            }
+            if (group.next != null) {
+                group.next.prev = group.prev;
+            }
+        }
+    }
+
+    /**
+     * 같은 횟수의 유저 목록
+     */
+    private static final class Group {
+        final long count;
+        Group prev;
+        Group next;
+        Counter head;
+
+        Group(long count) {
+            this.count = count;
+        }
+    }
+
+    private static final class Counter {
+        long userId;
+        long error;
+        long waitNanos;
+        long maxWaitNanos;
+        int maxWaiters;
+        Group group;
+        Counter prev;
+        Counter next;
+
+        Counter(long userId) {
+            this.userId = userId;
+        }
+
+        /**
+         * 내보낸 유저의 자리를 새 유저에게 넘깁니다. 이어받은 횟수가 최대 과대 추정치가 됩니다.
+         */
+        void reset(long userId) {
+            this.userId = userId;
+            this.error = group.count;
+            this.waitNanos = 0;
+            this.maxWaitNanos = 0;
+            this.maxWaiters = 0;
+        }
+    }
+}
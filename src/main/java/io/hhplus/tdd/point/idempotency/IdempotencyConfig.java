@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.metrics.IdempotencyStoreMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+    /**
+     * 컨텍스트 종료 시 close() 가 호출되어 만료 작업을 멈춥니다.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "point.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties) {
+        return new IdempotencyStore(properties.maxSize(), properties.ttl());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public IdempotencyStoreMetrics idempotencyStoreMetrics(IdempotencyStore idempotencyStore) {
+        return new IdempotencyStoreMetrics(idempotencyStore);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.idempotency", name = "enabled", havingValue = "false")
+    public IdempotencyStore disabledIdempotencyStore() {
+        return IdempotencyStore.disabled();
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.idempotency;
+
+/**
+ * 이미 사용한 멱등 키를 다른 거래 유형이나 금액의 요청에 다시 사용함
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public IdempotencyKeyConflictException(String message) {
+        super(message);
+    }
+}
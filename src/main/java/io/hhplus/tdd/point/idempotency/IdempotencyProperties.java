@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 멱등 키 설정 (point.idempotency.*)
+ *
+ * @param enabled Idempotency-Key 헤더 처리 여부 (false 면 헤더를 무시합니다)
+ * @param maxSize 보관할 최대 키 수
+ * @param ttl     키를 보관하는 시간
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxSize,
+        @DefaultValue("10m") Duration ttl
+) {
+}
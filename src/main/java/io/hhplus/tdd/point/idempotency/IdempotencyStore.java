@@ -0,0 +1,292 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.PointRequestRejectedException;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.constant.ErrorMessage;
+import io.hhplus.tdd.point.engine.UserTaskExecutor;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키별 충전/사용 결과 저장소
+ *
+ * - 같은 유저가 같은 키로 다시 요청하면 유저 락과 테이블을 거치지 않고 처음 결과를 돌려줍니다.
+ * - 처음 요청이 아직 처리 중이면 그 결과를 기다립니다.
+ * - 실패한 요청은 남기지 않으므로 같은 키로 다시 시도할 수 있습니다.
+ * - 처리가 끝난 항목은 ttl 이 지나면 만료되며, 백그라운드에서 주기적으로(ttl 의 1/4) 지웁니다.
+ * - 유저 아이디로 나눈 세그먼트마다 최대 크기를 넘으면 처리가 끝난 항목만 오래된 순으로 밀어냅니다.
+ *   처리 중인 항목은 밀어내면 같은 키가 다시 실행되므로 남기고, 처리 중인 항목만으로 가득 차면 새 키를 거절합니다.
+ */
+public class IdempotencyStore implements AutoCloseable {
+
+    public static final int MAX_KEY_LENGTH = 255;
+    private static final int SEGMENT_COUNT = 16;
+
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Segment[] segments;
+    private final ScheduledExecutorService expiry;
+
+    private final LongAdder replays = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize 보관할 최대 키 수
+     * @param ttl     키를 보관하는 시간
+     */
+    public IdempotencyStore(int maxSize, Duration ttl) {
+
+        if (maxSize <= 0 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("최대 크기와 보관 시간은 0 보다 커야 합니다. maxSize: " + maxSize + ", ttl: " + ttl);
+        }
+        this.enabled = true;
+        this.ttlNanos = ttl.toNanos();
+        int segmentCount = Math.min(SEGMENT_COUNT, maxSize);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0));
+        }
+        this.expiry = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-idempotency-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodNanos = Math.max(ttlNanos / 4, TimeUnit.MILLISECONDS.toNanos(1));
+        expiry.scheduleWithFixedDelay(this::expire, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private IdempotencyStore() {
+        this.enabled = false;
+        this.ttlNanos = 0;
+        this.segments = new Segment[0];
+        this.expiry = null;
+    }
+
+    /**
+     * 키를 기억하지 않고 매번 실행합니다.
+     */
+    public static IdempotencyStore disabled() {
+        return new IdempotencyStore();
+    }
+
+    /**
+     * 키가 없거나 처음 보는 키면 transaction 을 실행하고 결과를 기억합니다.
+     * 같은 키를 다른 거래 유형이나 금액에 다시 쓰면 IdempotencyKeyConflictException 을 던집니다.
+     */
+    public UserPoint execute(long userId, String key, TransactionType type, long amount, Supplier<UserPoint> transaction) {
+
+        if (key == null || !enabled) {
+            return transaction.get();
+        }
+        return UserTaskExecutor.await(executeAsync(userId, key, type, amount, () -> {
+            try {
+                return CompletableFuture.completedFuture(transaction.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }));
+    }
+
+    /**
+     * execute 의 비동기 버전입니다. 처음 보는 키면 transaction 이 돌려준 결과가 끝날 때 기억하거나(성공) 지웁니다(실패).
+     * 같은 키의 다른 요청이 처리 중이면 그 결과를 받는 CompletableFuture 를 반환합니다.
+     */
+    public CompletableFuture<UserPoint> executeAsync(long userId, String key, TransactionType type, long amount,
+                                                     Supplier<CompletableFuture<UserPoint>> transaction) {
+
+        if (key == null || !enabled) {
+            return transaction.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(ErrorMessage.INVALID_IDEMPOTENCY_KEY.format(MAX_KEY_LENGTH));
+        }
+        Segment segment = segmentOf(userId);
+        Key entryKey = new Key(userId, key);
+        Entry created = new Entry(type, amount);
+        Entry entry = segment.putIfAbsent(entryKey, created);
+        if (entry != created) {
+            if (entry.type != type || entry.amount != amount) {
+                throw new IdempotencyKeyConflictException(ErrorMessage.IDEMPOTENCY_KEY_REUSED.format(key, entry.type, entry.amount));
+            }
+            replays.increment();
+            return entry.result.copy();
+        }
+        CompletableFuture<UserPoint> result;
+        try {
+            result = transaction.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((userPoint, e) -> {
+            if (e == null) {
+                segment.complete(entryKey, created);
+                created.result.complete(userPoint);
+            } else {
+                segment.remove(entryKey, created);
+                created.result.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+            }
+        });
+        return created.result.copy();
+    }
+
+    public IdempotencyStats stats() {
+
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new IdempotencyStats(replays.sum(), evictions.sum(), size);
+    }
+
+    /**
+     * 모든 세그먼트에서 만료된 항목을 지웁니다.
+     */
+    public void expire() {
+
+        long now = System.nanoTime();
+        for (Segment segment : segments) {
+            segment.expire(now);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (expiry != null) {
+            expiry.shutdownNow();
+        }
+    }
+
+    /**
+     * @param replays   처음 결과를 다시 돌려준 요청 수
+     * @param evictions 최대 크기를 넘어 만료 전에 밀려난 키 수
+     * @param size      현재 보관 중인 키 수
+     */
+    public record IdempotencyStats(long replays, long evictions, long size) {
+    }
+
+    private Segment segmentOf(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return segments[(int) ((hash >>> 32) % segments.length)];
+    }
+
+    private record Key(long userId, String key) {
+    }
+
+    private static final class Entry {
+
+        private final TransactionType type;
+        private final long amount;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        private long expiresAtNanos;
+
+        Entry(TransactionType type, long amount) {
+            this.type = type;
+            this.amount = amount;
+        }
+    }
+
+    /**
+     * 처리 중인 항목과 처리가 끝난 항목을 나누어 보관하는 세그먼트
+     * 끝난 항목은 끝난 순서(= 만료 순서)를 유지하므로 앞쪽부터 만료되고 밀려납니다.
+     */
+    private final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final Map<Key, Entry> pending = new HashMap<>();
+        private final Map<Key, Entry> completed = new LinkedHashMap<>();
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+        }
+
+        Entry putIfAbsent(Key key, Entry entry) {
+            lock.lock();
+            try {
+                expire(System.nanoTime());
+                Entry existing = pending.get(key);
+                if (existing == null) {
+                    existing = completed.get(key);
+                }
+                if (existing != null) {
+                    return existing;
+                }
+                if (pending.size() + completed.size() >= capacity) {
+                    if (completed.isEmpty()) {
+                        throw new PointRequestRejectedException(ErrorMessage.IDEMPOTENCY_KEYS_IN_FLIGHT,
+                                ErrorMessage.IDEMPOTENCY_KEYS_IN_FLIGHT.format(key.userId(), capacity));
+                    }
+                    Iterator<Entry> eldest = completed.values().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    evictions.increment();
+                }
+                pending.put(key, entry);
+                return entry;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 처리가 끝난 항목을 만료 대상으로 옮깁니다. ttl 은 끝난 시점부터 셉니다.
+         */
+        void complete(Key key, Entry entry) {
+            lock.lock();
+            try {
+                if (pending.remove(key, entry)) {
+                    entry.expiresAtNanos = System.nanoTime() + ttlNanos;
+                    completed.put(key, entry);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Key key, Entry entry) {
+            lock.lock();
+            try {
+                pending.remove(key, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return pending.size() + completed.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void expire(long now) {
+            lock.lock();
+            try {
+                Iterator<Entry> iterator = completed.values().iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().expiresAtNanos - now > 0) {
+                        return;
+                    }
+                    iterator.remove();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
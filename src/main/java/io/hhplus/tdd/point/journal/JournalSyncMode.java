@@ -0,0 +1,14 @@
+package io.hhplus.tdd.point.journal;
+
+/**
+ * 저널을 디스크에 반영(fsync)하는 방식
+ * - NONE : 세그먼트가 바뀌거나 종료할 때만 반영합니다. (프로세스가 죽어도 OS 가 살아 있으면 남습니다)
+ * - INTERVAL : 백그라운드에서 일정 주기로 반영합니다. 응답은 반영을 기다리지 않습니다.
+ * - GROUP : 응답 전에 반영을 기다리되, 그동안 쌓인 기록을 한 번의 fsync 로 함께 반영합니다.
+ */
+public enum JournalSyncMode {
+
+    NONE,
+    INTERVAL,
+    GROUP
+}
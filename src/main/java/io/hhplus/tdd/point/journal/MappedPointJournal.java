@@ -0,0 +1,493 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑한 세그먼트 파일에 고정 길이 기록을 이어 쓰는 저널
+ *
+ * 기록 형식 (40 바이트, big-endian)
+ * - id(8) userId(8) amount(8) updateMillis(8) type(4) crc32c(4)
+ * - type 은 ordinal + 1 로 남기므로 0 으로 채워진 빈 자리와 구분됩니다.
+ * - 송금의 첫 기록(보낸 유저의 사용)은 type 에 PAIRED_WITH_NEXT 를 더해, 바로 다음 기록과 짝임을 표시합니다.
+ *   짝인 다음 기록이 없는 첫 기록은 재생하지 않고 복구할 때 잘라냅니다. (반영 도중 멈춰 한쪽만 남은 송금)
+ * - crc 가 맞지 않거나 순번이 이어지지 않는 기록을 만나면 (세그먼트 사이 포함) 그 앞까지만 유효한 것으로 보고,
+ *   그 뒤는 잘라낸 다음 그 자리부터 씁니다.
+ *
+ * 세그먼트 파일 이름은 첫 기록의 순번이며, 가득 차면 (반영 방식과 관계없이) 디스크에 반영한 뒤 다음 파일로 넘어갑니다.
+ * 스냅샷이 반영한 기록만 담은 세그먼트는 prune 으로 지웁니다.
+ */
+public class MappedPointJournal implements PointJournal, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedPointJournal.class);
+
+    static final int RECORD_SIZE = 40;
+    private static final int TYPE_OFFSET = 32;
+    private static final int CHECKSUM_OFFSET = 36;
+    private static final int PAIRED_WITH_NEXT = 0x100;
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final JournalSyncMode syncMode;
+    private final long syncIntervalNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dirty = lock.newCondition();
+    private final Condition durable = lock.newCondition();
+    private final ByteBuffer scratch = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32C checksum = new CRC32C();
+    private final Thread syncThread;
+
+    private MappedByteBuffer segment;
+    private int segmentCapacity;
+    private int position;
+    private long nextSequence;
+    private long syncedSequence;
+    private boolean closed;
+
+    public MappedPointJournal(Path directory, int segmentRecords, JournalSyncMode syncMode, Duration syncInterval) {
+
+        if (segmentRecords <= 0 || segmentRecords > Integer.MAX_VALUE / RECORD_SIZE) {
+            throw new IllegalArgumentException("세그먼트 기록 수는 1 이상 " + Integer.MAX_VALUE / RECORD_SIZE
+                    + " 이하여야 합니다. segmentRecords: " + segmentRecords);
+        }
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.syncMode = syncMode;
+        this.syncIntervalNanos = syncInterval.toNanos();
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.syncedSequence = nextSequence - 1;
+
+        if (syncMode == JournalSyncMode.NONE) {
+            this.syncThread = null;
+        } else {
+            this.syncThread = new Thread(this::runSync, "point-journal-sync");
+            this.syncThread.setDaemon(true);
+            this.syncThread.start();
+        }
+    }
+
+    @Override
+    public long append(long userId, long amount, TransactionType type, long updateMillis) {
+        return append(userId, amount, type, updateMillis, 0);
+    }
+
+    private long append(long userId, long amount, TransactionType type, long updateMillis, int flags) {
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("저널이 종료되었습니다. userId: " + userId);
+            }
+            if (position == segmentCapacity) {
+                roll();
+            }
+            long sequence = nextSequence;
+            encode(sequence, userId, amount, type, updateMillis, flags);
+            segment.put(position * RECORD_SIZE, scratch.array());
+            position++;
+            nextSequence++;
+            if (syncMode == JournalSyncMode.GROUP) {
+                dirty.signal();
+            }
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 두 기록을 한 번의 잠금 안에서 같은 세그먼트에 이어 씁니다.
+     * 반영은 페이지 단위이고 INTERVAL/NONE 모드는 호출마다 반영하지 않으므로 첫 기록만 디스크에 남을 수 있는데,
+     * 첫 기록에 짝 표시를 남겨 재생과 복구가 짝 없는 첫 기록을 버리도록 합니다.
+     */
+    @Override
+    public long appendTransfer(long fromUserId, long toUserId, long amount, long updateMillis) {
+
+        lock.lock();
+        try {
+            if (segmentCapacity - position < 2 && !closed) {
+                roll();
+            }
+            append(fromUserId, amount, TransactionType.USE, updateMillis, PAIRED_WITH_NEXT);
+            return append(toUserId, amount, TransactionType.CHARGE, updateMillis, 0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void sync(long sequence) {
+
+        if (syncMode != JournalSyncMode.GROUP) {
+            return;
+        }
+        lock.lock();
+        try {
+            while (syncedSequence < sequence && !closed) {
+                durable.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 시점까지 추가된 기록만 전달합니다.
+     * afterSequence 이전 기록만 담은 세그먼트는 열지 않고, 순번이 처음 끊기는 곳에서 (세그먼트 사이 포함) 멈춥니다.
+     * 송금의 첫 기록은 짝인 다음 기록을 읽은 뒤 함께 전달하므로, 멈춘 자리 앞의 짝 없는 첫 기록은 전달하지 않습니다.
+     */
+    @Override
+    public void replay(long afterSequence, Consumer<PointJournalRecord> consumer) {
+
+        long last;
+        lock.lock();
+        try {
+            last = nextSequence - 1;
+        } finally {
+            lock.unlock();
+        }
+        long expected = afterSequence + 1;
+        PointJournalRecord paired = null;
+        try {
+            List<Path> segments = segments();
+            byte[] bytes = new byte[RECORD_SIZE];
+            CRC32C crc = new CRC32C();
+            for (int s = 0; s < segments.size() && expected <= last; s++) {
+                long first = firstSequenceOf(segments.get(s));
+                long next = s + 1 < segments.size() ? firstSequenceOf(segments.get(s + 1)) : Long.MAX_VALUE;
+                if (next <= expected) {
+                    continue;
+                }
+                if (first > expected) {
+                    log.warn("저널 재생 중단: {} 번 기록이 없습니다. (다음 세그먼트 시작: {})", expected, first);
+                    return;
+                }
+                try (FileChannel channel = FileChannel.open(segments.get(s), StandardOpenOption.READ)) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    // 송금 두 기록을 나누지 않으려고 비워 둔 끝자리는 읽지 않습니다.
+                    int records = (int) Math.min(channel.size() / RECORD_SIZE, next - first);
+                    for (int i = (int) (expected - first); i < records && expected <= last; i++, expected++) {
+                        PointJournalRecord record = decode(buffer, i, expected, bytes, crc);
+                        if (record == null) {
+                            log.warn("저널 재생 중단: {} 번 기록이 손상되었습니다.", expected);
+                            return;
+                        }
+                        if (pairedWithNext(bytes)) {
+                            paired = record;
+                            continue;
+                        }
+                        if (paired != null) {
+                            consumer.accept(paired);
+                            paired = null;
+                        }
+                        consumer.accept(record);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * sequence 까지의 기록만 담은 세그먼트를 지우고 지운 수를 반환합니다.
+     * 다음 세그먼트가 sequence + 1 이하에서 시작하는 세그먼트만 지우므로 현재 세그먼트는 지우지 않습니다.
+     */
+    @Override
+    public int prune(long sequence) {
+
+        try {
+            List<Path> segments = segments();
+            int pruned = 0;
+            while (pruned + 1 < segments.size() && firstSequenceOf(segments.get(pruned + 1)) <= sequence + 1) {
+                Files.deleteIfExists(segments.get(pruned));
+                pruned++;
+            }
+            if (pruned > 0) {
+                syncDirectory();
+            }
+            return pruned;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 마지막 순번 (기록이 없으면 0)
+     */
+    public long lastSequence() {
+
+        lock.lock();
+        try {
+            return nextSequence - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 남은 기록을 디스크에 반영하고 새 기록을 막습니다.
+     */
+    @Override
+    public void close() {
+
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            segment.force();
+            syncedSequence = nextSequence - 1;
+            dirty.signalAll();
+            durable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (syncThread != null) {
+            try {
+                syncThread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 세그먼트를 처음부터 확인하여 순번이 처음 끊기는 자리 (crc 불일치, 빈 자리, 세그먼트 사이의 빈 순번) 를 찾습니다.
+     * 그 바로 앞이 짝 없는 송금의 첫 기록이면 그 기록부터 끊긴 것으로 봅니다.
+     * 그 뒤에 남은 기록이 새 기록과 섞여 재생되지 않도록, 그 자리 이후를 잘라내고 (뒤 세그먼트는 삭제) 디스크에 반영한 뒤 이어 씁니다.
+     */
+    private void recover() throws IOException {
+
+        List<Path> segments = segments();
+        if (segments.isEmpty()) {
+            open(1);
+            return;
+        }
+        byte[] bytes = new byte[RECORD_SIZE];
+        CRC32C crc = new CRC32C();
+        Path tail = null;
+        long expected = firstSequenceOf(segments.get(0));
+        int valid = 0;
+        int slots = 0;
+        int kept = 0;
+        for (; kept < segments.size(); kept++) {
+            Path path = segments.get(kept);
+            long first = firstSequenceOf(path);
+            if (first != expected) {
+                break;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                slots = (int) (channel.size() / RECORD_SIZE);
+                valid = 0;
+                while (valid < slots && decode(buffer, valid, first + valid, bytes, crc) != null) {
+                    valid++;
+                }
+            }
+            tail = path;
+            expected = first + valid;
+        }
+        if (valid > 0 && pairedWithNext(tail, valid - 1)) {
+            valid--;
+            expected--;
+            log.warn("저널 복구: {} 번 송금 기록의 짝이 없어 잘라냅니다.", expected);
+        }
+        for (int s = kept; s < segments.size(); s++) {
+            Files.delete(segments.get(s));
+        }
+        try (FileChannel channel = FileChannel.open(tail, StandardOpenOption.WRITE)) {
+            channel.truncate((long) valid * RECORD_SIZE);
+            channel.force(true);
+        }
+        if (kept < segments.size()) {
+            syncDirectory();
+            log.warn("저널 복구: {} 번 이후가 끊겨 세그먼트 {} 개를 지웠습니다.", expected - 1, segments.size() - kept);
+        }
+
+        int capacity = Math.max(segmentRecords, slots);
+        segment = map(tail, capacity);
+        segmentCapacity = capacity;
+        position = valid;
+        nextSequence = expected;
+        log.info("저널 복구: segments={}, lastSequence={}", kept, nextSequence - 1);
+    }
+
+    /**
+     * 현재 세그먼트를 디스크에 반영하고 다음 세그먼트를 엽니다. (lock 보유 중 호출)
+     * 지난 세그먼트는 다시 반영하지 않으므로 반영 방식과 관계없이 반영합니다.
+     */
+    private void roll() {
+
+        segment.force();
+        try {
+            open(nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void open(long firstSequence) throws IOException {
+
+        segment = map(directory.resolve(String.format("%020d%s", firstSequence, SEGMENT_SUFFIX)), segmentRecords);
+        segmentCapacity = segmentRecords;
+        position = 0;
+        nextSequence = firstSequence;
+    }
+
+    /**
+     * GROUP : 기록이 생기면 바로 반영하고 기다리는 요청을 깨웁니다.
+     * INTERVAL : syncInterval 마다 반영합니다.
+     */
+    private void runSync() {
+
+        lock.lock();
+        try {
+            while (!closed) {
+                if (syncMode == JournalSyncMode.INTERVAL) {
+                    dirty.awaitNanos(syncIntervalNanos);
+                } else {
+                    while (!closed && syncedSequence == nextSequence - 1) {
+                        dirty.await();
+                    }
+                }
+                if (closed) {
+                    return;
+                }
+                forceCurrent();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 반영합니다. 이전 세그먼트는 넘어갈 때 이미 반영되었습니다.
+     * fsync 동안에는 lock 을 풀어 기록이 계속 쌓이도록 하고, 그 기록은 다음 반영에 함께 포함됩니다.
+     */
+    private void forceCurrent() {
+
+        long target = nextSequence - 1;
+        if (target == syncedSequence) {
+            return;
+        }
+        MappedByteBuffer buffer = segment;
+        lock.unlock();
+        try {
+            buffer.force();
+        } finally {
+            lock.lock();
+        }
+        if (target > syncedSequence) {
+            syncedSequence = target;
+        }
+        durable.signalAll();
+    }
+
+    private void encode(long sequence, long userId, long amount, TransactionType type, long updateMillis, int flags) {
+
+        scratch.clear();
+        scratch.putLong(sequence)
+               .putLong(userId)
+               .putLong(amount)
+               .putLong(updateMillis)
+               .putInt((type.ordinal() + 1) | flags);
+        checksum.reset();
+        checksum.update(scratch.array(), 0, CHECKSUM_OFFSET);
+        scratch.putInt((int) checksum.getValue());
+    }
+
+    private static PointJournalRecord decode(ByteBuffer buffer, int index, long expected, byte[] bytes, CRC32C crc) {
+
+        buffer.get(index * RECORD_SIZE, bytes);
+        ByteBuffer record = ByteBuffer.wrap(bytes);
+        long sequence = record.getLong(0);
+        int type = record.getInt(TYPE_OFFSET) & ~PAIRED_WITH_NEXT;
+        if (sequence != expected || type <= 0 || type > TYPES.length) {
+            return null;
+        }
+        crc.reset();
+        crc.update(bytes, 0, CHECKSUM_OFFSET);
+        if ((int) crc.getValue() != record.getInt(CHECKSUM_OFFSET)) {
+            return null;
+        }
+        return new PointJournalRecord(sequence, record.getLong(8), record.getLong(16), TYPES[type - 1], record.getLong(24));
+    }
+
+    /**
+     * decode 로 읽은 기록이 송금의 첫 기록인지 확인합니다.
+     */
+    private static boolean pairedWithNext(byte[] bytes) {
+        return (ByteBuffer.wrap(bytes).getInt(TYPE_OFFSET) & PAIRED_WITH_NEXT) != 0;
+    }
+
+    private static boolean pairedWithNext(Path segment, int index) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer type = ByteBuffer.allocate(4);
+            channel.read(type, (long) index * RECORD_SIZE + TYPE_OFFSET);
+            return (type.getInt(0) & PAIRED_WITH_NEXT) != 0;
+        }
+    }
+
+    private static MappedByteBuffer map(Path path, int records) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) records * RECORD_SIZE);
+        }
+    }
+
+    /**
+     * 세그먼트 파일의 삭제가 디스크에 남도록 디렉터리를 반영합니다.
+     */
+    private void syncDirectory() throws IOException {
+
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                        .sorted()
+                        .toList();
+        }
+    }
+
+    private static long firstSequenceOf(Path path) {
+
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.function.Consumer;
+
+/**
+ * 저널을 사용하지 않을 때의 구현 (아무것도 남기지 않습니다)
+ */
+public class NoOpPointJournal implements PointJournal {
+
+    @Override
+    public long append(long userId, long amount, TransactionType type, long updateMillis) {
+        return 0;
+    }
+
+    @Override
+    public void sync(long sequence) {
+    }
+
+    @Override
+    public void replay(long afterSequence, Consumer<PointJournalRecord> consumer) {
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.function.Consumer;
+
+/**
+ * 확정된 포인트 충전/사용을 순서대로 남기는 저널
+ */
+public interface PointJournal {
+
+    /**
+     * 거래 한 건을 추가하고 부여된 순번을 반환합니다.
+     */
+    long append(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * 송금 한 건을 보낸 유저의 사용, 받은 유저의 충전 두 기록으로 이어서 추가하고 마지막 순번을 반환합니다.
+     */
+    default long appendTransfer(long fromUserId, long toUserId, long amount, long updateMillis) {
+        append(fromUserId, amount, TransactionType.USE, updateMillis);
+        return append(toUserId, amount, TransactionType.CHARGE, updateMillis);
+    }
+
+    /**
+     * sequence 까지의 기록이 디스크에 반영될 때까지 기다립니다. (그룹 fsync 모드에서만 기다립니다)
+     */
+    void sync(long sequence);
+
+    /**
+     * 저널에 남은 거래를 기록된 순서대로 전달합니다.
+     */
+    default void replay(Consumer<PointJournalRecord> consumer) {
+        replay(0, consumer);
+    }
+
+    /**
+     * afterSequence 보다 뒤의 거래만 기록된 순서대로 전달합니다.
+     */
+    void replay(long afterSequence, Consumer<PointJournalRecord> consumer);
+
+    /**
+     * sequence 까지의 기록이 더 이상 재생에 필요 없을 때 (스냅샷에 반영됨) 그 기록만 담은 저장 공간을 지우고, 지운 세그먼트 수를 반환합니다.
+     */
+    default int prune(long sequence) {
+        return 0;
+    }
+}
@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.metrics.PointRecoveryMetrics;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointSummaryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointStoreProperties;
+import io.hhplus.tdd.point.repository.UserPointStoreType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties({PointJournalProperties.class, PointSnapshotProperties.class})
+public class PointJournalConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.journal", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public PointJournal noOpPointJournal() {
+        return new NoOpPointJournal();
+    }
+
+    /**
+     * 컨텍스트 종료 시 close() 가 호출되어 남은 기록을 디스크에 반영합니다.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "point.journal", name = "enabled", havingValue = "true")
+    public MappedPointJournal mappedPointJournal(PointJournalProperties properties) {
+        return new MappedPointJournal(Path.of(properties.directory()), properties.segmentRecords(),
+                properties.syncMode(), properties.syncInterval());
+    }
+
+    /**
+     * 재생은 저널에 남은 모든 유저의 잔액을 기록하므로, 기록마다 지연이 있는 UserPointTable 로는 시작이 끝나지 않습니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point.journal", name = "enabled", havingValue = "true")
+    public PointJournalReplayer pointJournalReplayer(MappedPointJournal mappedPointJournal,
+                                                     UserPointRepository userPointRepository,
+                                                     PointHistoryRepository pointHistoryRepository,
+                                                     PointSummaryRepository pointSummaryRepository,
+                                                     ObjectProvider<PointSnapshotStore> pointSnapshotStore,
+                                                     UserPointStoreProperties userPointStoreProperties) {
+        if (userPointStoreProperties.store() != UserPointStoreType.PRIMITIVE) {
+            throw new IllegalStateException("point.journal.enabled 는 point.balance.store=primitive 와 함께 써야 합니다.");
+        }
+        return new PointJournalReplayer(mappedPointJournal, userPointRepository, pointHistoryRepository,
+                pointSnapshotStore.getIfAvailable(), pointSummaryRepository);
+    }
+
+    /**
+     * 스냅샷은 전체 유저의 잔액을 복구하므로, 기록마다 지연이 있는 UserPointTable 로는 시작이 끝나지 않습니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point", name = {"journal.enabled", "snapshot.enabled"}, havingValue = "true")
+    public PointSnapshotStore pointSnapshotStore(PointSnapshotProperties properties,
+                                                 UserPointStoreProperties userPointStoreProperties) {
+        if (userPointStoreProperties.store() != UserPointStoreType.PRIMITIVE) {
+            throw new IllegalStateException("point.snapshot.enabled 는 point.balance.store=primitive 와 함께 써야 합니다.");
+        }
+        return new PointSnapshotStore(Path.of(properties.directory()));
+    }
+
+    /**
+     * 컨텍스트 종료 시 close() 가 호출되어 마지막 스냅샷을 남깁니다. (저널보다 먼저 종료됩니다)
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "point", name = {"journal.enabled", "snapshot.enabled"}, havingValue = "true")
+    public PointSnapshotter pointSnapshotter(MappedPointJournal mappedPointJournal,
+                                             PointSnapshotStore pointSnapshotStore,
+                                             PointSnapshotProperties properties) {
+        return new PointSnapshotter(mappedPointJournal, pointSnapshotStore, properties.interval(), properties.retain());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.journal", name = "enabled", havingValue = "true")
+    public PointRecoveryMetrics pointRecoveryMetrics(PointJournalReplayer pointJournalReplayer,
+                                                     ObjectProvider<PointSnapshotter> pointSnapshotter) {
+        return new PointRecoveryMetrics(pointJournalReplayer, pointSnapshotter.getIfAvailable());
+    }
+}
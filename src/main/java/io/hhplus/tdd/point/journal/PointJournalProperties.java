@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 거래 저널 설정 (point.journal.*)
+ *
+ * @param enabled        충전/사용을 저널에 남기고 시작 시 재생하여 잔액과 내역을 복구할지 여부
+ * @param directory      세그먼트 파일을 둘 디렉터리
+ * @param segmentRecords 세그먼트 파일 하나에 담을 기록 수
+ * @param syncMode       디스크 반영 방식
+ * @param syncInterval   INTERVAL 모드의 반영 주기
+ */
+@ConfigurationProperties(prefix = "point.journal")
+public record PointJournalProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/journal") String directory,
+        @DefaultValue("1048576") int segmentRecords,
+        @DefaultValue("GROUP") JournalSyncMode syncMode,
+        @DefaultValue("10ms") Duration syncInterval
+) {
+}
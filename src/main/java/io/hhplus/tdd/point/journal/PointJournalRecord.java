@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 저널에 남은 거래 한 건
+ *
+ * @param id 저널 순번 (1 부터 빈틈없이 증가합니다)
+ */
+public record PointJournalRecord(
+        long id,
+        long userId,
+        long amount,
+        TransactionType type,
+        long updateMillis
+) {
+}
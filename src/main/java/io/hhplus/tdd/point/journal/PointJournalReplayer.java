@@ -0,0 +1,133 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.journal.PointSnapshotStore.Snapshot;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointSummaryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션 시작 시 저널을 재생하여 잔액과 내역을 복구합니다.
+ * 모든 빈이 만들어진 뒤, 웹 서버가 요청을 받기 전에 실행됩니다.
+ *
+ * - 내역은 저널 순번을 id 로 하여 내역 저장소에 적재하고, 누적 집계에도 더합니다.
+ * - 잔액은 유저별로 모두 더한 뒤 유저당 한 번만 기록합니다.
+ * - 스냅샷이 있으면 스냅샷의 잔액에 그 이후의 저널 기록만 더합니다. 스냅샷 이전의 내역은 적재하지 않고,
+ *   집계도 스냅샷 이후의 거래만 포함하므로 집계에 그 시작 시각(첫 재생 기록, 없으면 복구 시각)을 표시합니다.
+ */
+public class PointJournalReplayer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(PointJournalReplayer.class);
+
+    private final PointJournal pointJournal;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointSnapshotStore snapshotStore;
+    private final PointSummaryRepository pointSummaryRepository;
+
+    private volatile long recoveryNanos;
+    private volatile long replayedRecords;
+    private volatile long recoveredUsers;
+    private long firstReplayedMillis;
+
+    public PointJournalReplayer(PointJournal pointJournal,
+                                UserPointRepository userPointRepository,
+                                PointHistoryRepository pointHistoryRepository) {
+        this(pointJournal, userPointRepository, pointHistoryRepository, null, null);
+    }
+
+    public PointJournalReplayer(PointJournal pointJournal,
+                                UserPointRepository userPointRepository,
+                                PointHistoryRepository pointHistoryRepository,
+                                PointSnapshotStore snapshotStore) {
+        this(pointJournal, userPointRepository, pointHistoryRepository, snapshotStore, null);
+    }
+
+    /**
+     * @param snapshotStore          스냅샷을 사용하지 않으면 null
+     * @param pointSummaryRepository 누적 집계를 복구하지 않으면 null
+     */
+    public PointJournalReplayer(PointJournal pointJournal,
+                                UserPointRepository userPointRepository,
+                                PointHistoryRepository pointHistoryRepository,
+                                PointSnapshotStore snapshotStore,
+                                PointSummaryRepository pointSummaryRepository) {
+        this.pointJournal = pointJournal;
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.snapshotStore = snapshotStore;
+        this.pointSummaryRepository = pointSummaryRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+
+        long started = System.nanoTime();
+        Optional<Snapshot> snapshot = snapshotStore == null ? Optional.empty() : snapshotStore.latest();
+        Map<Long, Long> deltas = replay(snapshot.map(Snapshot::sequence).orElse(0L));
+
+        long[] users = {0};
+        snapshot.ifPresent(base -> snapshotStore.forEach(base, (userId, point) -> {
+            Long delta = deltas.remove(userId);
+            userPointRepository.insertOrUpdate(userId, delta == null ? point : point + delta);
+            users[0]++;
+        }));
+        deltas.forEach((userId, point) -> {
+            userPointRepository.insertOrUpdate(userId, point);
+            users[0]++;
+        });
+
+        if (snapshot.isPresent() && pointSummaryRepository != null) {
+            pointSummaryRepository.coverFrom(replayedRecords > 0 ? firstReplayedMillis : System.currentTimeMillis());
+        }
+        recoveredUsers = users[0];
+        recoveryNanos = System.nanoTime() - started;
+        log.info("저널 재생 완료: snapshot={}, records={}, users={}, elapsed={}ms",
+                snapshot.map(Snapshot::sequence).orElse(0L), replayedRecords, recoveredUsers,
+                TimeUnit.NANOSECONDS.toMillis(recoveryNanos));
+    }
+
+    public long recoveryNanos() {
+        return recoveryNanos;
+    }
+
+    public long replayedRecords() {
+        return replayedRecords;
+    }
+
+    public long recoveredUsers() {
+        return recoveredUsers;
+    }
+
+    /**
+     * afterSequence 이후의 내역을 적재하고 유저별 잔액 변화량을 계산합니다.
+     */
+    private Map<Long, Long> replay(long afterSequence) {
+
+        Map<Long, Long> deltas = new HashMap<>();
+        long[] records = {0};
+        pointJournal.replay(afterSequence, record -> {
+            long delta = record.type() == TransactionType.CHARGE ? record.amount() : -record.amount();
+            deltas.merge(record.userId(), delta, Long::sum);
+            pointHistoryRepository.restore(new PointHistory(record.id(), record.userId(), record.amount(),
+                    record.type(), record.updateMillis()));
+            if (pointSummaryRepository != null) {
+                pointSummaryRepository.add(record.userId(), record.type(), record.amount(), record.updateMillis());
+            }
+            if (records[0]++ == 0) {
+                firstReplayedMillis = record.updateMillis();
+            }
+        });
+        replayedRecords = records[0];
+        return deltas;
+    }
+}
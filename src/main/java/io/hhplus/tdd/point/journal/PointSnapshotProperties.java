@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 잔액 스냅샷 설정 (point.snapshot.*, 저널을 사용할 때만 동작합니다)
+ *
+ * @param enabled   주기적으로 잔액 스냅샷을 남기고, 시작 시 최근 스냅샷 이후의 저널만 재생할지 여부
+ * @param directory 스냅샷 파일을 둘 디렉터리
+ * @param interval  스냅샷 주기
+ * @param retain    남겨 둘 스냅샷 수
+ */
+@ConfigurationProperties(prefix = "point.snapshot")
+public record PointSnapshotProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("data/snapshot") String directory,
+        @DefaultValue("5m") Duration interval,
+        @DefaultValue("2") int retain
+) {
+}
@@ -0,0 +1,375 @@
+package io.hhplus.tdd.point.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 유저 잔액 스냅샷 파일 저장소
+ *
+ * 파일 형식
+ * - 헤더 : magic(4) version(4) sequence(8)
+ * - 본문 : userId 오름차순으로 (userId 차이, zigzag 잔액) 을 varint 로 이어 씁니다. userId 차이 0 이 끝 표시입니다.
+ * - 꼬리 : 유저 수(8) crc32c(4) (본문에 대한 값)
+ *
+ * 스냅샷은 sequence 번 저널 기록까지 반영한 잔액이며, 임시 파일에 다 쓴 뒤 이름을 바꿔 공개하고 디렉터리까지 반영합니다.
+ */
+public class PointSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotStore.class);
+
+    private static final int MAGIC = 0x50534E50; // "PSNP"
+    private static final int VERSION = 1;
+    private static final String PREFIX = "snapshot-";
+    private static final String SUFFIX = ".snap";
+    private static final int HEADER_SIZE = 16;
+    private static final int TRAILER_SIZE = 12;
+    private static final int MAX_VARLONG_SIZE = 10;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+
+    public PointSnapshotStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param sequence  반영된 마지막 저널 순번
+     * @param userCount 담긴 유저 수
+     * @param sizeBytes 파일 크기
+     */
+    public record Snapshot(Path path, long sequence, long userCount, long sizeBytes) {
+    }
+
+    @FunctionalInterface
+    public interface BalanceConsumer {
+        void accept(long userId, long point);
+    }
+
+    /**
+     * 본문의 crc 까지 확인한 가장 최근 스냅샷
+     * 다 쓰지 못했거나 손상된 파일은 건너뛰고 이전 스냅샷을 사용합니다. (본문을 한 번 끝까지 읽습니다)
+     */
+    public Optional<Snapshot> latest() {
+
+        List<Path> snapshots = snapshots();
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Path path = snapshots.get(i);
+            try {
+                Snapshot snapshot = new Snapshot(path, sequenceOf(path), readUserCount(path), Files.size(path));
+                verify(snapshot);
+                return Optional.of(snapshot);
+            } catch (IOException e) {
+                log.warn("손상된 스냅샷을 건너뜁니다. {}: {}", path, e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 남아 있는 가장 오래된 스냅샷의 순번 (없으면 0)
+     * 최근 스냅샷이 손상되면 이전 스냅샷부터 복구하므로, 저널은 이 순번 이후를 남겨야 합니다.
+     */
+    public long oldestSequence() {
+
+        List<Path> snapshots = snapshots();
+        return snapshots.isEmpty() ? 0 : sequenceOf(snapshots.get(0));
+    }
+
+    /**
+     * 스냅샷의 잔액을 userId 오름차순으로 전달합니다. 본문이 손상되었으면 예외를 던집니다.
+     */
+    public void forEach(Snapshot snapshot, BalanceConsumer consumer) {
+
+        try (Reader reader = new Reader(snapshot.path())) {
+            while (reader.next()) {
+                consumer.accept(reader.userId, reader.point);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * base 스냅샷에 유저별 잔액 변화량(deltas)을 더한 새 스냅샷을 씁니다.
+     * base 를 읽으면서 바로 쓰므로 메모리는 deltas 크기에만 비례합니다.
+     */
+    public Snapshot write(Optional<Snapshot> base, long sequence, Map<Long, Long> deltas) {
+
+        long[] userIds = deltas.keySet().stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(userIds);
+
+        Path target = directory.resolve(String.format("%s%020d%s", PREFIX, sequence, SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        long userCount = 0;
+        try (Writer writer = new Writer(temp, sequence);
+             Reader reader = base.isPresent() ? new Reader(base.get().path()) : null) {
+
+            int d = 0;
+            boolean hasBase = reader != null && reader.next();
+            while (hasBase || d < userIds.length) {
+                if (hasBase && (d == userIds.length || reader.userId < userIds[d])) {
+                    writer.write(reader.userId, reader.point);
+                    hasBase = reader.next();
+                } else if (hasBase && reader.userId == userIds[d]) {
+                    writer.write(reader.userId, reader.point + deltas.get(userIds[d++]));
+                    hasBase = reader.next();
+                } else {
+                    writer.write(userIds[d], deltas.get(userIds[d++]));
+                }
+                userCount++;
+            }
+            writer.finish(userCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            syncDirectory();
+            return new Snapshot(target, sequence, userCount, Files.size(target));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 최근 retain 개만 남기고 이전 스냅샷을 지웁니다.
+     */
+    public void prune(int retain) {
+
+        List<Path> snapshots = snapshots();
+        for (int i = 0; i < snapshots.size() - retain; i++) {
+            try {
+                Files.deleteIfExists(snapshots.get(i));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * 본문을 끝까지 읽어 유저 수와 crc 를 확인합니다.
+     */
+    private static void verify(Snapshot snapshot) throws IOException {
+
+        try (Reader reader = new Reader(snapshot.path())) {
+            while (reader.next()) {
+                // 끝 표시에서 유저 수와 crc 를 확인합니다.
+            }
+        }
+    }
+
+    /**
+     * 이름을 바꾼 결과가 디스크에 남도록 디렉터리를 반영합니다.
+     */
+    private void syncDirectory() throws IOException {
+
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private List<Path> snapshots() {
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                            String name = path.getFileName().toString();
+                            return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                        })
+                        .sorted()
+                        .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long sequenceOf(Path path) {
+
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static long readUserCount(Path path) throws IOException {
+
+        long size = Files.size(path);
+        if (size < HEADER_SIZE + 1 + TRAILER_SIZE) {
+            throw new EOFException(path.toString());
+        }
+        try (FileChannel channel = FileChannel.open(path)) {
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_SIZE);
+            channel.read(trailer, size - TRAILER_SIZE);
+            return trailer.getLong(0);
+        }
+    }
+
+    /**
+     * 본문을 64KB 단위로 모아 crc 를 갱신하고 씁니다.
+     */
+    private static final class Writer implements AutoCloseable {
+
+        private final FileOutputStream file;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final CRC32C checksum = new CRC32C();
+        private int position;
+        private long previousUserId;
+
+        Writer(Path path, long sequence) throws IOException {
+            this.file = new FileOutputStream(path.toFile());
+            file.write(ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putLong(sequence).array());
+        }
+
+        void write(long userId, long point) throws IOException {
+            if (position > BUFFER_SIZE - 2 * MAX_VARLONG_SIZE) {
+                flushBody();
+            }
+            writeVarLong(userId - previousUserId);
+            writeVarLong((point << 1) ^ (point >> 63));
+            previousUserId = userId;
+        }
+
+        void finish(long userCount) throws IOException {
+            if (position == BUFFER_SIZE) {
+                flushBody();
+            }
+            writeVarLong(0);
+            flushBody();
+            file.write(ByteBuffer.allocate(TRAILER_SIZE).putLong(userCount).putInt((int) checksum.getValue()).array());
+            file.getFD().sync();
+        }
+
+        private void flushBody() throws IOException {
+            checksum.update(buffer, 0, position);
+            file.write(buffer, 0, position);
+            position = 0;
+        }
+
+        private void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        @Override
+        public void close() throws IOException {
+            file.close();
+        }
+    }
+
+    /**
+     * 64KB 단위로 읽어 배열에서 바로 varint 를 풀고, 읽어 넘긴 본문만큼 crc 를 갱신합니다.
+     */
+    private static final class Reader implements AutoCloseable {
+
+        private final FileInputStream file;
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private final CRC32C checksum = new CRC32C();
+        private int position;
+        private int limit;
+        private int checksumFrom;
+        private long userId;
+        private long point;
+        private long count;
+
+        Reader(Path path) throws IOException {
+            this.file = new FileInputStream(path.toFile());
+            fill(HEADER_SIZE);
+            ByteBuffer header = ByteBuffer.wrap(buffer, 0, HEADER_SIZE);
+            if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+                file.close();
+                throw new IOException("스냅샷 형식이 아닙니다. " + path);
+            }
+            position = HEADER_SIZE;
+            checksumFrom = HEADER_SIZE;
+        }
+
+        boolean next() throws IOException {
+            if (limit - position < 2 * MAX_VARLONG_SIZE) {
+                fill(2 * MAX_VARLONG_SIZE);
+            }
+            long delta = readVarLong();
+            if (delta == 0) {
+                verify();
+                return false;
+            }
+            long zigzag = readVarLong();
+            userId += delta;
+            point = (zigzag >>> 1) ^ -(zigzag & 1);
+            count++;
+            return true;
+        }
+
+        private void verify() throws IOException {
+            checksum.update(buffer, checksumFrom, position - checksumFrom);
+            checksumFrom = position;
+            fill(TRAILER_SIZE);
+            ByteBuffer trailer = ByteBuffer.wrap(buffer, position, TRAILER_SIZE);
+            if (limit - position < TRAILER_SIZE || trailer.getLong() != count || trailer.getInt() != (int) checksum.getValue()) {
+                throw new IOException("스냅샷이 손상되었습니다.");
+            }
+        }
+
+        /**
+         * 읽지 않은 바이트를 앞으로 옮기고 최소 required 바이트가 남도록 채웁니다. (파일 끝이면 덜 채워질 수 있습니다)
+         */
+        private void fill(int required) throws IOException {
+            checksum.update(buffer, checksumFrom, position - checksumFrom);
+            int remaining = limit - position;
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+            position = 0;
+            checksumFrom = 0;
+            limit = remaining;
+            while (limit < required) {
+                int read = file.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    return;
+                }
+                limit += read;
+            }
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position == limit) {
+                    throw new EOFException("스냅샷이 잘렸습니다.");
+                }
+                int b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("varint 가 너무 깁니다.");
+        }
+
+        @Override
+        public void close() throws IOException {
+            file.close();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.journal.PointSnapshotStore.Snapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백그라운드에서 주기적으로 잔액 스냅샷을 남깁니다.
+ *
+ * 잔액 테이블은 전체 유저를 순회할 수 없으므로, 직전 스냅샷에 그 이후의 저널 기록을 더해 새 스냅샷을 만듭니다.
+ * 저널은 추가만 되므로 쓰기를 멈추지 않아도 스냅샷은 항상 특정 순번 시점의 일관된 잔액이 됩니다.
+ * 남겨 둔 스냅샷 중 가장 오래된 것까지 반영된 저널 세그먼트는 지웁니다.
+ */
+public class PointSnapshotter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotter.class);
+
+    private final PointJournal pointJournal;
+    private final PointSnapshotStore snapshotStore;
+    private final int retain;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Snapshot lastSnapshot;
+    private volatile long lastDurationNanos;
+    private volatile long snapshotCount;
+
+    public PointSnapshotter(PointJournal pointJournal, PointSnapshotStore snapshotStore, Duration interval, int retain) {
+
+        this.pointJournal = pointJournal;
+        this.snapshotStore = snapshotStore;
+        this.retain = Math.max(1, retain);
+        this.lastSnapshot = snapshotStore.latest().orElse(null);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::snapshotQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 직전 스냅샷 이후 저널 기록이 있으면 새 스냅샷을 남깁니다.
+     * 직전 스냅샷은 시작할 때 확인했거나 직접 남긴 것이므로 다시 확인하지 않습니다.
+     */
+    public synchronized Optional<Snapshot> snapshot() {
+
+        long started = System.nanoTime();
+        Optional<Snapshot> base = Optional.ofNullable(lastSnapshot);
+        long after = base.map(Snapshot::sequence).orElse(0L);
+
+        Map<Long, Long> deltas = new HashMap<>();
+        long[] last = {after};
+        pointJournal.replay(after, record -> {
+            long delta = record.type() == TransactionType.CHARGE ? record.amount() : -record.amount();
+            deltas.merge(record.userId(), delta, Long::sum);
+            last[0] = record.id();
+        });
+        if (last[0] == after) {
+            return Optional.empty();
+        }
+
+        Snapshot snapshot = snapshotStore.write(base, last[0], deltas);
+        snapshotStore.prune(retain);
+        int prunedSegments = pointJournal.prune(snapshotStore.oldestSequence());
+        lastDurationNanos = System.nanoTime() - started;
+        lastSnapshot = snapshot;
+        snapshotCount++;
+        log.info("잔액 스냅샷: sequence={}, users={}, size={}B, elapsed={}ms, prunedSegments={}", snapshot.sequence(),
+                snapshot.userCount(), snapshot.sizeBytes(), TimeUnit.NANOSECONDS.toMillis(lastDurationNanos), prunedSegments);
+        return Optional.of(snapshot);
+    }
+
+    public Optional<Snapshot> lastSnapshot() {
+        return Optional.ofNullable(lastSnapshot);
+    }
+
+    public long lastDurationNanos() {
+        return lastDurationNanos;
+    }
+
+    public long snapshotCount() {
+        return snapshotCount;
+    }
+
+    /**
+     * 주기 작업을 멈추고, 다음 시작 시 재생할 저널이 적도록 마지막 스냅샷을 남깁니다.
+     */
+    @Override
+    public void close() {
+
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        snapshotQuietly();
+    }
+
+    private void snapshotQuietly() {
+
+        try {
+            snapshot();
+        } catch (RuntimeException e) {
+            log.error("잔액 스냅샷 실패: {}", e.getMessage(), e);
+        }
+    }
+}
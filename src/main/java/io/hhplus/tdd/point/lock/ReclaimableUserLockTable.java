@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 락을 만들되, 락을 쥐고 있거나 기다리는 스레드가 없으면 테이블에서 제거합니다.
+ * 테이블 크기는 동시에 처리 중인 유저 수로 제한됩니다.
+ */
+public class ReclaimableUserLockTable implements UserLockTable {
+
+    private final ConcurrentHashMap<Long, UserLock> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public Lock lockOf(long userId) {
+        // 참조 수는 compute 안에서만 변경되므로 키 단위로 원자적입니다.
+        return locks.compute(userId, (id, lock) -> {
+            UserLock userLock = lock == null ? new UserLock() : lock;
+            userLock.references++;
+            return userLock;
+        });
+    }
+
+    @Override
+    public void release(long userId, Lock lock) {
+        locks.computeIfPresent(userId, (id, userLock) -> --userLock.references == 0 ? null : userLock);
+    }
+
+    @Override
+    public int size() {
+        return locks.size();
+    }
+
+    private static class UserLock extends ReentrantLock {
+        private int references;
+    }
+}
@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 크기(2의 거듭제곱) 락 배열에 유저 아이디를 해시하여 락을 나눠 씁니다.
+ * 유저 수와 무관하게 메모리 사용량이 일정하고, 조회 시 객체를 만들지 않습니다.
+ * 같은 스트라이프에 묶인 유저끼리는 서로를 기다릴 수 있습니다.
+ */
+public class StripedUserLockTable implements UserLockTable {
+
+    static final int MAX_STRIPES = 1 << 30;
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public StripedUserLockTable(int stripeCount) {
+        if (stripeCount <= 0 || stripeCount > MAX_STRIPES) {
+            throw new IllegalArgumentException("스트라이프 수는 1 ~ " + MAX_STRIPES + " 사이여야 합니다. stripes: " + stripeCount);
+        }
+        int size = Integer.highestOneBit(stripeCount);
+        if (size < stripeCount) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    @Override
+    public Lock lockOf(long userId) {
+        return stripes[indexOf(userId)];
+    }
+
+    @Override
+    public void release(long userId, Lock lock) {
+        // 고정 배열이므로 반납할 것이 없습니다.
+    }
+
+    /**
+     * 같은 스트라이프의 유저는 같은 락이므로 스트라이프 인덱스 순서로 잡습니다.
+     */
+    @Override
+    public long lockOrderOf(long userId) {
+        return indexOf(userId);
+    }
+
+    @Override
+    public int size() {
+        return stripes.length;
+    }
+
+    /**
+     * 연속된 아이디가 고르게 퍼지도록 섞은 뒤 스트라이프 인덱스를 구합니다.
+     */
+    int indexOf(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.constant.ErrorMessage;
+
+/**
+ * 유저 락을 기다리지 못하고 거절된 요청
+ * - TOO_MANY_WAITERS : 같은 유저의 대기 요청이 가득 참
+ * - USER_LOCK_TIMEOUT : 정해진 시간 안에 락을 얻지 못함
+ */
+public class UserLockBusyException extends RuntimeException {
+
+    private final ErrorMessage reason;
+
+    public UserLockBusyException(ErrorMessage reason, String message) {
+        super(message);
+        this.reason = reason;
+    }
+
+    public ErrorMessage reason() {
+        return reason;
+    }
+}
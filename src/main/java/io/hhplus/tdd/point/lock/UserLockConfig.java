@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.shard.ConditionalOnShardDisabled;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(UserLockProperties.class)
+public class UserLockConfig {
+
+    /**
+     * 샤드를 켜면 샤드마다 락 테이블을 따로 두므로 등록하지 않습니다.
+     */
+    @Bean
+    @ConditionalOnShardDisabled
+    public UserLockTable userLockTable(UserLockProperties properties) {
+        return switch (properties.mode()) {
+            case STRIPED -> new StripedUserLockTable(properties.stripes());
+            case RECLAIMABLE -> new ReclaimableUserLockTable();
+        };
+    }
+
+    @Bean
+    public UserLockWaitLimiter userLockWaitLimiter(UserLockProperties properties) {
+        return new UserLockWaitLimiter(properties.waitTimeout(), properties.maxWaiters());
+    }
+}
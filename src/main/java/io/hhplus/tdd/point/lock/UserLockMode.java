@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.lock;
+
+/**
+ * 유저 락 테이블 종류
+ * - STRIPED : 고정 크기 락 배열에 유저 아이디를 해시하여 나눠 씁니다.
+ * - RECLAIMABLE : 유저별 락을 만들고, 사용 중인 스레드가 없으면 회수합니다.
+ */
+public enum UserLockMode {
+    STRIPED, RECLAIMABLE
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 유저 락 설정 (point.lock.*)
+ *
+ * @param mode        락 테이블 종류
+ * @param stripes     STRIPED 모드의 락 개수 (2의 거듭제곱으로 올림)
+ * @param waitTimeout 락을 기다리는 최대 시간, 넘기면 503 으로 거절 (0 이면 제한 없음)
+ * @param maxWaiters  유저별 최대 대기 요청 수, 넘기면 429 로 거절 (0 이면 제한 없음)
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record UserLockProperties(
+        @DefaultValue("STRIPED") UserLockMode mode,
+        @DefaultValue("4096") int stripes,
+        @DefaultValue("0s") Duration waitTimeout,
+        @DefaultValue("0") int maxWaiters
+) {
+}
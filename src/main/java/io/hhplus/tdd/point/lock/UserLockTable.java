@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 유저 아이디별 락 테이블
+ * - lockOf 로 받은 락은 잠금/해제 후 반드시 release 로 반납합니다.
+ */
+public interface UserLockTable {
+
+    /**
+     * 유저의 락을 가져옵니다. (잠그지는 않습니다)
+     */
+    Lock lockOf(long userId);
+
+    /**
+     * 사용이 끝난 락을 반납합니다.
+     */
+    void release(long userId, Lock lock);
+
+    /**
+     * 여러 유저의 락을 함께 잡을 때의 순서
+     * 모든 호출이 이 값이 작은 락부터 잡으므로 서로를 기다리는 순환이 생기지 않습니다. 값이 같으면 같은 락입니다.
+     */
+    default long lockOrderOf(long userId) {
+        return userId;
+    }
+
+    /**
+     * 현재 테이블이 보유한 락의 수
+     */
+    int size();
+}
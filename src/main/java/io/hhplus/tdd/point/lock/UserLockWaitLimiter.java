@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.constant.ErrorMessage;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 유저 락을 바로 얻지 못한 요청의 대기를 제한합니다.
+ *
+ * - 같은 유저의 락을 기다리는 요청이 maxWaiters 명이면 새 요청은 기다리지 않고 바로 거절합니다.
+ * - 기다리는 요청도 waitTimeout 안에 락을 얻지 못하면 포기합니다.
+ * - 대기 인원은 락을 기다리는 동안만 유저별로 세며, 마지막 대기자가 빠지면 항목을 지웁니다.
+ */
+public class UserLockWaitLimiter {
+
+    private final long waitTimeoutNanos;
+    private final int maxWaiters;
+    private final ConcurrentHashMap<Long, Integer> waiters = new ConcurrentHashMap<>();
+
+    /**
+     * @param waitTimeout 락을 기다리는 최대 시간 (0 이면 제한 없음)
+     * @param maxWaiters  유저별 최대 대기 요청 수 (0 이면 제한 없음)
+     */
+    public UserLockWaitLimiter(Duration waitTimeout, int maxWaiters) {
+
+        if (waitTimeout.isNegative() || maxWaiters < 0) {
+            throw new IllegalArgumentException("대기 시간과 대기 요청 수는 0 이상이어야 합니다. waitTimeout: " + waitTimeout + ", maxWaiters: " + maxWaiters);
+        }
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.maxWaiters = maxWaiters;
+    }
+
+    /**
+     * 제한 없이 기다립니다.
+     */
+    public static UserLockWaitLimiter unbounded() {
+        return new UserLockWaitLimiter(Duration.ZERO, 0);
+    }
+
+    /**
+     * 대기 자리를 잡고 락을 얻을 때까지 기다립니다. tryLock 이 실패한 뒤에 호출합니다.
+     *
+     * @return 락을 기다리기 시작할 때 자신을 포함한 대기 요청 수
+     * @throws UserLockBusyException 대기 요청이 가득 찼거나, 기다리는 시간을 넘겼거나, 기다리는 중 인터럽트되었을 때
+     */
+    public int acquire(long userId, Lock lock) {
+
+        int waiting = enter(userId);
+        try {
+            if (waitTimeoutNanos == 0) {
+                lock.lock();
+                return waiting;
+            }
+            if (!lock.tryLock(waitTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new UserLockBusyException(ErrorMessage.USER_LOCK_TIMEOUT,
+                        ErrorMessage.USER_LOCK_TIMEOUT.format(userId, TimeUnit.NANOSECONDS.toMillis(waitTimeoutNanos)));
+            }
+            return waiting;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UserLockBusyException(ErrorMessage.USER_LOCK_TIMEOUT,
+                    ErrorMessage.USER_LOCK_TIMEOUT.format(userId, TimeUnit.NANOSECONDS.toMillis(waitTimeoutNanos)));
+        } finally {
+            exit(userId);
+        }
+    }
+
+    /**
+     * 유저의 락을 기다리고 있는 요청 수
+     */
+    public int waiters(long userId) {
+        return waiters.getOrDefault(userId, 0);
+    }
+
+    private int enter(long userId) {
+
+        // 가득 찼으면 값을 그대로 두고 0 을 돌려받아 거절합니다.
+        int[] waiting = new int[1];
+        waiters.compute(userId, (id, count) -> {
+            int current = count == null ? 0 : count;
+            if (maxWaiters > 0 && current >= maxWaiters) {
+                return count;
+            }
+            waiting[0] = current + 1;
+            return waiting[0];
+        });
+        if (waiting[0] == 0) {
+            throw new UserLockBusyException(ErrorMessage.TOO_MANY_WAITERS, ErrorMessage.TOO_MANY_WAITERS.format(userId, maxWaiters));
+        }
+        return waiting[0];
+    }
+
+    private void exit(long userId) {
+        waiters.computeIfPresent(userId, (id, count) -> count == 1 ? null : count - 1);
+    }
+}
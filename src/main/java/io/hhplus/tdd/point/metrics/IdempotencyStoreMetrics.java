@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 멱등 키 저장소 지표
+ * - point.idempotency.replays
+ * - point.idempotency.evictions
+ * - point.idempotency.size
+ */
+@RequiredArgsConstructor
+public class IdempotencyStoreMetrics implements MeterBinder {
+
+    private final IdempotencyStore store;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        FunctionCounter.builder("point.idempotency.replays", store, s -> s.stats().replays())
+                       .description("같은 멱등 키로 다시 들어와 처음 결과를 돌려준 요청 수")
+                       .register(registry);
+        FunctionCounter.builder("point.idempotency.evictions", store, s -> s.stats().evictions())
+                       .description("최대 크기를 넘어 만료 전에 밀려난 멱등 키 수")
+                       .register(registry);
+        Gauge.builder("point.idempotency.size", store, s -> s.stats().size())
+             .description("보관 중인 멱등 키 수")
+             .register(registry);
+    }
+}
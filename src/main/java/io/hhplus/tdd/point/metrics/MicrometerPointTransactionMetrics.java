@@ -0,0 +1,110 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.constant.ErrorMessage;
+import io.hhplus.tdd.point.hotaccount.HotAccountTracker;
+import io.hhplus.tdd.point.lock.UserLockTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 충전/사용 처리 지표
+ * - point.transaction.stage{stage=lock_wait|lock_hold|balance_read|...} : 구간별 시간 (퍼센타일 히스토그램)
+ * - point.transaction.rejections{reason=INSUFFICIENT_BALANCE|...} : 사유별 거절 수
+ * - point.lock.table.size : 유저 락 테이블이 보유한 락 수 (샤드를 켜면 모든 샤드의 합)
+ * - point.lock.contentions : 유저 락을 바로 얻지 못하고 기다린 횟수 (유저별 상위 집계는 HotAccountTracker)
+ *
+ * Timer/Counter 는 생성 시 모두 만들어 두고 배열로 찾으므로, 요청마다 태그를 조합하거나 레지스트리를 조회하지 않습니다.
+ */
+public class MicrometerPointTransactionMetrics implements PointTransactionMetrics {
+
+    private final Timer[] stageTimers;
+    private final Counter[] rejectionCounters;
+    private final Counter contentionCounter;
+    private final HotAccountTracker hotAccountTracker;
+
+    public MicrometerPointTransactionMetrics(MeterRegistry registry, UserLockTable userLockTable) {
+        this(registry, userLockTable, true, null);
+    }
+
+    /**
+     * @param percentileHistogram 구간별 시간을 히스토그램 버킷으로도 내보낼지 여부 (기록 비용이 두 배 정도 늘어납니다)
+     * @param hotAccountTracker   락 경합 유저 추적기 (없으면 null)
+     */
+    public MicrometerPointTransactionMetrics(MeterRegistry registry, UserLockTable userLockTable,
+                                             boolean percentileHistogram, HotAccountTracker hotAccountTracker) {
+        this(registry, userLockTable::size, percentileHistogram, hotAccountTracker);
+    }
+
+    /**
+     * @param lockTableSize 유저 락 테이블이 보유한 락 수 (샤드별 테이블이면 그 합)
+     */
+    public MicrometerPointTransactionMetrics(MeterRegistry registry, IntSupplier lockTableSize,
+                                             boolean percentileHistogram, HotAccountTracker hotAccountTracker) {
+
+        PointTransactionStage[] stages = PointTransactionStage.values();
+        this.stageTimers = new Timer[stages.length];
+        for (PointTransactionStage stage : stages) {
+            stageTimers[stage.ordinal()] = Timer.builder("point.transaction.stage")
+                                                .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                                                .description("충전/사용 처리 구간별 시간")
+                                                .publishPercentileHistogram(percentileHistogram)
+                                                .minimumExpectedValue(Duration.ofNanos(1_000))
+                                                .maximumExpectedValue(Duration.ofSeconds(10))
+                                                .register(registry);
+        }
+
+        ErrorMessage[] reasons = ErrorMessage.values();
+        this.rejectionCounters = new Counter[reasons.length];
+        for (ErrorMessage reason : reasons) {
+            rejectionCounters[reason.ordinal()] = Counter.builder("point.transaction.rejections")
+                                                         .tag("reason", reason.name())
+                                                         .description("검증에 실패하여 거절된 요청 수")
+                                                         .register(registry);
+        }
+
+        this.contentionCounter = Counter.builder("point.lock.contentions")
+                                        .description("유저 락을 바로 얻지 못하고 기다린 횟수")
+                                        .register(registry);
+        this.hotAccountTracker = hotAccountTracker;
+
+        // 메서드 참조는 다른 곳에서 참조하지 않으므로 게이지가 강하게 붙잡아 둡니다.
+        Gauge.builder("point.lock.table.size", lockTableSize::getAsInt)
+             .description("유저 락 테이블이 보유한 락 수")
+             .strongReference(true)
+             .register(registry);
+    }
+
+    @Override
+    public long start() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public long record(PointTransactionStage stage, long startNanos) {
+        long now = System.nanoTime();
+        stageTimers[stage.ordinal()].record(now - startNanos, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    @Override
+    public long recordContention(long userId, int waiters, long startNanos) {
+        long now = record(PointTransactionStage.LOCK_WAIT, startNanos);
+        contentionCounter.increment();
+        if (hotAccountTracker != null) {
+            hotAccountTracker.record(userId, waiters, now - startNanos, now);
+        }
+        return now;
+    }
+
+    @Override
+    public void reject(ErrorMessage reason) {
+        rejectionCounters[reason.ordinal()].increment();
+    }
+}
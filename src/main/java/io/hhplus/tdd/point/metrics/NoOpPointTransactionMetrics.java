@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.constant.ErrorMessage;
+
+/**
+ * 지표를 남기지 않을 때의 구현 (시각도 읽지 않습니다)
+ */
+public class NoOpPointTransactionMetrics implements PointTransactionMetrics {
+
+    @Override
+    public long start() {
+        return 0;
+    }
+
+    @Override
+    public long record(PointTransactionStage stage, long startNanos) {
+        return 0;
+    }
+
+    @Override
+    public long recordContention(long userId, int waiters, long startNanos) {
+        return 0;
+    }
+
+    @Override
+    public void reject(ErrorMessage reason) {
+    }
+}
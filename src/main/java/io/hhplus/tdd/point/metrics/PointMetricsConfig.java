@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.hotaccount.HotAccountTracker;
+import io.hhplus.tdd.point.lock.UserLockTable;
+import io.hhplus.tdd.point.shard.ShardUserLockTables;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.IntSupplier;
+
+@Configuration
+@EnableConfigurationProperties(PointMetricsProperties.class)
+public class PointMetricsConfig {
+
+    /**
+     * 샤드를 켜면 유저 락 테이블 대신 샤드별 락 테이블의 합을 point.lock.table.size 로 내보냅니다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public PointTransactionMetrics micrometerPointTransactionMetrics(MeterRegistry meterRegistry,
+                                                                     ObjectProvider<UserLockTable> userLockTable,
+                                                                     ObjectProvider<ShardUserLockTables> shardUserLockTables,
+                                                                     PointMetricsProperties properties,
+                                                                     ObjectProvider<HotAccountTracker> hotAccountTracker) {
+        ShardUserLockTables shardTables = shardUserLockTables.getIfAvailable();
+        IntSupplier lockTableSize = shardTables != null ? shardTables::size : userLockTable.getObject()::size;
+        return new MicrometerPointTransactionMetrics(meterRegistry, lockTableSize, properties.percentileHistogram(),
+                hotAccountTracker.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.metrics", name = "enabled", havingValue = "false")
+    public PointTransactionMetrics noOpPointTransactionMetrics() {
+        return new NoOpPointTransactionMetrics();
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 처리 지표 설정 (point.metrics.*)
+ *
+ * @param enabled             구간별 시간/거절 수 측정 여부
+ * @param percentileHistogram 구간별 시간을 퍼센타일 히스토그램 버킷으로도 내보낼지 여부
+ */
+@ConfigurationProperties(prefix = "point.metrics")
+public record PointMetricsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("true") boolean percentileHistogram
+) {
+}
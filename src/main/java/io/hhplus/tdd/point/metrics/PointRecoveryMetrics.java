@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.journal.PointJournalReplayer;
+import io.hhplus.tdd.point.journal.PointSnapshotStore.Snapshot;
+import io.hhplus.tdd.point.journal.PointSnapshotter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저널 복구/잔액 스냅샷 지표
+ * - point.recovery.duration, point.recovery.records, point.recovery.users
+ * - point.snapshot.duration, point.snapshot.size, point.snapshot.users, point.snapshot.sequence, point.snapshot.count
+ */
+@RequiredArgsConstructor
+public class PointRecoveryMetrics implements MeterBinder {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final PointJournalReplayer replayer;
+    private final PointSnapshotter snapshotter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        Gauge.builder("point.recovery.duration", replayer, r -> r.recoveryNanos() / NANOS_PER_SECOND)
+             .baseUnit("seconds")
+             .description("시작 시 스냅샷 적재와 저널 재생에 걸린 시간")
+             .register(registry);
+        Gauge.builder("point.recovery.records", replayer, PointJournalReplayer::replayedRecords)
+             .description("시작 시 재생한 저널 기록 수")
+             .register(registry);
+        Gauge.builder("point.recovery.users", replayer, PointJournalReplayer::recoveredUsers)
+             .description("시작 시 잔액을 복구한 유저 수")
+             .register(registry);
+
+        if (snapshotter == null) {
+            return;
+        }
+        Gauge.builder("point.snapshot.duration", snapshotter, s -> s.lastDurationNanos() / NANOS_PER_SECOND)
+             .baseUnit("seconds")
+             .description("마지막 스냅샷에 걸린 시간")
+             .register(registry);
+        Gauge.builder("point.snapshot.size", snapshotter, s -> s.lastSnapshot().map(Snapshot::sizeBytes).orElse(0L))
+             .baseUnit("bytes")
+             .description("마지막 스냅샷 파일 크기")
+             .register(registry);
+        Gauge.builder("point.snapshot.users", snapshotter, s -> s.lastSnapshot().map(Snapshot::userCount).orElse(0L))
+             .description("마지막 스냅샷에 담긴 유저 수")
+             .register(registry);
+        Gauge.builder("point.snapshot.sequence", snapshotter, s -> s.lastSnapshot().map(Snapshot::sequence).orElse(0L))
+             .description("마지막 스냅샷에 반영된 저널 순번")
+             .register(registry);
+        FunctionCounter.builder("point.snapshot.count", snapshotter, PointSnapshotter::snapshotCount)
+                       .description("이번 실행에서 남긴 스냅샷 수")
+                       .register(registry);
+    }
+}
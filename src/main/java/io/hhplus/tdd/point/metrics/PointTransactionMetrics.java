@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.constant.ErrorMessage;
+
+/**
+ * 충전/사용 처리 구간별 시간과 거절 수를 남깁니다.
+ *
+ * 구간 시작 시 start() 로 받은 값을 구간이 끝날 때 record 에 넘깁니다.
+ * record 는 끝난 시각을 돌려주므로 바로 이어지는 구간은 시각을 다시 읽지 않고 그 값을 시작 시각으로 씁니다.
+ */
+public interface PointTransactionMetrics {
+
+    /**
+     * 구간 시작 시각 (측정하지 않으면 0)
+     */
+    long start();
+
+    /**
+     * start() 이후 지난 시간을 구간 시간으로 남기고, 끝난 시각을 반환합니다.
+     */
+    long record(PointTransactionStage stage, long startNanos);
+
+    /**
+     * 유저 락을 바로 얻지 못하고 기다린 경우 LOCK_WAIT 대신 호출합니다. 대기 시간을 남기고 끝난 시각을 반환합니다.
+     *
+     * @param waiters 락을 얻으려 할 때 기다리던 스레드 수 (자신 포함)
+     */
+    long recordContention(long userId, int waiters, long startNanos);
+
+    /**
+     * 검증에 실패하여 거절된 요청을 사유별로 셉니다.
+     */
+    void reject(ErrorMessage reason);
+}
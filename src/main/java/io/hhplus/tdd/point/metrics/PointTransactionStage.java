@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.metrics;
+
+/**
+ * 충전/사용 처리 구간
+ * - LOCK_WAIT : 유저 락을 얻기까지 기다린 시간
+ * - LOCK_HOLD : 유저 락을 쥐고 있던 시간
+ * - BALANCE_READ / BALANCE_WRITE : 잔액 저장소 조회/기록
+ * - JOURNAL_APPEND / JOURNAL_SYNC : 저널 기록/디스크 반영 대기
+ * - HISTORY_WRITE : 내역 기록
+ */
+public enum PointTransactionStage {
+
+    LOCK_WAIT,
+    LOCK_HOLD,
+    BALANCE_READ,
+    JOURNAL_APPEND,
+    BALANCE_WRITE,
+    HISTORY_WRITE,
+    JOURNAL_SYNC
+}
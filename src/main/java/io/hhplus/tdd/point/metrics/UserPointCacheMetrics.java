@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.metrics;
+
+import io.hhplus.tdd.point.repository.CachedUserPointRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 잔액 캐시 적중/미스/축출 지표
+ * - point.cache.gets{result=hit|miss}
+ * - point.cache.evictions
+ * - point.cache.size
+ */
+@RequiredArgsConstructor
+public class UserPointCacheMetrics implements MeterBinder {
+
+    private final CachedUserPointRepository cache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        FunctionCounter.builder("point.cache.gets", cache, c -> c.stats().hits())
+                       .tag("result", "hit")
+                       .description("잔액 캐시에서 바로 응답한 조회 수")
+                       .register(registry);
+        FunctionCounter.builder("point.cache.gets", cache, c -> c.stats().misses())
+                       .tag("result", "miss")
+                       .description("잔액 저장소까지 내려간 조회 수")
+                       .register(registry);
+        FunctionCounter.builder("point.cache.evictions", cache, c -> c.stats().evictions())
+                       .description("용량 초과로 밀려난 캐시 항목 수")
+                       .register(registry);
+        Gauge.builder("point.cache.size", cache, c -> c.stats().size())
+             .description("캐시된 유저 수")
+             .register(registry);
+    }
+}
@@ -0,0 +1,172 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 잔액 저장소 앞단의 write-through LRU 캐시
+ *
+ * - 쓰기는 저장소에 먼저 기록한 뒤 캐시를 덮어씁니다. 유저 락 안에서 호출되므로 유저별로 일관됩니다.
+ * - 읽기는 캐시에 없을 때만 저장소를 조회하고, 조회하는 동안 같은 세그먼트에 쓰기가 있었다면 조회 결과를 캐시에 넣지 않습니다.
+ *   (유저 락 없이 읽은 값이므로, 그 사이 기록되었다가 밀려난 새 잔액을 옛 값으로 덮어쓰지 않도록 합니다)
+ * - 경합을 줄이기 위해 유저 아이디로 나눈 세그먼트마다 따로 LRU 를 유지합니다.
+ */
+public class CachedUserPointRepository implements UserPointRepository {
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final UserPointRepository delegate;
+    private final Segment[] segments;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachedUserPointRepository(UserPointRepository delegate, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다. maxSize: " + maxSize);
+        }
+        this.delegate = delegate;
+        int segmentCount = Math.min(SEGMENT_COUNT, maxSize);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // 나머지는 앞쪽 세그먼트에 나눠 주어 전체 용량이 maxSize 가 되도록 합니다.
+            segments[i] = new Segment(maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+
+        Segment segment = segmentOf(id);
+        UserPoint cached = segment.get(id);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        long version = segment.version();
+        UserPoint loaded = delegate.selectById(id);
+        if (loaded == null) {
+            return null;
+        }
+        UserPoint winner = segment.putIfUnchanged(id, loaded, version);
+        return winner == null ? loaded : winner;
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+
+        UserPoint userPoint = delegate.insertOrUpdate(id, amount);
+        if (userPoint != null) {
+            segmentOf(id).put(id, userPoint);
+        }
+        return userPoint;
+    }
+
+    public CacheStats stats() {
+
+        long size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private Segment segmentOf(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return segments[(int) ((hash >>> 32) % segments.length)];
+    }
+
+    /**
+     * 캐시 통계
+     *
+     * @param hits      캐시에서 바로 응답한 조회 수
+     * @param misses    저장소까지 내려간 조회 수
+     * @param evictions 용량 초과로 밀려난 항목 수
+     * @param size      현재 캐시된 유저 수
+     */
+    public record CacheStats(long hits, long misses, long evictions, long size) {
+    }
+
+    /**
+     * 접근 순서를 유지하는 LinkedHashMap 으로 구현한 LRU 세그먼트
+     * 조회도 순서를 바꾸므로 읽기/쓰기 모두 락을 잡습니다.
+     * version 은 쓰기마다 증가하여, 저장소를 조회하는 동안 쓰기가 있었는지 확인하는 데 사용합니다.
+     */
+    private final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, UserPoint> entries;
+        private long version;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        UserPoint get(long id) {
+            lock.lock();
+            try {
+                return entries.get(id);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long version() {
+            lock.lock();
+            try {
+                return version;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * version 이후 쓰기가 없었을 때만 넣고, 이미 캐시된 값이 있으면 그 값을 반환합니다.
+         */
+        UserPoint putIfUnchanged(long id, UserPoint userPoint, long expectedVersion) {
+            lock.lock();
+            try {
+                if (version != expectedVersion) {
+                    return entries.get(id);
+                }
+                return entries.putIfAbsent(id, userPoint);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void put(long id, UserPoint userPoint) {
+            lock.lock();
+            try {
+                version++;
+                entries.put(id, userPoint);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
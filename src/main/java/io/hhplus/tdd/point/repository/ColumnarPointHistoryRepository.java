@@ -0,0 +1,191 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 내역을 원시 타입 열(column) 배열로 보관하는 저장소
+ *
+ * - 유저마다 id / amount / type+updateMillis 세 열을 long 배열 하나에 같은 위치로 이어 씁니다. (내역당 24 바이트)
+ * - PointHistory 객체는 조회 결과로 돌려줄 내역만 만듭니다. 페이지 조회는 열 배열에서 조건을 확인한 뒤 맞는 내역만 만듭니다.
+ * - 전역 리스트나 PointHistoryTable 을 거치지 않으며, id 는 저장소가 직접 발급합니다.
+ * - 쓰기는 유저 단위 ReentrantLock 으로 직렬화하고, 읽기는 락 없이 size 까지의 열을 읽습니다.
+ *   (가상 스레드가 기다리는 동안 캐리어 스레드를 붙잡지 않도록 모니터를 쓰지 않습니다)
+ */
+public class ColumnarPointHistoryRepository implements PointHistoryRepository {
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final int COLUMN_COUNT = 3;
+    private static final long MILLIS_MASK = (1L << 56) - 1;
+
+    private final ConcurrentHashMap<Long, UserColumns> userColumns = new ConcurrentHashMap<>();
+    private final AtomicLong lastId = new AtomicLong();
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+
+        UserColumns columns = columnsOf(userId);
+        long id;
+        columns.lock.lock();
+        try {
+            // 유저별 id 오름차순을 유지하도록 발급과 추가를 함께 직렬화합니다.
+            id = lastId.incrementAndGet();
+            columns.append(id, amount, type, updateMillis);
+        } finally {
+            columns.lock.unlock();
+        }
+        return new PointHistory(id, userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+
+        UserColumns columns = userColumns.get(userId);
+        return columns == null ? List.of() : columns.selectAll(userId);
+    }
+
+    @Override
+    public PointHistoryPage selectPageByUserId(long userId, PointHistoryQuery query) {
+
+        UserColumns columns = userColumns.get(userId);
+        return columns == null ? PointHistoryPage.empty() : columns.page(userId, query);
+    }
+
+    /**
+     * 복구한 내역을 id 그대로 추가하고, 이후 발급하는 id 는 그 뒤로 이어 붙입니다.
+     */
+    @Override
+    public void restore(PointHistory pointHistory) {
+
+        UserColumns columns = columnsOf(pointHistory.userId());
+        columns.lock.lock();
+        try {
+            columns.append(pointHistory.id(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+        } finally {
+            columns.lock.unlock();
+        }
+        lastId.accumulateAndGet(pointHistory.id(), Math::max);
+    }
+
+    /**
+     * 보관 중인 전체 내역 수
+     */
+    public long size() {
+
+        long size = 0;
+        for (UserColumns columns : userColumns.values()) {
+            size += columns.size;
+        }
+        return size;
+    }
+
+    private UserColumns columnsOf(long userId) {
+        return userColumns.computeIfAbsent(userId, id -> new UserColumns());
+    }
+
+    /**
+     * 유저 한 명의 내역 열 (추가만 가능, 호출자가 lock 으로 동기화)
+     *
+     * 용량 c 인 long 배열 하나를 [id c 칸 | amount c 칸 | type+updateMillis c 칸] 으로 나누어 씁니다.
+     * type 은 updateMillis 의 상위 8 비트에 담습니다. (updateMillis 는 하위 56 비트 범위로 부호 확장하여 복원)
+     * 배열 하나로 유지하여 유저당 배열 헤더를 줄이고, 용량은 1.5 배씩 늘려 남는 칸을 줄입니다.
+     */
+    private static final class UserColumns {
+
+        private static final int TYPE_SHIFT = 56;
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile long[] rows = new long[2 * COLUMN_COUNT];
+        private volatile int size;
+
+        void append(long id, long amount, TransactionType type, long updateMillis) {
+
+            long[] current = rows;
+            int capacity = current.length / COLUMN_COUNT;
+            if (size == capacity) {
+                current = grow(current, capacity, capacity + (capacity >> 1) + 1);
+            }
+            capacity = current.length / COLUMN_COUNT;
+            current[size] = id;
+            current[capacity + size] = amount;
+            current[2 * capacity + size] = ((long) type.ordinal() << TYPE_SHIFT) | (updateMillis & MILLIS_MASK);
+            if (current != rows) {
+                rows = current; // volatile 쓰기로 복사된 원소를 함께 공개합니다.
+            }
+            size = size + 1; // volatile 쓰기로 앞선 원소를 공개합니다.
+        }
+
+        List<PointHistory> selectAll(long userId) {
+
+            int length = size; // size 를 먼저 읽어야 rows 에 length 개 이상이 보장됩니다.
+            long[] current = rows;
+            int capacity = current.length / COLUMN_COUNT;
+            PointHistory[] histories = new PointHistory[length];
+            for (int i = 0; i < length; i++) {
+                histories[i] = materialize(current, capacity, i, userId);
+            }
+            return Collections.unmodifiableList(Arrays.asList(histories));
+        }
+
+        /**
+         * id 열은 오름차순이므로 커서 위치는 이진 탐색으로 찾고, 시각 조건은 열에서 바로 확인합니다.
+         */
+        PointHistoryPage page(long userId, PointHistoryQuery query) {
+
+            int length = size;
+            long[] current = rows;
+            int capacity = current.length / COLUMN_COUNT;
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (current[mid] <= query.after()) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            List<PointHistory> histories = new ArrayList<>(Math.min(query.limit(), length - low));
+            for (int i = low; i < length; i++) {
+                if (!query.matches(current[i], millisOf(current[2 * capacity + i]))) {
+                    continue;
+                }
+                histories.add(materialize(current, capacity, i, userId));
+                if (histories.size() == query.limit()) {
+                    Long nextAfter = i + 1 < length ? current[i] : null;
+                    return new PointHistoryPage(Collections.unmodifiableList(histories), nextAfter);
+                }
+            }
+            return new PointHistoryPage(Collections.unmodifiableList(histories), null);
+        }
+
+        private static long[] grow(long[] current, int capacity, int newCapacity) {
+            long[] grown = new long[newCapacity * COLUMN_COUNT];
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                System.arraycopy(current, column * capacity, grown, column * newCapacity, capacity);
+            }
+            return grown;
+        }
+
+        private static PointHistory materialize(long[] rows, int capacity, int index, long userId) {
+            long typeAndMillis = rows[2 * capacity + index];
+            return new PointHistory(rows[index], userId, rows[capacity + index],
+                    TYPES[(int) (typeAndMillis >>> TYPE_SHIFT)], millisOf(typeAndMillis));
+        }
+
+        private static long millisOf(long typeAndMillis) {
+            return (typeAndMillis << (64 - TYPE_SHIFT)) >> (64 - TYPE_SHIFT);
+        }
+    }
+}
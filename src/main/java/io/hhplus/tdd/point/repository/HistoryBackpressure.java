@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point.repository;
+
+/**
+ * 내역 대기열이 가득 찼을 때의 처리 방식
+ * - BLOCK : 대기열에 자리가 날 때까지 기다립니다.
+ * - CALLER_RUNS : 해당 유저의 대기 내역이 없으면 요청 스레드가 직접 테이블에 기록하고, 있으면 기다립니다.
+ */
+public enum HistoryBackpressure {
+    BLOCK, CALLER_RUNS
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 집계를 불변 PointSummary 로 보관하고 거래마다 새 값으로 바꿉니다.
+ * 조회는 락 없이 항상 어느 한 시점의 일관된 집계를 받습니다.
+ * 스냅샷으로 복구했으면 조회하는 집계마다 포함하는 거래의 시작 시각을 표시합니다.
+ */
+public class InMemoryPointSummaryRepository implements PointSummaryRepository {
+
+    private final ConcurrentHashMap<Long, PointSummary> summaries = new ConcurrentHashMap<>();
+    private volatile long coveredFromMillis;
+
+    @Override
+    public PointSummary selectById(long userId) {
+
+        PointSummary summary = summaries.get(userId);
+        if (summary == null) {
+            summary = PointSummary.empty(userId);
+        }
+        return coveredFromMillis == 0 ? summary : summary.coveredFrom(coveredFromMillis);
+    }
+
+    @Override
+    public void add(long userId, TransactionType type, long amount, long updateMillis) {
+
+        summaries.compute(userId, (id, summary) ->
+                (summary == null ? PointSummary.empty(id) : summary).add(type, amount, updateMillis));
+    }
+
+    @Override
+    public void coverFrom(long coveredFromMillis) {
+        this.coveredFromMillis = coveredFromMillis;
+    }
+
+    /**
+     * 집계가 있는 유저 수
+     */
+    public int size() {
+        return summaries.size();
+    }
+}
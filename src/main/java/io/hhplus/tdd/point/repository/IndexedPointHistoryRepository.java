@@ -0,0 +1,61 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PointHistoryTable 에 기록하면서 유저별 보조 인덱스를 함께 유지합니다.
+ * 테이블의 selectAllByUserId 는 전체 내역을 순회하므로, 조회는 인덱스에서만 처리하여
+ * 전체 내역 수와 무관하게 해당 유저의 내역 수에만 비례하도록 합니다.
+ *
+ * PointHistoryTable.insert 는 동시 호출에 안전하지 않으므로(ArrayList, cursor++) 여러 유저의 기록을 tableLock 으로 한 번에 하나씩 테이블에 남깁니다.
+ */
+@RequiredArgsConstructor
+public class IndexedPointHistoryRepository implements PointHistoryRepository {
+
+    private final PointHistoryTable pointHistoryTable;
+
+    private final PointHistoryIndex index = new PointHistoryIndex();
+    private final ReentrantLock tableLock = new ReentrantLock();
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+
+        PointHistory pointHistory;
+        tableLock.lock();
+        try {
+            pointHistory = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        } finally {
+            tableLock.unlock();
+        }
+        return index.append(pointHistory);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+
+        return index.selectAllByUserId(userId);
+    }
+
+    @Override
+    public PointHistoryPage selectPageByUserId(long userId, PointHistoryQuery query) {
+
+        return index.selectPage(userId, query);
+    }
+
+    /**
+     * 복구한 내역은 인덱스에만 추가합니다. (테이블은 조회에 사용하지 않습니다)
+     */
+    @Override
+    public void restore(PointHistory pointHistory) {
+
+        index.restore(pointHistory);
+    }
+}
@@ -0,0 +1,200 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 내역을 대기열(outbox)에 넣고 백그라운드 writer 가 PointHistoryTable 에 기록합니다.
+ *
+ * - 유저는 항상 같은 writer 의 대기열로 배정되므로 유저별 기록 순서가 유지됩니다.
+ * - PointHistoryTable.insert 는 동시 호출에 안전하지 않으므로(ArrayList, cursor++) writer 와 직접 기록하는 요청 스레드는
+ *   tableLock 으로 한 번에 하나씩만 테이블에 기록합니다. writer 가 여럿이어도 테이블 기록은 겹치지 않습니다.
+ * - 대기 중인 내역도 인덱스에 함께 보관하여, 기록 직후의 조회에서도 보입니다. (id 는 테이블 기록 후 확정되며 그 전에는 0 입니다)
+ * - 테이블 기록에 실패한 내역은 id 없이 실패한 내역으로 옮기므로, 전체 조회에는 보이지만 id 커서 페이지에는 나오지 않습니다.
+ * - 종료(close) 시 새 요청을 막고 대기열에 남은 내역을 모두 기록한 뒤 writer 를 멈춥니다.
+ */
+public class OutboxPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxPointHistoryRepository.class);
+
+    private static final PointHistory STOP = new PointHistory(-1, -1, 0, null, 0);
+
+    private final PointHistoryTable pointHistoryTable;
+    private final HistoryBackpressure backpressure;
+    private final Duration shutdownTimeout;
+
+    private final PointHistoryIndex index = new PointHistoryIndex();
+    private final List<BlockingQueue<PointHistory>> queues = new ArrayList<>();
+    private final List<Thread> writers = new ArrayList<>();
+
+    private final ReentrantLock tableLock = new ReentrantLock();
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    public OutboxPointHistoryRepository(PointHistoryTable pointHistoryTable, int capacity, int writerCount,
+                                        HistoryBackpressure backpressure, Duration shutdownTimeout) {
+        if (writerCount <= 0 || capacity < writerCount) {
+            throw new IllegalArgumentException("writer 는 1개 이상, 대기열 크기는 writer 수 이상이어야 합니다. capacity: "
+                    + capacity + ", writers: " + writerCount);
+        }
+        this.pointHistoryTable = pointHistoryTable;
+        this.backpressure = backpressure;
+        this.shutdownTimeout = shutdownTimeout;
+        for (int i = 0; i < writerCount; i++) {
+            BlockingQueue<PointHistory> queue = new ArrayBlockingQueue<>(capacity / writerCount);
+            Thread writer = new Thread(() -> drain(queue), "point-history-writer-" + i);
+            writer.setDaemon(true);
+            queues.add(queue);
+            writers.add(writer);
+        }
+        writers.forEach(Thread::start);
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+
+        PointHistory pending = new PointHistory(0, userId, amount, type, updateMillis);
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("내역 기록이 종료되었습니다. userId: " + userId);
+            }
+            index.appendPending(pending);
+            BlockingQueue<PointHistory> queue = queueOf(userId);
+            if (queue.offer(pending)) {
+                return pending;
+            }
+            // 유저의 앞선 대기 내역이 없을 때만 직접 기록해야 순서가 유지됩니다.
+            if (backpressure == HistoryBackpressure.CALLER_RUNS && index.pendingCount(userId) == 1) {
+                return write(pending);
+            }
+            putUninterruptibly(queue, pending);
+            return pending;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+
+        return index.selectAllByUserId(userId);
+    }
+
+    /**
+     * 기록이 끝나 id 가 확정된 내역만 조회합니다.
+     */
+    @Override
+    public PointHistoryPage selectPageByUserId(long userId, PointHistoryQuery query) {
+
+        return index.selectPage(userId, query);
+    }
+
+    @Override
+    public void restore(PointHistory pointHistory) {
+
+        index.restore(pointHistory);
+    }
+
+    /**
+     * 새 내역을 막고, 남은 내역을 모두 기록할 때까지 최대 shutdownTimeout 동안 기다립니다.
+     */
+    @Override
+    public void close() {
+
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        queues.forEach(queue -> putUninterruptibly(queue, STOP));
+
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (Thread writer : writers) {
+            try {
+                writer.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        int remaining = queues.stream().mapToInt(BlockingQueue::size).sum();
+        if (remaining > 0) {
+            log.warn("종료 대기 시간 안에 기록하지 못한 내역이 {}건 남았습니다.", remaining);
+        }
+    }
+
+    private void drain(BlockingQueue<PointHistory> queue) {
+
+        while (true) {
+            PointHistory pending;
+            try {
+                pending = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (pending == STOP) {
+                return;
+            }
+            write(pending);
+        }
+    }
+
+    private PointHistory write(PointHistory pending) {
+
+        try {
+            PointHistory persisted;
+            tableLock.lock();
+            try {
+                persisted = pointHistoryTable.insert(pending.userId(), pending.amount(), pending.type(), pending.updateMillis());
+            } finally {
+                tableLock.unlock();
+            }
+            return index.commitPending(persisted);
+        } catch (RuntimeException e) {
+            // id 없는 내역이 기록된 내역에 섞이면 id 순 페이지가 깨지므로 실패한 내역으로 따로 둡니다.
+            log.error("사용자 ID {}의 내역 기록 중 오류 발생: {}", pending.userId(), e.getMessage());
+            index.failPending(pending.userId());
+            return pending;
+        }
+    }
+
+    private BlockingQueue<PointHistory> queueOf(long userId) {
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return queues.get((int) ((hash >>> 32) % queues.size()));
+    }
+
+    private static void putUninterruptibly(BlockingQueue<PointHistory> queue, PointHistory pointHistory) {
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(pointHistory);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
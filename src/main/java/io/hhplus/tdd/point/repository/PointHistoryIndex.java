@@ -0,0 +1,238 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 포인트 내역 인덱스
+ *
+ * 유저마다 테이블에 기록된 내역(written)과 아직 기록을 기다리는 내역(pending)을 순서대로 유지합니다.
+ * 테이블 기록에 실패한 내역(failed)은 id 가 없으므로 written 에 넣지 않고 따로 보관합니다. (written 은 항상 발급된 id 만 가집니다)
+ * 쓰기는 유저 단위 ReentrantLock 으로 직렬화하고 (가상 스레드가 캐리어 스레드를 붙잡지 않도록), 대기 내역이 없을 때의 읽기는 락 없이 스냅샷을 복사합니다.
+ *
+ * 저널에서 복구한 내역이 있으면 테이블이 새로 발급하는 id 를 복구된 마지막 id 뒤로 이어 붙여
+ * 유저별 내역이 항상 id 오름차순을 유지하도록 합니다.
+ */
+class PointHistoryIndex {
+
+    private final ConcurrentHashMap<Long, UserHistory> userHistories = new ConcurrentHashMap<>();
+
+    private volatile long idBase;
+
+    /**
+     * 테이블에 기록된 내역을 추가하고, 인덱스에 저장된 내역을 반환합니다.
+     */
+    PointHistory append(PointHistory pointHistory) {
+        PointHistory indexed = shift(pointHistory);
+        userHistoryOf(indexed.userId()).append(indexed);
+        return indexed;
+    }
+
+    /**
+     * 저널에서 복구한 내역을 id 그대로 추가합니다. 기록이 시작되기 전에만 호출합니다.
+     */
+    void restore(PointHistory pointHistory) {
+        userHistoryOf(pointHistory.userId()).append(pointHistory);
+        if (pointHistory.id() > idBase) {
+            idBase = pointHistory.id();
+        }
+    }
+
+    /**
+     * 기록을 기다리는 내역을 추가합니다.
+     */
+    void appendPending(PointHistory pointHistory) {
+        userHistoryOf(pointHistory.userId()).appendPending(pointHistory);
+    }
+
+    /**
+     * 가장 오래된 대기 내역을 테이블에 기록된 내역으로 옮깁니다.
+     */
+    PointHistory commitPending(PointHistory persisted) {
+        PointHistory indexed = shift(persisted);
+        userHistoryOf(indexed.userId()).commitPending(indexed);
+        return indexed;
+    }
+
+    /**
+     * 가장 오래된 대기 내역을 기록에 실패한 내역으로 옮깁니다.
+     */
+    void failPending(long userId) {
+        userHistoryOf(userId).failPending();
+    }
+
+    int pendingCount(long userId) {
+        UserHistory userHistory = userHistories.get(userId);
+        return userHistory == null ? 0 : userHistory.pendingCount;
+    }
+
+    /**
+     * 유저의 내역을 기록된 순서대로, 기록에 실패한 내역과 대기 내역은 그 뒤에 이어서 반환합니다.
+     */
+    List<PointHistory> selectAllByUserId(long userId) {
+        UserHistory userHistory = userHistories.get(userId);
+        return userHistory == null ? List.of() : userHistory.snapshot();
+    }
+
+    /**
+     * 테이블에 기록된 내역 중 조건에 맞는 내역을 id 순으로 최대 limit 개 반환합니다.
+     * id 가 확정되지 않은 대기 내역은 기록된 뒤에 다음 페이지에서 조회되고, 기록에 실패한 내역은 조회되지 않습니다.
+     */
+    PointHistoryPage selectPage(long userId, PointHistoryQuery query) {
+        UserHistory userHistory = userHistories.get(userId);
+        return userHistory == null ? PointHistoryPage.empty() : userHistory.page(query);
+    }
+
+    /**
+     * id 가 발급되지 않은 내역(0)은 그대로 둡니다.
+     */
+    private PointHistory shift(PointHistory pointHistory) {
+        long base = idBase;
+        if (base == 0 || pointHistory.id() == 0) {
+            return pointHistory;
+        }
+        return new PointHistory(pointHistory.id() + base, pointHistory.userId(), pointHistory.amount(),
+                pointHistory.type(), pointHistory.updateMillis());
+    }
+
+    private UserHistory userHistoryOf(long userId) {
+        return userHistories.computeIfAbsent(userId, id -> new UserHistory());
+    }
+
+    /**
+     * 유저 한 명의 내역 (추가만 가능)
+     */
+    private static final class UserHistory {
+
+        private volatile PointHistory[] items = new PointHistory[4];
+        private volatile int size;
+
+        private final ArrayDeque<PointHistory> pending = new ArrayDeque<>();
+        private volatile int pendingCount;
+
+        private final List<PointHistory> failed = new ArrayList<>();
+        private volatile int failedCount;
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        void append(PointHistory pointHistory) {
+
+            lock.lock();
+            try {
+                PointHistory[] current = items;
+                if (size == current.length) {
+                    current = Arrays.copyOf(current, size << 1);
+                    items = current;
+                }
+                current[size] = pointHistory;
+                size = size + 1; // volatile 쓰기로 앞선 원소를 공개합니다.
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void appendPending(PointHistory pointHistory) {
+
+            lock.lock();
+            try {
+                pending.addLast(pointHistory);
+                pendingCount = pending.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void commitPending(PointHistory persisted) {
+
+            lock.lock();
+            try {
+                pending.pollFirst();
+                pendingCount = pending.size();
+                append(persisted);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void failPending() {
+
+            lock.lock();
+            try {
+                failed.add(pending.pollFirst());
+                pendingCount = pending.size();
+                failedCount = failed.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<PointHistory> snapshot() {
+
+            if (pendingCount == 0 && failedCount == 0) {
+                return written();
+            }
+            lock.lock();
+            try {
+                int length = size;
+                PointHistory[] merged = Arrays.copyOf(items, length + failed.size() + pending.size());
+                for (PointHistory pointHistory : failed) {
+                    merged[length++] = pointHistory;
+                }
+                for (PointHistory pointHistory : pending) {
+                    merged[length++] = pointHistory;
+                }
+                return Collections.unmodifiableList(Arrays.asList(merged));
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * 유저의 내역은 id 오름차순으로 추가되므로 커서 위치는 이진 탐색으로 찾습니다.
+         */
+        PointHistoryPage page(PointHistoryQuery query) {
+
+            int length = size;
+            PointHistory[] current = items;
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (current[mid].id() <= query.after()) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            List<PointHistory> histories = new ArrayList<>(Math.min(query.limit(), length - low));
+            for (int i = low; i < length; i++) {
+                PointHistory pointHistory = current[i];
+                if (!query.matches(pointHistory)) {
+                    continue;
+                }
+                histories.add(pointHistory);
+                if (histories.size() == query.limit()) {
+                    Long nextAfter = i + 1 < length ? pointHistory.id() : null;
+                    return new PointHistoryPage(Collections.unmodifiableList(histories), nextAfter);
+                }
+            }
+            return new PointHistoryPage(Collections.unmodifiableList(histories), null);
+        }
+
+        private List<PointHistory> written() {
+
+            int length = size; // size 를 먼저 읽어야 items 에 length 개 이상이 보장됩니다.
+            return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(items, length)));
+        }
+    }
+}
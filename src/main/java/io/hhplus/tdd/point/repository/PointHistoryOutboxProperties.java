@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비동기 내역 기록 설정 (point.history-outbox.*)
+ *
+ * @param enabled         내역을 대기열에 넣고 백그라운드에서 기록할지 여부
+ * @param capacity        전체 대기열 크기 (writer 수만큼 나눠 가집니다)
+ * @param writers         백그라운드 writer 스레드 수 (대기열을 나눌 뿐 테이블 기록은 한 번에 하나씩 합니다)
+ * @param backpressure    대기열이 가득 찼을 때의 처리 방식
+ * @param shutdownTimeout 종료 시 남은 내역을 기록하며 기다릴 최대 시간
+ */
+@ConfigurationProperties(prefix = "point.history-outbox")
+public record PointHistoryOutboxProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("1") int writers,
+        @DefaultValue("BLOCK") HistoryBackpressure backpressure,
+        @DefaultValue("30s") Duration shutdownTimeout
+) {
+}
@@ -0,0 +1,36 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+
+/**
+ * 포인트 충전/이용 내역 저장소
+ */
+public interface PointHistoryRepository {
+
+    /**
+     * 내역을 기록합니다.
+     * 같은 유저의 기록은 호출자가 유저 락으로 직렬화한다고 가정합니다.
+     */
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * 유저의 내역을 기록된 순서대로 조회합니다.
+     */
+    List<PointHistory> selectAllByUserId(long userId);
+
+    /**
+     * 유저의 내역을 id 커서 기준으로 한 페이지씩 조회합니다.
+     */
+    PointHistoryPage selectPageByUserId(long userId, PointHistoryQuery query);
+
+    /**
+     * 저널에서 복구한 내역을 id 그대로 적재합니다.
+     * 애플리케이션 시작 시 기록이 시작되기 전에만 호출하며, 이후 발급되는 id 는 복구된 id 뒤로 이어집니다.
+     */
+    void restore(PointHistory pointHistory);
+}
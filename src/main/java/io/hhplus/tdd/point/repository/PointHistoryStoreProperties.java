@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 내역 저장소 설정 (point.history.*)
+ *
+ * @param store 저장소 종류
+ */
+@ConfigurationProperties(prefix = "point.history")
+public record PointHistoryStoreProperties(
+        @DefaultValue("TABLE") PointHistoryStoreType store
+) {
+}
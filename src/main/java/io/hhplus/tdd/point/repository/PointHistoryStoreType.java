@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.repository;
+
+/**
+ * 내역 저장소 종류
+ * - TABLE : PointHistoryTable 에 기록하고 유저별 인덱스로 조회합니다. (outbox 설정 적용)
+ * - COLUMNAR : 유저별 원시 타입 열 배열에 보관하고, 조회할 때만 PointHistory 를 만듭니다.
+ */
+public enum PointHistoryStoreType {
+
+    TABLE,
+    COLUMNAR
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.metrics.UserPointCacheMetrics;
+import io.hhplus.tdd.point.shard.ConditionalOnShardDisabled;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({UserPointStoreProperties.class, UserPointCacheProperties.class,
+        PointHistoryStoreProperties.class, PointHistoryOutboxProperties.class})
+public class PointRepositoryConfig {
+
+    /**
+     * point.balance.store=table (기본) : UserPointTable 과 그 앞의 캐시
+     */
+    @Configuration
+    @ConditionalOnShardDisabled
+    @ConditionalOnProperty(prefix = "point.balance", name = "store", havingValue = "table", matchIfMissing = true)
+    static class TableUserPointRepositoryConfig {
+
+        @Bean
+        @ConditionalOnProperty(prefix = "point.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+        public CachedUserPointRepository cachedUserPointRepository(UserPointTable userPointTable,
+                                                                   UserPointCacheProperties properties) {
+            return new CachedUserPointRepository(new UserPointTableRepository(userPointTable), properties.maxSize());
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "point.cache", name = "enabled", havingValue = "false")
+        public UserPointRepository userPointRepository(UserPointTable userPointTable) {
+            return new UserPointTableRepository(userPointTable);
+        }
+
+        @Bean
+        @ConditionalOnProperty(prefix = "point.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+        public UserPointCacheMetrics userPointCacheMetrics(CachedUserPointRepository cachedUserPointRepository) {
+            return new UserPointCacheMetrics(cachedUserPointRepository);
+        }
+    }
+
+    /**
+     * 저장소 자체가 메모리 위의 배열이므로 캐시를 두지 않습니다.
+     */
+    @Bean
+    @ConditionalOnShardDisabled
+    @ConditionalOnProperty(prefix = "point.balance", name = "store", havingValue = "primitive")
+    public PrimitiveUserPointRepository primitiveUserPointRepository(UserPointStoreProperties properties) {
+        return new PrimitiveUserPointRepository(properties.stripes(), properties.initialCapacity());
+    }
+
+    /**
+     * point.history.store=table (기본) : PointHistoryTable 과 유저별 인덱스, outbox 설정에 따라 비동기 기록
+     */
+    @Configuration
+    @ConditionalOnShardDisabled
+    @ConditionalOnProperty(prefix = "point.history", name = "store", havingValue = "table", matchIfMissing = true)
+    static class TablePointHistoryRepositoryConfig {
+
+        @Bean
+        @ConditionalOnProperty(prefix = "point.history-outbox", name = "enabled", havingValue = "false", matchIfMissing = true)
+        public PointHistoryRepository pointHistoryRepository(PointHistoryTable pointHistoryTable) {
+            return new IndexedPointHistoryRepository(pointHistoryTable);
+        }
+
+        /**
+         * 컨텍스트 종료 시 close() 가 호출되어 남은 내역을 기록합니다.
+         */
+        @Bean(destroyMethod = "close")
+        @ConditionalOnProperty(prefix = "point.history-outbox", name = "enabled", havingValue = "true")
+        public OutboxPointHistoryRepository outboxPointHistoryRepository(PointHistoryTable pointHistoryTable,
+                                                                         PointHistoryOutboxProperties properties) {
+            return new OutboxPointHistoryRepository(pointHistoryTable, properties.capacity(), properties.writers(),
+                    properties.backpressure(), properties.shutdownTimeout());
+        }
+    }
+
+    /**
+     * 기록 지연이 있는 테이블을 거치지 않으므로 outbox 를 두지 않습니다.
+     */
+    @Bean
+    @ConditionalOnShardDisabled
+    @ConditionalOnProperty(prefix = "point.history", name = "store", havingValue = "columnar")
+    public ColumnarPointHistoryRepository columnarPointHistoryRepository() {
+        return new ColumnarPointHistoryRepository();
+    }
+
+    @Bean
+    @ConditionalOnShardDisabled
+    public PointSummaryRepository pointSummaryRepository() {
+        return new InMemoryPointSummaryRepository();
+    }
+}
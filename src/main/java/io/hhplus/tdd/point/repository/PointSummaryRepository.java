@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 유저별 충전/사용 누적 집계 저장소
+ */
+public interface PointSummaryRepository {
+
+    /**
+     * 유저의 집계를 조회합니다. 거래가 없으면 빈 집계를 반환합니다.
+     */
+    PointSummary selectById(long userId);
+
+    /**
+     * 확정된 거래 한 건을 유저의 집계에 더합니다.
+     */
+    void add(long userId, TransactionType type, long amount, long updateMillis);
+
+    /**
+     * 이전 거래 없이 복구되어 집계가 coveredFromMillis 이후의 거래만 포함함을 표시합니다. (스냅샷 복구)
+     */
+    void coverFrom(long coveredFromMillis);
+}
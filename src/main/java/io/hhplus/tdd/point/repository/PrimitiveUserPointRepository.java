@@ -0,0 +1,201 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * long 배열 위의 open addressing 해시 테이블로 잔액을 보관하는 저장소
+ *
+ * - 유저 한 명은 배열의 연속된 세 칸 (userId, point, updateMillis) 을 차지하며, userId 0 은 빈 칸입니다.
+ * - 테이블은 stripe 로 나누어 stripe 마다 StampedLock 으로 쓰기를 직렬화하고, 읽기는 낙관적 읽기로 락 없이 처리합니다.
+ * - 확장은 stripe 단위로 일어나므로 한 번에 늘어나는 메모리와 멈춤도 stripe 하나 크기로 제한됩니다.
+ * - UserPoint 객체는 조회/기록 결과를 돌려줄 때만 만듭니다.
+ */
+public class PrimitiveUserPointRepository implements UserPointRepository {
+
+    private static final int SLOT_WIDTH = 3;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Stripe[] stripes;
+    private final int stripeShift;
+
+    /**
+     * @param stripeCount     stripe 수 (2의 거듭제곱으로 올림)
+     * @param initialCapacity 처음부터 담을 것으로 예상하는 전체 유저 수
+     */
+    public PrimitiveUserPointRepository(int stripeCount, long initialCapacity) {
+
+        if (stripeCount <= 0 || initialCapacity < 0) {
+            throw new IllegalArgumentException("stripe 수는 1 이상, 초기 용량은 0 이상이어야 합니다. stripes: " + stripeCount + ", initialCapacity: " + initialCapacity);
+        }
+        int count = Integer.highestOneBit(stripeCount);
+        if (count < stripeCount) {
+            count <<= 1;
+        }
+        this.stripes = new Stripe[count];
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(count);
+        long perStripe = (long) Math.ceil(initialCapacity / (double) count / LOAD_FACTOR);
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe(capacityFor(perStripe));
+        }
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+
+        long hash = hash(id);
+        return stripeOf(hash).get(id, hash);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+
+        if (id == 0) {
+            throw new IllegalArgumentException("id 0 은 저장할 수 없습니다.");
+        }
+        long updateMillis = System.currentTimeMillis();
+        long hash = hash(id);
+        stripeOf(hash).put(id, hash, amount, updateMillis);
+        return new UserPoint(id, amount, updateMillis);
+    }
+
+    /**
+     * 저장된 유저 수
+     */
+    public long size() {
+
+        long size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Stripe stripeOf(long hash) {
+        return stripeShift == 64 ? stripes[0] : stripes[(int) (hash >>> stripeShift)];
+    }
+
+    private static long hash(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return hash ^ (hash >>> 29);
+    }
+
+    private static int capacityFor(long entries) {
+        long capacity = Long.highestOneBit(Math.max(16, entries - 1) << 1);
+        if (capacity * SLOT_WIDTH > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("stripe 하나에 담을 수 있는 유저 수를 넘었습니다. stripe 수를 늘려 주세요.");
+        }
+        return (int) capacity;
+    }
+
+    private static final class Stripe {
+
+        private final StampedLock lock = new StampedLock();
+        private long[] slots;
+        private int mask;
+        private int size;
+        private int threshold;
+
+        Stripe(int capacity) {
+            allocate(capacity);
+        }
+
+        UserPoint get(long id, long hash) {
+
+            long stamp = lock.tryOptimisticRead();
+            UserPoint userPoint = find(slots, id, hash);
+            if (lock.validate(stamp)) {
+                return userPoint;
+            }
+            stamp = lock.readLock();
+            try {
+                return find(slots, id, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        void put(long id, long hash, long point, long updateMillis) {
+
+            long stamp = lock.writeLock();
+            try {
+                int index = indexOf(slots, mask, id, hash);
+                if (slots[index] == 0) {
+                    slots[index] = id;
+                    if (++size > threshold) {
+                        resize();
+                        index = indexOf(slots, mask, id, hash);
+                    }
+                }
+                slots[index + 1] = point;
+                slots[index + 2] = updateMillis;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+
+            long stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * 낙관적 읽기 중에는 확장으로 배열이 바뀔 수 있으므로, 한 번 읽은 배열과 그 길이로 구한 mask 만 사용합니다.
+         * 빈 칸이 항상 남아 있으므로 탐색은 끝나며, 도중에 읽은 값이 어긋나면 validate 에서 걸러집니다.
+         */
+        private static UserPoint find(long[] slots, long id, long hash) {
+
+            int mask = slots.length / SLOT_WIDTH - 1;
+            int index = indexOf(slots, mask, id, hash);
+            if (slots[index] != id) {
+                return UserPoint.empty(id);
+            }
+            return new UserPoint(id, slots[index + 1], slots[index + 2]);
+        }
+
+        /**
+         * id 가 있는 칸, 없으면 처음 만나는 빈 칸의 배열 위치 (선형 탐사)
+         */
+        private static int indexOf(long[] slots, int mask, long id, long hash) {
+
+            int slot = (int) hash & mask;
+            while (true) {
+                int index = slot * SLOT_WIDTH;
+                long key = slots[index];
+                if (key == id || key == 0) {
+                    return index;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private void resize() {
+
+            long[] old = slots;
+            allocate((mask + 1) << 1);
+            for (int index = 0; index < old.length; index += SLOT_WIDTH) {
+                long id = old[index];
+                if (id != 0) {
+                    int target = indexOf(slots, mask, id, hash(id));
+                    slots[target] = id;
+                    slots[target + 1] = old[index + 1];
+                    slots[target + 2] = old[index + 2];
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+
+            capacityFor(capacity);
+            slots = new long[capacity * SLOT_WIDTH];
+            mask = capacity - 1;
+            threshold = (int) (capacity * LOAD_FACTOR);
+        }
+    }
+}
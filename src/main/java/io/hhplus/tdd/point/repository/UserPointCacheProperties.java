@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔액 캐시 설정 (point.cache.*)
+ *
+ * @param enabled 캐시 사용 여부
+ * @param maxSize 캐시에 유지할 최대 유저 수
+ */
+@ConfigurationProperties(prefix = "point.cache")
+public record UserPointCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxSize
+) {
+}
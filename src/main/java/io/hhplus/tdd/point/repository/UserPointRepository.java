@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 유저 포인트 잔액 저장소
+ */
+public interface UserPointRepository {
+
+    /**
+     * 유저의 잔액을 조회합니다. 없으면 0 포인트를 반환합니다.
+     */
+    UserPoint selectById(long id);
+
+    /**
+     * 유저의 잔액을 저장합니다.
+     * 같은 유저의 쓰기는 호출자가 유저 락으로 직렬화한다고 가정합니다.
+     */
+    UserPoint insertOrUpdate(long id, long amount);
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔액 저장소 설정 (point.balance.*)
+ *
+ * @param store           저장소 종류
+ * @param stripes         PRIMITIVE 저장소의 stripe 수 (2의 거듭제곱으로 올림)
+ * @param initialCapacity PRIMITIVE 저장소가 처음부터 확보할 유저 수
+ */
+@ConfigurationProperties(prefix = "point.balance")
+public record UserPointStoreProperties(
+        @DefaultValue("TABLE") UserPointStoreType store,
+        @DefaultValue("256") int stripes,
+        @DefaultValue("0") long initialCapacity
+) {
+}
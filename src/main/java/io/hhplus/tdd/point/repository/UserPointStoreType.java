@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.repository;
+
+/**
+ * 잔액 저장소 종류
+ * - TABLE : UserPointTable 에 기록하고, 캐시 설정(point.cache.*)에 따라 앞에 LRU 캐시를 둡니다.
+ * - PRIMITIVE : long 배열 위의 open addressing 해시 테이블에 직접 보관합니다. (유저당 24~48 바이트)
+ */
+public enum UserPointStoreType {
+
+    TABLE,
+    PRIMITIVE
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * UserPointTable 을 그대로 사용하는 잔액 저장소
+ */
+@RequiredArgsConstructor
+public class UserPointTableRepository implements UserPointRepository {
+
+    private final UserPointTable userPointTable;
+
+    @Override
+    public UserPoint selectById(long id) {
+        return userPointTable.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return userPointTable.insertOrUpdate(id, amount);
+    }
+}
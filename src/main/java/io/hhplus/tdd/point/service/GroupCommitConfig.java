@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(GroupCommitProperties.class)
+public class GroupCommitConfig {
+
+    @Bean
+    public GroupCommitQueue groupCommitQueue(GroupCommitProperties properties) {
+        return new GroupCommitQueue(properties.enabled());
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 그룹 커밋 설정 (point.group-commit.*)
+ *
+ * @param enabled 같은 유저에 대한 동시 충전/사용을 묶어서 한 번에 기록할지 여부
+ */
+@ConfigurationProperties(prefix = "point.group-commit")
+public record GroupCommitProperties(
+        @DefaultValue("false") boolean enabled
+) {
+}
@@ -0,0 +1,124 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 그룹 커밋 대기열
+ *
+ * 같은 유저에게 동시에 들어온 충전/사용 요청을 유저별 대기열에 모아 두고,
+ * 유저 락을 먼저 잡은 스레드가 대기열을 통째로 꺼내 한 번에 처리합니다.
+ * 대기열은 꺼내는 순간 제거되므로 유저 수만큼 쌓이지 않습니다.
+ * 요청은 처리하는 쪽(claim)과 포기하는 쪽(cancel) 중 먼저 가져간 한쪽만 결과를 정합니다.
+ */
+public class GroupCommitQueue {
+
+    private final boolean enabled;
+    private final ConcurrentHashMap<Long, List<PendingTransaction>> pending = new ConcurrentHashMap<>();
+
+    public GroupCommitQueue(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청을 유저 대기열 끝에 추가합니다.
+     */
+    public PendingTransaction enqueue(long userId, long amount, TransactionType transactionType) {
+
+        PendingTransaction transaction = new PendingTransaction(amount, transactionType);
+        pending.compute(userId, (id, transactions) -> {
+            List<PendingTransaction> queue = transactions == null ? new ArrayList<>() : transactions;
+            queue.add(transaction);
+            return queue;
+        });
+        return transaction;
+    }
+
+    /**
+     * 유저 대기열을 도착 순서대로 꺼내고 비웁니다. 유저 락 안에서 호출합니다.
+     */
+    public List<PendingTransaction> drain(long userId) {
+
+        List<PendingTransaction> transactions = pending.remove(userId);
+        return transactions == null ? List.of() : transactions;
+    }
+
+    /**
+     * 대기 중인 충전/사용 요청
+     */
+    public static final class PendingTransaction {
+
+        private final long amount;
+        private final TransactionType transactionType;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        PendingTransaction(long amount, TransactionType transactionType) {
+            this.amount = amount;
+            this.transactionType = transactionType;
+        }
+
+        public long amount() {
+            return amount;
+        }
+
+        public TransactionType transactionType() {
+            return transactionType;
+        }
+
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        /**
+         * 처리할 요청으로 가져갑니다. 이미 포기한 요청이면 false 를 반환합니다.
+         */
+        public boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        /**
+         * 아직 아무도 가져가지 않은 요청이면 e 로 끝냅니다. 이미 처리 중이면 false 를 반환합니다.
+         */
+        public boolean cancel(RuntimeException e) {
+            if (!claimed.compareAndSet(false, true)) {
+                return false;
+            }
+            result.completeExceptionally(e);
+            return true;
+        }
+
+        public void complete(UserPoint userPoint) {
+            result.complete(userPoint);
+        }
+
+        public void fail(RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+
+        /**
+         * 처리 결과를 반환합니다. 실패했다면 원래 예외를 그대로 던집니다.
+         */
+        public UserPoint await() {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
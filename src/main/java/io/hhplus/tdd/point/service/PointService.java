@@ -1,10 +1,17 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.point.PointHandoff;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.PointSummary;
 import io.hhplus.tdd.point.UserPoint;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public interface PointService {
@@ -23,6 +30,20 @@ public interface PointService {
         return List.of();
     }
 
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 id 커서 기준으로 한 페이지씩 조회하는 기능
+     */
+    public default PointHistoryPage selectHistoryPage(long id, PointHistoryQuery query) {
+        return PointHistoryPage.empty();
+    }
+
+    /**
+     * 특정 유저의 충전/사용 누적 집계(횟수, 금액 합계, 첫/마지막 거래 시각)를 조회하는 기능
+     */
+    public default PointSummary selectSummary(long id) {
+        return PointSummary.empty(id);
+    }
+
     /**
      * 특정 유저의 포인트를 충전하는 기능
      */
@@ -36,4 +57,75 @@ public interface PointService {
     public default UserPoint use(long id, long amount) {
         return new UserPoint(0, 0, 0);
     }
+
+    /**
+     * 특정 유저의 포인트를 다른 유저에게 송금하는 기능
+     * 보낸 유저의 사용과 받은 유저의 충전을 함께 기록하고, 보낸 유저의 잔액을 반환합니다.
+     */
+    public default UserPoint transfer(long fromId, long toId, long amount) {
+        return new UserPoint(0, 0, 0);
+    }
+
+    /**
+     * 특정 유저의 포인트를 충전하는 기능
+     * 같은 멱등 키로 다시 요청하면 다시 충전하지 않고 처음 결과를 반환합니다. (키가 null 이면 매번 충전)
+     */
+    public default UserPoint charge(long id, long amount, String idempotencyKey) {
+        return charge(id, amount);
+    }
+
+    /**
+     * 특정 유저의 포인트를 사용하는 기능
+     * 같은 멱등 키로 다시 요청하면 다시 사용하지 않고 처음 결과를 반환합니다. (키가 null 이면 매번 사용)
+     */
+    public default UserPoint use(long id, long amount, String idempotencyKey) {
+        return use(id, amount);
+    }
+
+    /**
+     * selectById 의 비동기 버전
+     * 저장소 조회는 전용 스레드에서 실행하고, 호출한 스레드는 기다리지 않습니다.
+     */
+    public default CompletableFuture<UserPoint> selectByIdAsync(long id) {
+        return CompletableFuture.completedFuture(selectById(id));
+    }
+
+    /**
+     * charge 의 비동기 버전
+     * 유저 락 대기와 저장소 기록은 전용 스레드에서 실행하고, 호출한 스레드는 기다리지 않습니다.
+     */
+    public default CompletableFuture<UserPoint> chargeAsync(long id, long amount, String idempotencyKey) {
+        return CompletableFuture.completedFuture(charge(id, amount, idempotencyKey));
+    }
+
+    /**
+     * use 의 비동기 버전
+     * 유저 락 대기와 저장소 기록은 전용 스레드에서 실행하고, 호출한 스레드는 기다리지 않습니다.
+     */
+    public default CompletableFuture<UserPoint> useAsync(long id, long amount, String idempotencyKey) {
+        return CompletableFuture.completedFuture(use(id, amount, idempotencyKey));
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/사용 요청 여러 건을 순서대로 한 번에 처리하는 기능
+     * 결과는 요청과 같은 순서로 반환합니다.
+     */
+    public default List<PointOperationResult> executeAll(long id, List<PointOperation> operations) {
+        return List.of();
+    }
+
+    /**
+     * 다른 노드로 옮겨 가는 유저의 잔액과 내역을 넘기는 기능
+     * 넘긴 뒤에는 이 노드에서 이 유저의 충전/사용/송금을 거절합니다.
+     */
+    public default PointHandoff handOff(long id) {
+        return PointHandoff.empty(id);
+    }
+
+    /**
+     * 다른 노드에서 넘겨받은 유저의 잔액과 내역을 기록하는 기능
+     * 이 노드에 이미 이 유저의 잔액이나 내역이 있으면 넘겨받지 않습니다.
+     */
+    public default void takeOver(PointHandoff handoff) {
+    }
 }
@@ -1,38 +1,60 @@
 package io.hhplus.tdd.point.service;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHandoff;
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.PointRequestRejectedException;
+import io.hhplus.tdd.point.PointSummary;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
 import io.hhplus.tdd.point.constant.ErrorMessage;
+import io.hhplus.tdd.point.engine.UserTaskExecutor;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.lock.UserLockBusyException;
+import io.hhplus.tdd.point.metrics.PointTransactionMetrics;
+import io.hhplus.tdd.point.metrics.PointTransactionStage;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointSummaryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.GroupCommitQueue.PendingTransaction;
+import io.hhplus.tdd.point.shard.ConditionalOnShardDisabled;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 @Service
+@ConditionalOnShardDisabled
 @RequiredArgsConstructor
 public class PointServiceImpl implements PointService {
 
     private static final Logger log = LoggerFactory.getLogger(PointService.class);
 
-    private final UserPointTable userPointRepository;
-    private final PointHistoryTable pointHistoryRepository;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserTaskExecutor userTaskExecutor;
+    private final GroupCommitQueue groupCommitQueue;
+    private final PointJournal pointJournal;
+    private final PointTransactionMetrics pointTransactionMetrics;
+    private final IdempotencyStore idempotencyStore;
+    private final PointSummaryRepository pointSummaryRepository;
 
-    private final ConcurrentHashMap<String, Lock> userLockMap = new ConcurrentHashMap<>();
-
-    private Lock getUserLock(long userid) {
-
-        return userLockMap.computeIfAbsent(String.valueOf(userid), id -> new ReentrantLock());
-    }
+    /**
+     * 다른 노드로 넘긴 유저 (이후의 기록은 거절합니다)
+     */
+    private final Set<Long> handedOffUsers = ConcurrentHashMap.newKeySet();
 
     @Override
     public UserPoint selectById(long id) {
@@ -48,6 +70,24 @@ public class PointServiceImpl implements PointService {
         return pointHistoryRepository.selectAllByUserId(id);
     }
 
+    @Override
+    public PointHistoryPage selectHistoryPage(long id, PointHistoryQuery query) {
+
+        validateId(id);
+        validateLimit(query.limit());
+        return pointHistoryRepository.selectPageByUserId(id, query);
+    }
+
+    /**
+     * 거래를 기록할 때마다 갱신한 누적 집계를 조회합니다.
+     */
+    @Override
+    public PointSummary selectSummary(long id) {
+
+        validateId(id);
+        return pointSummaryRepository.selectById(id);
+    }
+
     @Override
     public UserPoint charge(long id, long chargeAmount) {
 
@@ -63,6 +103,140 @@ public class PointServiceImpl implements PointService {
         return executePointTransactionWithUserLock(id, useAmount, TransactionType.USE);
     }
 
+    /**
+     * 두 유저의 작업을 정해진 순서로 잡은 뒤 잔액을 한 번만 검증하고 두 잔액과 두 내역을 기록합니다.
+     * 전역 락은 쓰지 않으므로 다른 유저들의 요청은 기다리지 않습니다.
+     */
+    @Override
+    public UserPoint transfer(long fromId, long toId, long amount) {
+
+        validateTransfer(fromId, toId, amount);
+        return userTaskExecutor.execute(fromId, toId, () -> transferTransaction(fromId, this, toId, amount));
+    }
+
+    /**
+     * 다른 PointServiceImpl(샤드)이 맡은 유저에게 송금합니다. (ShardedPointService 만 호출합니다)
+     * 두 서비스의 유저 작업을 senderFirst 가 정한 순서로 차례로 잡으므로,
+     * 호출하는 쪽은 모든 송금에서 같은 기준(샤드 번호 등)으로 순서를 정해야 서로를 기다리지 않습니다.
+     * 두 서비스는 같은 저널을 써야 합니다. (ShardedPointService 가 만들 때 확인합니다)
+     */
+    UserPoint transfer(long fromId, PointServiceImpl receiver, long toId, long amount, boolean senderFirst) {
+
+        if (receiver == this) {
+            return transfer(fromId, toId, amount);
+        }
+        validateTransfer(fromId, toId, amount);
+        Supplier<UserPoint> transaction = () -> transferTransaction(fromId, receiver, toId, amount);
+        if (senderFirst) {
+            return userTaskExecutor.execute(fromId, () -> receiver.userTaskExecutor.execute(toId, transaction));
+        }
+        return receiver.userTaskExecutor.execute(toId, () -> userTaskExecutor.execute(fromId, transaction));
+    }
+
+    /**
+     * 처음 보는 멱등 키일 때만 충전합니다.
+     */
+    @Override
+    public UserPoint charge(long id, long chargeAmount, String idempotencyKey) {
+
+        validateId(id);
+        return idempotencyStore.execute(id, idempotencyKey, TransactionType.CHARGE, chargeAmount, () -> charge(id, chargeAmount));
+    }
+
+    /**
+     * 처음 보는 멱등 키일 때만 사용합니다.
+     */
+    @Override
+    public UserPoint use(long id, long useAmount, String idempotencyKey) {
+
+        validateId(id);
+        return idempotencyStore.execute(id, idempotencyKey, TransactionType.USE, useAmount, () -> use(id, useAmount));
+    }
+
+    /**
+     * 잘못된 아이디는 바로 던지고, 조회는 전용 스레드에서 실행합니다.
+     */
+    @Override
+    public CompletableFuture<UserPoint> selectByIdAsync(long id) {
+
+        validateId(id);
+        return userTaskExecutor.submitBlocking(id, () -> userPointRepository.selectById(id));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> chargeAsync(long id, long chargeAmount, String idempotencyKey) {
+
+        validateId(id);
+        return idempotencyStore.executeAsync(id, idempotencyKey, TransactionType.CHARGE, chargeAmount,
+                () -> submitPointTransaction(id, chargeAmount, TransactionType.CHARGE));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> useAsync(long id, long useAmount, String idempotencyKey) {
+
+        validateId(id);
+        return idempotencyStore.executeAsync(id, idempotencyKey, TransactionType.USE, useAmount,
+                () -> submitPointTransaction(id, useAmount, TransactionType.USE));
+    }
+
+    /**
+     * 유저 락을 한 번만 잡고 요청들을 순서대로 계산하여 잔액은 한 번만 기록합니다.
+     * 잔액이 부족하거나 금액이 잘못된 요청은 해당 요청만 실패합니다.
+     */
+    @Override
+    public List<PointOperationResult> executeAll(long id, List<PointOperation> operations) {
+
+        validateId(id);
+        List<PendingTransaction> batch = operations.stream()
+                                                   .map(operation -> new PendingTransaction(operation.amount(), operation.type()))
+                                                   .toList();
+        executeWithUserLock(id, () -> {
+            commitBatch(id, batch);
+            return null;
+        });
+        return batch.stream().map(this::toOperationResult).toList();
+    }
+
+    /**
+     * 유저의 작업을 잡은 상태에서 넘길 유저로 표시한 뒤 잔액과 내역을 읽으므로,
+     * 먼저 들어와 기다리던 기록은 넘기는 내용에 포함되고 뒤에 실행되는 기록은 거절됩니다.
+     */
+    @Override
+    public PointHandoff handOff(long id) {
+
+        validateId(id);
+        return userTaskExecutor.execute(id, () -> {
+            handedOffUsers.add(id);
+            return new PointHandoff(id, getUserPointOrDefault(id), pointHistoryRepository.selectAllByUserId(id));
+        });
+    }
+
+    /**
+     * 넘겨받은 내역을 기록 순서대로 저널, 내역, 집계에 남기고 잔액을 기록합니다.
+     * 저널에는 내역을 그대로 남기므로 재시작하면 내역으로 잔액을 다시 계산합니다.
+     */
+    @Override
+    public void takeOver(PointHandoff handoff) {
+
+        long id = handoff.userId();
+        validateId(id);
+        executeWithUserLock(id, () -> {
+            if (getUserPointOrDefault(id) != 0 || !pointHistoryRepository.selectAllByUserId(id).isEmpty()) {
+                log.warn("사용자 {} 의 기록이 이미 있어 넘겨받지 않습니다.", id);
+                return null;
+            }
+            long sequence = 0;
+            for (PointHistory history : handoff.histories()) {
+                sequence = pointJournal.append(id, history.amount(), history.type(), history.updateMillis());
+                pointHistoryRepository.insert(id, history.amount(), history.type(), history.updateMillis());
+                pointSummaryRepository.add(id, history.type(), history.amount(), history.updateMillis());
+            }
+            UserPoint updatedPoint = userPointRepository.insertOrUpdate(id, handoff.point());
+            pointJournal.sync(sequence);
+            return updatedPoint;
+        });
+    }
+
     /**
      * 포인트 충전/차감을 계산합니다.
      *
@@ -80,11 +254,13 @@ public class PointServiceImpl implements PointService {
             }
             if (transactionType.equals(TransactionType.USE)) {
                 if ( amount > userPoint ) {
+                    pointTransactionMetrics.reject(ErrorMessage.INSUFFICIENT_BALANCE);
                     throw new RuntimeException(ErrorMessage.INSUFFICIENT_BALANCE.format(id, userPoint));
                 }
                 return userPoint - amount;
             }
         }
+        pointTransactionMetrics.reject(ErrorMessage.IN_VALID_TRANSACTION_TYPE);
         throw new IllegalArgumentException(ErrorMessage.IN_VALID_TRANSACTION_TYPE.format(transactionType));
     }
 
@@ -99,26 +275,87 @@ public class PointServiceImpl implements PointService {
     private UserPoint pointTransaction(long id, long deltaPoint, TransactionType transactionType) {
 
         // 1. 현재 사용자 포인트 가져오기
+        validateNotHandedOff(id);
+        long started = pointTransactionMetrics.start();
         long currentPoint = getUserPointOrDefault(id);
+        pointTransactionMetrics.record(PointTransactionStage.BALANCE_READ, started);
         log.debug("거래 유형 = {}, 현재 포인트 = {}, 변동 포인트 = {}", transactionType, currentPoint, deltaPoint);
 
         // 2. 유효성 검사
-        if (deltaPoint <=0) {
-            throw new IllegalArgumentException(ErrorMessage.NEGATIVE_AMOUNT_ERROR.format(deltaPoint));
-        }
+        validateAmount(deltaPoint);
 
         // 3. 포인트 계산
         long calculatedPoint = calculatePoint(id, currentPoint, deltaPoint, transactionType);
         log.debug("계산된 포인트 = {}", calculatedPoint);
 
-        // 4. 사용자 포인트 업데이트 및 히스토리 기록
+        // 4. 저널 기록 후 사용자 포인트 업데이트 및 히스토리/집계 기록
+        long now = System.currentTimeMillis();
+        started = pointTransactionMetrics.start();
+        long sequence = pointJournal.append(id, deltaPoint, transactionType, now);
+        started = pointTransactionMetrics.record(PointTransactionStage.JOURNAL_APPEND, started);
+
         UserPoint updatedPoint = userPointRepository.insertOrUpdate(id, calculatedPoint);
-        pointHistoryRepository.insert(id, deltaPoint, transactionType, System.currentTimeMillis());
+        started = pointTransactionMetrics.record(PointTransactionStage.BALANCE_WRITE, started);
+
+        pointHistoryRepository.insert(id, deltaPoint, transactionType, now);
+        pointSummaryRepository.add(id, transactionType, deltaPoint, now);
+        started = pointTransactionMetrics.record(PointTransactionStage.HISTORY_WRITE, started);
 
+        // 5. 저널이 디스크에 반영된 뒤 응답
+        pointJournal.sync(sequence);
+        pointTransactionMetrics.record(PointTransactionStage.JOURNAL_SYNC, started);
         return updatedPoint;
     }
 
 
+    /**
+     * 송금 트랜젝션 (두 유저의 작업을 모두 잡은 상태에서 실행)
+     * 두 잔액을 모두 계산한 뒤에 기록하므로 잔액이 부족하면 어느 쪽도 기록하지 않습니다.
+     * 두 기록은 이 서비스의 저널에 함께 남기며, 받는 쪽이 다른 샤드여도 모든 샤드가 같은 저널을 쓰므로 한 저널에 모입니다.
+     *
+     * @param fromId
+     * @param receiver 받은 유저를 맡은 서비스 (샤드가 아니면 this)
+     * @param toId
+     * @param amount
+     * @return 보낸 유저의 잔액
+     */
+    private UserPoint transferTransaction(long fromId, PointServiceImpl receiver, long toId, long amount) {
+
+        // 1. 두 유저의 현재 포인트 가져오기
+        validateNotHandedOff(fromId);
+        receiver.validateNotHandedOff(toId);
+        long started = pointTransactionMetrics.start();
+        long fromPoint = getUserPointOrDefault(fromId);
+        long toPoint = receiver.getUserPointOrDefault(toId);
+        pointTransactionMetrics.record(PointTransactionStage.BALANCE_READ, started);
+
+        // 2. 포인트 계산 (잔액 검증은 여기서 한 번)
+        long fromCalculated = calculatePoint(fromId, fromPoint, amount, TransactionType.USE);
+        long toCalculated = calculatePoint(toId, toPoint, amount, TransactionType.CHARGE);
+        log.debug("송금 = {} -> {}, 금액 = {}, 계산된 포인트 = {} / {}", fromId, toId, amount, fromCalculated, toCalculated);
+
+        // 3. 두 기록을 저널에 함께 남긴 뒤 잔액, 내역, 집계 기록
+        long now = System.currentTimeMillis();
+        started = pointTransactionMetrics.start();
+        long sequence = pointJournal.appendTransfer(fromId, toId, amount, now);
+        started = pointTransactionMetrics.record(PointTransactionStage.JOURNAL_APPEND, started);
+
+        UserPoint updatedPoint = userPointRepository.insertOrUpdate(fromId, fromCalculated);
+        receiver.userPointRepository.insertOrUpdate(toId, toCalculated);
+        started = pointTransactionMetrics.record(PointTransactionStage.BALANCE_WRITE, started);
+
+        pointHistoryRepository.insert(fromId, amount, TransactionType.USE, now);
+        pointSummaryRepository.add(fromId, TransactionType.USE, amount, now);
+        receiver.pointHistoryRepository.insert(toId, amount, TransactionType.CHARGE, now);
+        receiver.pointSummaryRepository.add(toId, TransactionType.CHARGE, amount, now);
+        started = pointTransactionMetrics.record(PointTransactionStage.HISTORY_WRITE, started);
+
+        // 4. 저널이 디스크에 반영된 뒤 응답
+        pointJournal.sync(sequence);
+        pointTransactionMetrics.record(PointTransactionStage.JOURNAL_SYNC, started);
+        return updatedPoint;
+    }
+
     /**
      *  포인트 트랜젝션을 실행합니다.
      *
@@ -129,35 +366,147 @@ public class PointServiceImpl implements PointService {
      */
     private UserPoint executePointTransactionWithUserLock(long id, long deltaPoint, TransactionType transactionType) {
 
+        if (groupCommitQueue.isEnabled()) {
+            return executeGroupCommit(id, deltaPoint, transactionType);
+        }
         return executeWithUserLock(id, () -> pointTransaction(id, deltaPoint, transactionType) );
     }
 
     /**
-     * 유저 락을 사용하여 동시성 문제를 해결하며,
-     * 포인트 작업을 실행합니다,
+     * 포인트 트랜젝션을 전용 스레드에 맡깁니다.
+     * 그룹 커밋은 대기열에 넣고 기다리는 과정까지 전용 스레드에서 실행합니다.
      *
-     * @param userid
-     * @param userPointSupplier
-     * @return UserPoint
+     * @param id
+     * @param deltaPoint
+     * @param transactionType
+     * @return
      */
-    private UserPoint executeWithUserLock(long userid, Supplier<UserPoint> userPointSupplier) {
+    private CompletableFuture<UserPoint> submitPointTransaction(long id, long deltaPoint, TransactionType transactionType) {
+
+        if (groupCommitQueue.isEnabled()) {
+            return userTaskExecutor.submitBlocking(id, () -> executeGroupCommit(id, deltaPoint, transactionType));
+        }
+        return userTaskExecutor.submit(id, () -> pointTransaction(id, deltaPoint, transactionType));
+    }
+
+    /**
+     * 그룹 커밋으로 포인트 트랜젝션을 실행합니다.
+     * 요청을 대기열에 넣고 유저 락을 잡은 뒤, 다른 스레드가 이미 처리했다면 그 결과를 반환하고
+     * 아니라면 대기열에 쌓인 요청을 모두 꺼내 함께 처리합니다.
+     * 락을 기다리지 못하고 거절되면 요청을 포기하되, 다른 스레드가 이미 가져가 처리 중이면 그 결과를 기다립니다.
+     *
+     * @param id
+     * @param deltaPoint
+     * @param transactionType
+     * @return
+     */
+    private UserPoint executeGroupCommit(long id, long deltaPoint, TransactionType transactionType) {
+
+        PendingTransaction transaction = groupCommitQueue.enqueue(id, deltaPoint, transactionType);
+        try {
+            executeWithUserLock(id, () -> {
+                if (!transaction.isDone()) {
+                    commitBatch(id, groupCommitQueue.drain(id));
+                }
+                return null;
+            });
+        } catch (UserLockBusyException e) {
+            if (transaction.cancel(e)) {
+                throw e;
+            }
+        }
+        return transaction.await();
+    }
+
+    /**
+     * 대기열에서 꺼낸 요청들을 도착 순서대로 계산하여 잔액은 한 번만 기록하고,
+     * 내역은 요청마다 기록합니다. 잔액이 부족한 요청은 해당 요청만 실패합니다.
+     * 각 요청은 자신까지 반영된 잔액을 결과로 받습니다.
+     *
+     * @param id
+     * @param batch
+     */
+    private void commitBatch(long id, List<PendingTransaction> batch) {
 
-        Lock userLock = getUserLock(userid);
-        userLock.lock(); // 락을 걸고
-        log.debug("{} 사용자의 락을 걸었습니다. 시간: {}", userid, System.currentTimeMillis());
         try {
-            return userPointSupplier.get();
+            validateNotHandedOff(id);
+            long started = pointTransactionMetrics.start();
+            long currentPoint = getUserPointOrDefault(id);
+            pointTransactionMetrics.record(PointTransactionStage.BALANCE_READ, started);
+            List<PendingTransaction> committed = new ArrayList<>(batch.size());
+            long[] pointAfter = new long[batch.size()];
+
+            for (PendingTransaction transaction : batch) {
+                if (!transaction.claim()) {
+                    continue; // 락을 기다리다 포기한 요청
+                }
+                try {
+                    validateAmount(transaction.amount());
+                    currentPoint = calculatePoint(id, currentPoint, transaction.amount(), transaction.transactionType());
+                    pointAfter[committed.size()] = currentPoint;
+                    committed.add(transaction);
+                } catch (RuntimeException e) {
+                    transaction.fail(e);
+                }
+            }
+            if (committed.isEmpty()) {
+                return;
+            }
+            log.debug("그룹 커밋 = {}건, 계산된 포인트 = {}", committed.size(), currentPoint);
+
+            long now = System.currentTimeMillis();
+            long sequence = 0;
+            started = pointTransactionMetrics.start();
+            for (PendingTransaction transaction : committed) {
+                sequence = pointJournal.append(id, transaction.amount(), transaction.transactionType(), now);
+            }
+            started = pointTransactionMetrics.record(PointTransactionStage.JOURNAL_APPEND, started);
+
+            UserPoint updatedPoint = userPointRepository.insertOrUpdate(id, currentPoint);
+            started = pointTransactionMetrics.record(PointTransactionStage.BALANCE_WRITE, started);
+
+            for (PendingTransaction transaction : committed) {
+                pointHistoryRepository.insert(id, transaction.amount(), transaction.transactionType(), now);
+                pointSummaryRepository.add(id, transaction.transactionType(), transaction.amount(), now);
+            }
+            started = pointTransactionMetrics.record(PointTransactionStage.HISTORY_WRITE, started);
+
+            pointJournal.sync(sequence);
+            pointTransactionMetrics.record(PointTransactionStage.JOURNAL_SYNC, started);
+            for (int i = 0; i < committed.size(); i++) {
+                committed.get(i).complete(new UserPoint(id, pointAfter[i], updatedPoint.updateMillis()));
+            }
         }
-        catch (Exception e) {
-            log.error("사용자 ID {}에 대한 트랜잭션 처리 중 오류 발생: {}", userid, e.getMessage());
+        catch (RuntimeException e) {
+            // 기록 도중 실패하면 아직 결과를 받지 못한 요청은 모두 실패로 끝냅니다.
+            batch.forEach(transaction -> transaction.fail(e));
             throw e;
         }
-        finally {
-            userLock.unlock(); // 락 해제
-            log.debug("{} 사용자의 락을 해제했습니다. 시간: {}", userid, System.currentTimeMillis());
+    }
+
+    private PointOperationResult toOperationResult(PendingTransaction transaction) {
+
+        try {
+            return PointOperationResult.success(transaction.await());
+        }
+        catch (RuntimeException e) {
+            return PointOperationResult.failure(e.getMessage());
         }
     }
 
+    /**
+     * 같은 유저의 다른 작업과 겹치지 않도록 실행 방식(유저 락 / 메일박스)에 맡겨
+     * 포인트 작업을 실행합니다.
+     *
+     * @param userid
+     * @param userPointSupplier
+     * @return UserPoint
+     */
+    private UserPoint executeWithUserLock(long userid, Supplier<UserPoint> userPointSupplier) {
+
+        return userTaskExecutor.execute(userid, userPointSupplier);
+    }
+
     /**
      * 사용자 포인트를 조회
      * 없으면 예외를 던집니다.
@@ -169,7 +518,10 @@ public class PointServiceImpl implements PointService {
 
         return Optional.ofNullable(selectById(id))
                        .map(UserPoint::point)
-                       .orElseThrow(() -> new RuntimeException(ErrorMessage.POINT_NOT_FOUND.format(id)));
+                       .orElseThrow(() -> {
+                           pointTransactionMetrics.reject(ErrorMessage.POINT_NOT_FOUND);
+                           return new RuntimeException(ErrorMessage.POINT_NOT_FOUND.format(id));
+                       });
     }
 
     /**
@@ -184,6 +536,63 @@ public class PointServiceImpl implements PointService {
         return Optional.ofNullable(selectById(id)).orElse(UserPoint.empty(id)).point();
     }
 
+    /**
+     * 0 이하의 금액 입력을 방어합니다.
+     * @param amount
+     */
+    private void validateAmount(long amount) {
+
+        if (amount <= 0) {
+            pointTransactionMetrics.reject(ErrorMessage.NEGATIVE_AMOUNT_ERROR);
+            throw new IllegalArgumentException(ErrorMessage.NEGATIVE_AMOUNT_ERROR.format(amount));
+        }
+    }
+
+    /**
+     * 송금 요청을 검증합니다. (아이디, 금액, 자기 자신에게 송금)
+     */
+    private void validateTransfer(long fromId, long toId, long amount) {
+
+        validateId(fromId);
+        validateId(toId);
+        validateAmount(amount);
+        if (fromId == toId) {
+            pointTransactionMetrics.reject(ErrorMessage.SELF_TRANSFER);
+            throw new IllegalArgumentException(ErrorMessage.SELF_TRANSFER.format(fromId));
+        }
+    }
+
+    /**
+     * 샤드 사이 송금의 두 기록을 한 저널에 남길 수 있는지 (같은 저널을 쓰는지) 확인합니다.
+     */
+    boolean sharesJournalWith(PointServiceImpl other) {
+
+        return pointJournal == other.pointJournal;
+    }
+
+    /**
+     * 다른 노드로 넘긴 유저의 기록을 거절합니다. (유저의 작업을 잡은 상태에서 호출)
+     * 다시 시도하면 넘겨받은 노드로 전달됩니다.
+     */
+    private void validateNotHandedOff(long id) {
+
+        if (handedOffUsers.contains(id)) {
+            pointTransactionMetrics.reject(ErrorMessage.USER_HANDED_OFF);
+            throw new PointRequestRejectedException(ErrorMessage.USER_HANDED_OFF, ErrorMessage.USER_HANDED_OFF.format(id));
+        }
+    }
+
+    /**
+     * 페이지 크기를 검증합니다.
+     */
+    private void validateLimit(int limit) {
+
+        if (limit <= 0 || limit > PointHistoryQuery.MAX_LIMIT) {
+            pointTransactionMetrics.reject(ErrorMessage.INVALID_PAGE_LIMIT);
+            throw new IllegalArgumentException(ErrorMessage.INVALID_PAGE_LIMIT.format(limit, PointHistoryQuery.MAX_LIMIT));
+        }
+    }
+
     /**
      * 음수 아이디 입력을 방어합니다.
      * @param id
@@ -191,6 +600,7 @@ public class PointServiceImpl implements PointService {
     private void validateId(long id) {
 
         if (id<=0) {
+            pointTransactionMetrics.reject(ErrorMessage.NEGATIVE_ID_ERROR);
             throw new IllegalArgumentException(ErrorMessage.NEGATIVE_ID_ERROR.format(id));
         }
     }
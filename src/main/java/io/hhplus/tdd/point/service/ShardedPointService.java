@@ -0,0 +1,137 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointHandoff;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointOperationResult;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 유저 id 를 해시하여 정해진 샤드의 PointService 에 요청을 넘깁니다.
+ *
+ * 샤드마다 잔액 저장소, 내역 저장소(id 발급), 유저 락 테이블, 그룹 커밋 대기열이 따로 있으므로
+ * 서로 다른 샤드의 유저 요청은 어떤 자료구조도 함께 쓰지 않습니다.
+ * 한 유저의 요청은 항상 같은 샤드에서 처리되므로 유저 단위의 직렬화와 내역 순서는 샤드 안에서 그대로 지켜집니다.
+ * 내역 id 는 샤드 안에서만 유일합니다. (유저별 오름차순은 유지)
+ * 서로 다른 샤드의 유저 사이의 송금만 두 샤드의 유저 작업을 샤드 번호 순서로 함께 잡습니다.
+ * 그 송금의 두 기록은 보낸 유저 샤드의 저널에 함께 남기므로 모든 샤드가 같은 저널을 써야 합니다. (만들 때 확인)
+ */
+public class ShardedPointService implements PointService {
+
+    private final PointServiceImpl[] shards;
+
+    public ShardedPointService(List<PointServiceImpl> shards) {
+
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("샤드가 하나 이상 있어야 합니다.");
+        }
+        if (!shards.stream().allMatch(shards.get(0)::sharesJournalWith)) {
+            throw new IllegalArgumentException("모든 샤드가 같은 저널을 써야 합니다.");
+        }
+        this.shards = shards.toArray(PointServiceImpl[]::new);
+    }
+
+    public int shardCount() {
+        return shards.length;
+    }
+
+    /**
+     * 유저가 속한 샤드 번호 (피보나치 해시의 상위 비트를 샤드 수 범위로 줄입니다)
+     */
+    public int shardIndexOf(long userId) {
+
+        long hash = userId * 0x9E3779B97F4A7C15L;
+        return (int) (((hash >>> 32) * shards.length) >>> 32);
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return shardOf(id).selectById(id);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long id) {
+        return shardOf(id).selectAllByUserId(id);
+    }
+
+    @Override
+    public PointHistoryPage selectHistoryPage(long id, PointHistoryQuery query) {
+        return shardOf(id).selectHistoryPage(id, query);
+    }
+
+    @Override
+    public PointSummary selectSummary(long id) {
+        return shardOf(id).selectSummary(id);
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount) {
+        return shardOf(id).charge(id, amount);
+    }
+
+    @Override
+    public UserPoint use(long id, long amount) {
+        return shardOf(id).use(id, amount);
+    }
+
+    /**
+     * 같은 샤드의 유저끼리는 그 샤드에 맡기고, 다른 샤드면 샤드 번호가 작은 쪽의 유저부터 잡습니다.
+     */
+    @Override
+    public UserPoint transfer(long fromId, long toId, long amount) {
+
+        int from = shardIndexOf(fromId);
+        int to = shardIndexOf(toId);
+        return shards[from].transfer(fromId, shards[to], toId, amount, from < to);
+    }
+
+    @Override
+    public UserPoint charge(long id, long amount, String idempotencyKey) {
+        return shardOf(id).charge(id, amount, idempotencyKey);
+    }
+
+    @Override
+    public UserPoint use(long id, long amount, String idempotencyKey) {
+        return shardOf(id).use(id, amount, idempotencyKey);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> selectByIdAsync(long id) {
+        return shardOf(id).selectByIdAsync(id);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> chargeAsync(long id, long amount, String idempotencyKey) {
+        return shardOf(id).chargeAsync(id, amount, idempotencyKey);
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> useAsync(long id, long amount, String idempotencyKey) {
+        return shardOf(id).useAsync(id, amount, idempotencyKey);
+    }
+
+    @Override
+    public List<PointOperationResult> executeAll(long id, List<PointOperation> operations) {
+        return shardOf(id).executeAll(id, operations);
+    }
+
+    @Override
+    public PointHandoff handOff(long id) {
+        return shardOf(id).handOff(id);
+    }
+
+    @Override
+    public void takeOver(PointHandoff handoff) {
+        shardOf(handoff.userId()).takeOver(handoff);
+    }
+
+    private PointServiceImpl shardOf(long userId) {
+        return shards[shardIndexOf(userId)];
+    }
+}
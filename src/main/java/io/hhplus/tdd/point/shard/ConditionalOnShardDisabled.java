@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.shard;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * point.shard.enabled=false (기본) 일 때만 등록합니다.
+ *
+ * 샤드를 켜면 PointShardConfig 가 샤드마다 서비스와 저장소를 따로 만들므로 단일 서비스와 그 저장소에 붙입니다.
+ * 다른 @ConditionalOnProperty 와 함께 붙일 수 있습니다.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+@ConditionalOnProperty(prefix = "point.shard", name = "enabled", havingValue = "false", matchIfMissing = true)
+public @interface ConditionalOnShardDisabled {
+}
@@ -0,0 +1,132 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.engine.LockUserTaskExecutor;
+import io.hhplus.tdd.point.engine.PointEngineMode;
+import io.hhplus.tdd.point.engine.PointEngineProperties;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.journal.PointJournalProperties;
+import io.hhplus.tdd.point.lock.UserLockProperties;
+import io.hhplus.tdd.point.lock.UserLockWaitLimiter;
+import io.hhplus.tdd.point.metrics.PointTransactionMetrics;
+import io.hhplus.tdd.point.repository.CachedUserPointRepository;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.repository.InMemoryPointSummaryRepository;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryOutboxProperties;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryStoreProperties;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointCacheProperties;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointStoreProperties;
+import io.hhplus.tdd.point.repository.UserPointTableRepository;
+import io.hhplus.tdd.point.service.GroupCommitProperties;
+import io.hhplus.tdd.point.service.GroupCommitQueue;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import io.hhplus.tdd.point.service.ShardedPointService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+@Configuration
+@EnableConfigurationProperties(PointShardProperties.class)
+public class PointShardConfig {
+
+    /**
+     * 샤드와 함께 쓸 수 없는 설정이면 저장소나 실행기 빈을 만들기 전에 시작을 거절합니다.
+     * 설정 클래스는 @Bean 메서드가 등록한 빈보다 먼저 만들어지므로 생성자에서 검사합니다.
+     */
+    public PointShardConfig(PointShardProperties properties,
+                            PointJournalProperties pointJournalProperties,
+                            PointEngineProperties pointEngineProperties,
+                            PointHistoryOutboxProperties pointHistoryOutboxProperties) {
+        if (!properties.enabled()) {
+            return;
+        }
+        if (pointJournalProperties.enabled()) {
+            throw new IllegalStateException("point.shard.enabled 는 point.journal.enabled 와 함께 쓸 수 없습니다.");
+        }
+        if (pointEngineProperties.mode() == PointEngineMode.MAILBOX) {
+            throw new IllegalStateException("point.shard.enabled 는 point.engine.mode=mailbox 와 함께 쓸 수 없습니다.");
+        }
+        if (pointHistoryOutboxProperties.enabled()) {
+            throw new IllegalStateException("point.shard.enabled 는 point.history-outbox.enabled 와 함께 쓸 수 없습니다.");
+        }
+    }
+
+    /**
+     * 샤드별 유저 락 테이블 (측정의 point.lock.table.size 는 이 테이블들의 합입니다)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point.shard", name = "enabled", havingValue = "true")
+    public ShardUserLockTables shardUserLockTables(PointShardProperties properties, UserLockProperties userLockProperties) {
+        return new ShardUserLockTables(userLockProperties, properties.shardCount());
+    }
+
+    /**
+     * point.shard.enabled=true : 컨트롤러와 배치가 샤드 라우터를 쓰도록 기본 PointService 로 등록합니다.
+     *
+     * 샤드마다 잔액/내역 저장소(point.balance.*, point.history.* 설정을 따름), 유저 락 테이블, 그룹 커밋 대기열,
+     * 누적 집계를 새로 만들고, 대기 제한/측정/멱등 키 저장소/비동기 실행기는 함께 씁니다.
+     * 실행 방식은 유저 락이며, 메일박스/내역 outbox/저널은 샤드별로 나누지 않았으므로 함께 켜면 시작하지 않습니다.
+     * 단일 PointServiceImpl 과 그 저장소는 이 모드에서 등록되지 않습니다.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "point.shard", name = "enabled", havingValue = "true")
+    public ShardedPointService shardedPointService(PointShardProperties properties,
+                                                   UserPointStoreProperties userPointStoreProperties,
+                                                   UserPointCacheProperties userPointCacheProperties,
+                                                   PointHistoryStoreProperties pointHistoryStoreProperties,
+                                                   ShardUserLockTables shardUserLockTables,
+                                                   GroupCommitProperties groupCommitProperties,
+                                                   UserLockWaitLimiter userLockWaitLimiter,
+                                                   PointTransactionMetrics pointTransactionMetrics,
+                                                   IdempotencyStore idempotencyStore,
+                                                   PointJournal pointJournal,
+                                                   @Qualifier("pointAsyncExecutor") ObjectProvider<Executor> pointAsyncExecutor) {
+        int shardCount = properties.shardCount();
+        Executor asyncExecutor = pointAsyncExecutor.getIfAvailable(() -> Runnable::run);
+        List<PointServiceImpl> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new PointServiceImpl(
+                    userPointRepository(userPointStoreProperties, userPointCacheProperties, shardCount),
+                    pointHistoryRepository(pointHistoryStoreProperties),
+                    new LockUserTaskExecutor(shardUserLockTables.get(i), userLockWaitLimiter, pointTransactionMetrics, asyncExecutor),
+                    new GroupCommitQueue(groupCommitProperties.enabled()),
+                    pointJournal, pointTransactionMetrics, idempotencyStore, new InMemoryPointSummaryRepository()));
+        }
+        return new ShardedPointService(shards);
+    }
+
+    private static UserPointRepository userPointRepository(UserPointStoreProperties storeProperties,
+                                                           UserPointCacheProperties cacheProperties,
+                                                           int shardCount) {
+        return switch (storeProperties.store()) {
+            case TABLE -> cacheProperties.enabled()
+                    ? new CachedUserPointRepository(new UserPointTableRepository(new UserPointTable()),
+                            Math.max(1, cacheProperties.maxSize() / shardCount))
+                    : new UserPointTableRepository(new UserPointTable());
+            case PRIMITIVE -> new PrimitiveUserPointRepository(storeProperties.stripes(),
+                    storeProperties.initialCapacity() / shardCount);
+        };
+    }
+
+    private static PointHistoryRepository pointHistoryRepository(PointHistoryStoreProperties storeProperties) {
+        return switch (storeProperties.store()) {
+            case TABLE -> new IndexedPointHistoryRepository(new PointHistoryTable());
+            case COLUMNAR -> new ColumnarPointHistoryRepository();
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 파티션(샤드) 설정 (point.shard.*)
+ *
+ * @param enabled 유저 id 를 해시하여 독립된 샤드에 나누어 처리할지 여부
+ * @param count   샤드 수 (0 이면 CPU 코어 수)
+ */
+@ConfigurationProperties(prefix = "point.shard")
+public record PointShardProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0") int count
+) {
+
+    public int shardCount() {
+        return count > 0 ? count : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.point.lock.ReclaimableUserLockTable;
+import io.hhplus.tdd.point.lock.StripedUserLockTable;
+import io.hhplus.tdd.point.lock.UserLockProperties;
+import io.hhplus.tdd.point.lock.UserLockTable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 샤드마다 하나씩 두는 유저 락 테이블
+ * STRIPED 모드의 stripe 수는 샤드 수로 나누어 전체 stripe 수가 설정과 같도록 합니다.
+ */
+public class ShardUserLockTables {
+
+    private final List<UserLockTable> tables;
+
+    public ShardUserLockTables(UserLockProperties properties, int shardCount) {
+        List<UserLockTable> tables = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            tables.add(switch (properties.mode()) {
+                case STRIPED -> new StripedUserLockTable(Math.max(1, properties.stripes() / shardCount));
+                case RECLAIMABLE -> new ReclaimableUserLockTable();
+            });
+        }
+        this.tables = List.copyOf(tables);
+    }
+
+    public UserLockTable get(int shard) {
+        return tables.get(shard);
+    }
+
+    /**
+     * 모든 샤드의 락 테이블이 보유한 락 수의 합
+     */
+    public int size() {
+        return tables.stream().mapToInt(UserLockTable::size).sum();
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.engine.LockUserTaskExecutor;
+import io.hhplus.tdd.point.engine.MailboxUserTaskExecutor;
+import io.hhplus.tdd.point.engine.UserTaskExecutor;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.lock.StripedUserLockTable;
+import io.hhplus.tdd.point.lock.UserLockWaitLimiter;
+import io.hhplus.tdd.point.metrics.NoOpPointTransactionMetrics;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 비동기 포인트 서비스 테스트
+ *
+ */
+public class AsyncPointServiceTest {
+
+    private final ThreadPoolExecutor asyncExecutor = new ThreadPoolExecutor(4, 4, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(10000));
+
+    @AfterEach
+    void tearDown() {
+        asyncExecutor.shutdownNow();
+    }
+
+    @Test
+    void 비동기로_동시에_충전_사용해도_잔액이_맞다() {
+        assertAsyncBalance(lockExecutor(), false);
+        assertAsyncBalance(lockExecutor(), true);
+        try (MailboxUserTaskExecutor mailbox = new MailboxUserTaskExecutor(2, 1024, new NoOpPointTransactionMetrics())) {
+            assertAsyncBalance(mailbox, true);
+        }
+    }
+
+    @Test
+    void 같은_멱등_키의_비동기_재시도는_한_번만_반영된다() {
+        PointServiceImpl pointService = PointServiceFixture.builder()
+                                                           .executor(lockExecutor())
+                                                           .idempotencyStore(new IdempotencyStore(100, Duration.ofMinutes(1)))
+                                                           .build();
+
+        UserPoint first = pointService.chargeAsync(1L, 100L, "key-1").join();
+        UserPoint retried = pointService.chargeAsync(1L, 100L, "key-1").join();
+
+        assertEquals(first, retried);
+        assertEquals(100L, pointService.selectByIdAsync(1L).join().point());
+        CompletionException e = assertThrows(CompletionException.class, () -> pointService.useAsync(1L, 1000L, "key-2").join());
+        assertFalse(e.getCause() instanceof CompletionException);
+        assertEquals(1, pointService.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    void 전용_스레드가_모두_바쁘고_대기열이_가득_차면_바로_거절한다() {
+        ThreadPoolExecutor busyExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        PointServiceImpl pointService = PointServiceFixture.builder()
+                                                           .executor(new LockUserTaskExecutor(new StripedUserLockTable(16),
+                                                                   UserLockWaitLimiter.unbounded(), new NoOpPointTransactionMetrics(), busyExecutor))
+                                                           .build();
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 2; i++) { // 스레드 1개 + 대기열 1개
+            busyExecutor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        CompletableFuture<UserPoint> rejected = pointService.chargeAsync(1L, 100L, null);
+
+        CompletionException e = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        release.countDown();
+        assertEquals(0L, pointService.selectById(1L).point());
+        busyExecutor.shutdown();
+    }
+
+    private void assertAsyncBalance(UserTaskExecutor userTaskExecutor, boolean groupCommit) {
+
+        PointServiceImpl pointService = PointServiceFixture.builder()
+                                                           .executor(userTaskExecutor)
+                                                           .groupCommit(groupCommit)
+                                                           .build();
+        int userCount = 4;
+        int requestsPerUser = 100;
+
+        List<CompletableFuture<UserPoint>> requests = new ArrayList<>();
+        for (int i = 0; i < userCount * requestsPerUser; i++) {
+            long userId = i % userCount + 1;
+            requests.add(pointService.chargeAsync(userId, 20L, null));
+            requests.add(pointService.useAsync(userId, 10L, null)
+                                     .exceptionally(e -> null)); // 충전보다 먼저 실행되면 잔액 부족
+        }
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+
+        for (long userId = 1; userId <= userCount; userId++) {
+            long used = pointService.selectAllByUserId(userId).size() - requestsPerUser;
+            assertEquals(20L * requestsPerUser - 10L * used, pointService.selectByIdAsync(userId).join().point());
+        }
+    }
+
+    private LockUserTaskExecutor lockExecutor() {
+        return new LockUserTaskExecutor(new StripedUserLockTable(16), UserLockWaitLimiter.unbounded(),
+                new NoOpPointTransactionMetrics(), asyncExecutor);
+    }
+}
@@ -0,0 +1,97 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 열 배열 내역 저장소 테스트
+ *
+ */
+public class ColumnarPointHistoryRepositoryTest {
+
+    private final ColumnarPointHistoryRepository pointHistoryRepository = new ColumnarPointHistoryRepository();
+
+    @Test
+    void 유저별_내역을_기록한_순서대로_조회한다() {
+        PointHistory first = pointHistoryRepository.insert(1L, 100L, TransactionType.CHARGE, 10L);
+        pointHistoryRepository.insert(2L, 200L, TransactionType.CHARGE, 20L);
+        pointHistoryRepository.insert(1L, 50L, TransactionType.USE, 30L);
+
+        List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(1L);
+
+        assertEquals(2, histories.size());
+        assertEquals(first, histories.get(0));
+        assertEquals(new PointHistory(3L, 1L, 50L, TransactionType.USE, 30L), histories.get(1));
+        assertEquals(1, pointHistoryRepository.selectAllByUserId(2L).size());
+        assertTrue(pointHistoryRepository.selectAllByUserId(3L).isEmpty());
+        assertEquals(3, pointHistoryRepository.size());
+    }
+
+    @Test
+    void 커서와_시각_범위로_페이지를_이어서_조회한다() {
+        for (int i = 1; i <= 30; i++) {
+            pointHistoryRepository.insert(1L, i, TransactionType.CHARGE, i);
+        }
+
+        List<Long> amounts = new ArrayList<>();
+        PointHistoryQuery query = PointHistoryQuery.of(null, 6L, 26L, 7);
+        PointHistoryPage page = pointHistoryRepository.selectPageByUserId(1L, query);
+        page.histories().forEach(history -> amounts.add(history.amount()));
+        while (page.hasNext()) {
+            page = pointHistoryRepository.selectPageByUserId(1L, query.next(page.nextAfter()));
+            page.histories().forEach(history -> amounts.add(history.amount()));
+        }
+
+        assertEquals(20, amounts.size());
+        assertEquals(6L, amounts.get(0));
+        assertEquals(25L, amounts.get(19));
+    }
+
+    @Test
+    void 복구한_내역_뒤로_id_를_이어서_발급한다() {
+        pointHistoryRepository.restore(new PointHistory(41L, 1L, 100L, TransactionType.CHARGE, 1L));
+        pointHistoryRepository.restore(new PointHistory(42L, 2L, 100L, TransactionType.CHARGE, 2L));
+
+        PointHistory inserted = pointHistoryRepository.insert(1L, 30L, TransactionType.USE, 3L);
+
+        assertEquals(43L, inserted.id());
+        List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(1L);
+        assertEquals(List.of(41L, 43L), histories.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    void 동시에_기록해도_유저별_id_는_오름차순이다() {
+        int threadCount = 8;
+        int perThread = 5_000;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    pointHistoryRepository.insert(1 + i % 3, 1L, TransactionType.CHARGE, i);
+                }
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        long total = 0;
+        for (long userId = 1; userId <= 3; userId++) {
+            List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(userId);
+            for (int i = 1; i < histories.size(); i++) {
+                assertTrue(histories.get(i - 1).id() < histories.get(i).id());
+            }
+            total += histories.size();
+        }
+        assertEquals((long) threadCount * perThread, total);
+    }
+}
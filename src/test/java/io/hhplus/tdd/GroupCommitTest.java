@@ -0,0 +1,100 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.engine.LockUserTaskExecutor;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.journal.NoOpPointJournal;
+import io.hhplus.tdd.point.lock.StripedUserLockTable;
+import io.hhplus.tdd.point.lock.UserLockWaitLimiter;
+import io.hhplus.tdd.point.metrics.NoOpPointTransactionMetrics;
+import io.hhplus.tdd.point.repository.InMemoryPointSummaryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointTableRepository;
+import io.hhplus.tdd.point.service.GroupCommitQueue;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 그룹 커밋 동시성 테스트
+ *
+ */
+public class GroupCommitTest {
+
+    private UserPointTable userPointTable;
+    private PointHistoryRepository pointHistoryRepository;
+    private PointServiceImpl pointService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = Mockito.spy(new UserPointTable());
+        pointHistoryRepository = Mockito.mock(PointHistoryRepository.class);
+        pointService = new PointServiceImpl(new UserPointTableRepository(userPointTable), pointHistoryRepository,
+                new LockUserTaskExecutor(new StripedUserLockTable(16), UserLockWaitLimiter.unbounded(), new NoOpPointTransactionMetrics()),
+                new GroupCommitQueue(true), new NoOpPointJournal(), new NoOpPointTransactionMetrics(), IdempotencyStore.disabled(),
+                new InMemoryPointSummaryRepository());
+        executor = Executors.newFixedThreadPool(50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 동시_충전은_묶어서_기록하고_내역은_요청마다_남긴다() {
+        int threadCount = 200;
+        long point = 100;
+
+        List<CompletableFuture<UserPoint>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> pointService.charge(1L, point), executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        assertEquals(threadCount * point, pointService.selectById(1L).point());
+        verify(pointHistoryRepository, times(threadCount)).insert(eq(1L), eq(point), any(), anyLong());
+        verify(userPointTable, atMost(threadCount - 1)).insertOrUpdate(eq(1L), anyLong());
+
+        // 각 요청은 자신까지 반영된 서로 다른 잔액을 받습니다.
+        assertEquals(threadCount, futures.stream().map(CompletableFuture::join).map(UserPoint::point).distinct().count());
+    }
+
+    @Test
+    void 잔액을_넘는_사용은_해당_요청만_실패한다() {
+        pointService.charge(1L, 500L);
+        AtomicInteger failures = new AtomicInteger();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    pointService.use(1L, 100L);
+                } catch (RuntimeException e) {
+                    assertTrue(e.getMessage().startsWith("사용자의 포인트 잔액이 부족합니다."));
+                    failures.incrementAndGet();
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        assertEquals(0L, pointService.selectById(1L).point());
+        assertEquals(5, failures.get());
+    }
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.hotaccount.HotAccount;
+import io.hhplus.tdd.point.hotaccount.HotAccountOrder;
+import io.hhplus.tdd.point.hotaccount.HotAccountTracker;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 락 경합 유저 추적 테스트
+ *
+ */
+public class HotAccountTrackerTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void 추적_용량보다_유저가_많아도_자주_기다린_유저는_상위에_남는다() {
+        HotAccountTracker tracker = new HotAccountTracker(8, Duration.ofSeconds(60), 6);
+
+        for (int round = 0; round < 100; round++) {
+            tracker.record(1L, 3, 1_000, SECOND);
+            tracker.record(2L, 2, 1_000, SECOND);
+            tracker.record(1_000L + round, 1, 1_000, SECOND);
+        }
+
+        List<HotAccount> top = tracker.top(2, HotAccountOrder.CONTENTIONS, SECOND);
+
+        assertEquals(List.of(1L, 2L), top.stream().map(HotAccount::userId).sorted().toList());
+        for (HotAccount account : top) {
+            assertTrue(account.contentions() >= 100);
+            assertTrue(account.contentions() - account.error() <= 100);
+        }
+    }
+
+    @Test
+    void 치우친_무작위_기록에서도_횟수는_오차_범위_안이고_자주_기다린_유저는_빠지지_않는다() {
+        int capacity = 32;
+        HotAccountTracker tracker = new HotAccountTracker(capacity, Duration.ofSeconds(60), 6);
+        Map<Long, Long> exact = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(7);
+        int records = 200_000;
+        for (int i = 0; i < records; i++) {
+            // 작은 userId 일수록 자주 나오도록 치우치게 고릅니다.
+            long userId = (long) Math.floor(Math.pow(random.nextDouble(), 3) * 5_000);
+            tracker.record(userId, 1, 1, SECOND);
+            exact.merge(userId, 1L, Long::sum);
+        }
+
+        List<HotAccount> tracked = tracker.top(capacity, HotAccountOrder.CONTENTIONS, SECOND);
+
+        assertEquals(capacity, tracked.size());
+        assertEquals(records, tracked.stream().mapToLong(HotAccount::contentions).sum());
+        for (HotAccount account : tracked) {
+            long actual = exact.getOrDefault(account.userId(), 0L);
+            assertTrue(account.contentions() >= actual, () -> account + " actual " + actual);
+            assertTrue(account.contentions() - account.error() <= actual, () -> account + " actual " + actual);
+        }
+        exact.forEach((userId, count) -> {
+            if (count > records / capacity) {
+                assertTrue(tracked.stream().anyMatch(account -> account.userId() == userId), () -> "user " + userId);
+            }
+        });
+    }
+
+    @Test
+    void 구간이_지난_기록은_집계하지_않는다() {
+        HotAccountTracker tracker = new HotAccountTracker(8, Duration.ofSeconds(60), 6);
+
+        tracker.record(1L, 1, 1_000, 0);
+        tracker.record(2L, 1, 1_000, 30 * SECOND);
+
+        assertEquals(2, tracker.top(10, HotAccountOrder.CONTENTIONS, 30 * SECOND).size());
+        List<HotAccount> later = tracker.top(10, HotAccountOrder.CONTENTIONS, 65 * SECOND);
+        assertEquals(List.of(2L), later.stream().map(HotAccount::userId).toList());
+    }
+
+    @Test
+    void 기다린_시간과_대기_스레드_수로_정렬할_수_있다() {
+        HotAccountTracker tracker = new HotAccountTracker(8, Duration.ofSeconds(60), 6);
+
+        tracker.record(1L, 2, 1_000, SECOND);
+        tracker.record(1L, 2, 1_000, SECOND);
+        tracker.record(2L, 9, 50_000, SECOND);
+
+        assertEquals(1L, tracker.top(1, HotAccountOrder.CONTENTIONS, SECOND).get(0).userId());
+        HotAccount slowest = tracker.top(1, HotAccountOrder.WAIT_TIME, SECOND).get(0);
+        assertEquals(2L, slowest.userId());
+        assertEquals(50_000, slowest.maxWaitNanos());
+        assertEquals(2L, tracker.top(1, HotAccountOrder.WAITERS, SECOND).get(0).userId());
+    }
+}
@@ -0,0 +1,155 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.idempotency.IdempotencyKeyConflictException;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 멱등 키 저장소 테스트
+ *
+ */
+public class IdempotencyStoreTest {
+
+    private IdempotencyStore idempotencyStore;
+    private PointServiceImpl pointService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyStore = new IdempotencyStore(1000, Duration.ofMinutes(10));
+        pointService = PointServiceFixture.builder()
+                                          .idempotencyStore(idempotencyStore)
+                                          .build();
+    }
+
+    @Test
+    void 같은_키로_다시_충전하면_처음_결과를_돌려준다() {
+        UserPoint first = pointService.charge(1L, 100L, "key-1");
+        UserPoint retried = pointService.charge(1L, 100L, "key-1");
+
+        assertEquals(first, retried);
+        assertEquals(100L, pointService.selectById(1L).point());
+        assertEquals(1, pointService.selectAllByUserId(1L).size());
+        assertEquals(1, idempotencyStore.stats().replays());
+
+        // 키가 없거나 다른 유저면 따로 처리합니다.
+        assertEquals(200L, pointService.charge(1L, 100L, null).point());
+        assertEquals(100L, pointService.charge(2L, 100L, "key-1").point());
+    }
+
+    @Test
+    void 같은_키를_다른_요청에_쓰면_거절한다() {
+        pointService.charge(1L, 100L, "key-1");
+
+        assertThrows(IdempotencyKeyConflictException.class, () -> pointService.charge(1L, 200L, "key-1"));
+        assertThrows(IdempotencyKeyConflictException.class, () -> pointService.use(1L, 100L, "key-1"));
+        assertEquals(100L, pointService.selectById(1L).point());
+    }
+
+    @Test
+    void 실패한_요청은_같은_키로_다시_시도할_수_있다() {
+        pointService.charge(1L, 100L);
+
+        assertThrows(RuntimeException.class, () -> pointService.use(1L, 300L, "use-1"));
+        pointService.charge(1L, 200L);
+
+        assertEquals(0L, pointService.use(1L, 300L, "use-1").point());
+        assertEquals(0L, pointService.use(1L, 300L, "use-1").point());
+    }
+
+    @Test
+    void 동시에_들어온_같은_키의_요청은_한_번만_실행한다() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> idempotencyStore.execute(1L, "key-1", TransactionType.CHARGE, 100L, () -> {
+                executions.incrementAndGet();
+                await(started);
+                return new UserPoint(1L, 100L, 1L);
+            }), clients));
+        }
+        started.countDown();
+
+        UserPoint first = results.get(0).join();
+        for (CompletableFuture<UserPoint> result : results) {
+            assertSame(first, result.join());
+        }
+        assertEquals(1, executions.get());
+        clients.shutdown();
+    }
+
+    @Test
+    void 보관_시간이_지나거나_최대_크기를_넘으면_다시_실행한다() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(2, Duration.ofMillis(50));
+        AtomicInteger executions = new AtomicInteger();
+
+        store.execute(1L, "key-1", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, executions.incrementAndGet(), 0));
+        Thread.sleep(100);
+        store.execute(1L, "key-1", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, executions.incrementAndGet(), 0));
+        assertEquals(2, executions.get());
+
+        IdempotencyStore small = new IdempotencyStore(1, Duration.ofMinutes(1));
+        small.execute(1L, "key-1", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, 1L, 0));
+        small.execute(1L, "key-2", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, 2L, 0));
+        assertEquals(1, small.stats().evictions());
+        assertEquals(1, small.stats().size());
+    }
+
+    @Test
+    void 처리_중인_키는_밀어내지_않고_처리_중인_키로만_가득_차면_새_키를_거절한다() {
+        IdempotencyStore small = new IdempotencyStore(1, Duration.ofMinutes(1));
+        CompletableFuture<UserPoint> inFlight = new CompletableFuture<>();
+        small.executeAsync(1L, "key-1", TransactionType.CHARGE, 100L, () -> inFlight);
+
+        assertThrows(RejectedExecutionException.class,
+                () -> small.execute(1L, "key-2", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, 2L, 0)));
+        assertEquals(0, small.stats().evictions());
+
+        inFlight.complete(new UserPoint(1L, 100L, 0));
+        small.execute(1L, "key-2", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, 2L, 0));
+        assertEquals(1, small.stats().evictions());
+        small.close();
+    }
+
+    @Test
+    void 만료된_키는_요청이_없어도_백그라운드에서_지운다() throws Exception {
+        IdempotencyStore store = new IdempotencyStore(100, Duration.ofMillis(40));
+        for (long userId = 1; userId <= 50; userId++) {
+            store.execute(userId, "key", TransactionType.CHARGE, 100L, () -> new UserPoint(1L, 1L, 0));
+        }
+        assertEquals(50, store.stats().size());
+
+        Thread.sleep(300);
+
+        assertEquals(0, store.stats().size());
+        store.close();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.engine.InFlightLimitExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 동시 실행 수 제한 실행기 테스트
+ *
+ */
+public class InFlightLimitExecutorTest {
+
+    private final ExecutorService threadPerTask = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        threadPerTask.shutdownNow();
+    }
+
+    @Test
+    void 실행_중인_작업이_가득_차면_기다리지_않고_거절한다() throws Exception {
+        InFlightLimitExecutor executor = new InFlightLimitExecutor(threadPerTask, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                awaitQuietly(release);
+                finished.countDown();
+            });
+        }
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        assertEquals(2, executor.inFlight());
+
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        while (executor.inFlight() > 0) {
+            Thread.onSpinWait();
+        }
+        CountDownLatch accepted = new CountDownLatch(1);
+        executor.execute(accepted::countDown);
+        assertTrue(accepted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 작업이_실패하거나_위임_실행기가_거절해도_자리를_돌려준다() throws Exception {
+        InFlightLimitExecutor failing = new InFlightLimitExecutor(Runnable::run, 1);
+        assertThrows(IllegalStateException.class, () -> failing.execute(() -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(0, failing.inFlight());
+
+        InFlightLimitExecutor rejecting = new InFlightLimitExecutor(command -> {
+            throw new RejectedExecutionException();
+        }, 1);
+        assertThrows(RejectedExecutionException.class, () -> rejecting.execute(() -> { }));
+        assertEquals(0, rejecting.inFlight());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.engine.MailboxUserTaskExecutor;
+import io.hhplus.tdd.point.metrics.NoOpPointTransactionMetrics;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 메일박스 실행 방식 테스트
+ *
+ */
+public class MailboxUserTaskExecutorTest {
+
+    private MailboxUserTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new MailboxUserTaskExecutor(4, 64, new NoOpPointTransactionMetrics());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void 같은_유저의_작업은_한_스레드에서_들어온_순서대로_실행된다() {
+        List<Integer> order = new ArrayList<>(); // 동기화하지 않은 리스트
+        Set<String> threads = new HashSet<>();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            int sequence = i;
+            results.add(executor.submit(1L, () -> {
+                order.add(sequence);
+                threads.add(Thread.currentThread().getName());
+                return sequence;
+            }));
+        }
+
+        assertEquals(999, results.get(999).join());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, order.get(i));
+        }
+        assertEquals(Set.of("point-mailbox-" + executor.partitionIndexOf(1L)), threads);
+    }
+
+    @Test
+    void 메일박스로_동시에_충전_사용해도_잔액이_맞다() throws Exception {
+        PointServiceImpl pointService = PointServiceFixture.pointService(executor);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        int userCount = 10;
+        int requestsPerUser = 200;
+
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < userCount * requestsPerUser; i++) {
+            long userId = i % userCount + 1;
+            requests.add(CompletableFuture.runAsync(() -> pointService.charge(userId, 10L), clients));
+        }
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+        clients.shutdown();
+
+        for (long userId = 1; userId <= userCount; userId++) {
+            assertEquals(10L * requestsPerUser, pointService.selectById(userId).point());
+            assertEquals(requestsPerUser, pointService.selectAllByUserId(userId).size());
+        }
+        RuntimeException e = assertThrows(RuntimeException.class, () -> pointService.use(1L, Long.MAX_VALUE));
+        assertTrue(e.getMessage().contains("잔액이 부족합니다"));
+    }
+
+    @Test
+    void 종료하면_이미_맡긴_작업을_모두_실행한다() {
+        List<CompletableFuture<Long>> results = new ArrayList<>();
+        for (long userId = 1; userId <= 100; userId++) {
+            long id = userId;
+            results.add(executor.submit(userId, () -> id));
+        }
+
+        executor.close();
+
+        assertTrue(results.stream().allMatch(CompletableFuture::isDone));
+        assertThrows(IllegalStateException.class, () -> executor.submit(1L, () -> 1L));
+    }
+
+    @Test
+    void 종료_대기_시간_안에_끝나지_않으면_남은_작업은_실행하지_않고_거절한다() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Supplier<Long> task = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return 1L;
+        };
+        MailboxUserTaskExecutor slow = new MailboxUserTaskExecutor(1, 8, new NoOpPointTransactionMetrics(), Duration.ofMillis(100));
+        CompletableFuture<Long> blocked = slow.submit(1L, task);
+        CompletableFuture<Long> queued = slow.submit(1L, task);
+
+        slow.close();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> queued.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        release.countDown();
+        assertEquals(1L, blocked.get(1, TimeUnit.SECONDS));
+        assertEquals(1, maxRunning.get());
+    }
+}
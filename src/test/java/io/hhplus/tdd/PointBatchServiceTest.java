@@ -0,0 +1,116 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.engine.LockUserTaskExecutor;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.batch.PointBatchResult;
+import io.hhplus.tdd.point.batch.PointBatchService;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.journal.NoOpPointJournal;
+import io.hhplus.tdd.point.lock.StripedUserLockTable;
+import io.hhplus.tdd.point.lock.UserLockWaitLimiter;
+import io.hhplus.tdd.point.metrics.NoOpPointTransactionMetrics;
+import io.hhplus.tdd.point.repository.InMemoryPointSummaryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointTableRepository;
+import io.hhplus.tdd.point.service.GroupCommitQueue;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 대량 충전/사용 테스트
+ *
+ */
+public class PointBatchServiceTest {
+
+    private UserPointTable userPointTable;
+    private PointHistoryRepository pointHistoryRepository;
+    private PointBatchService pointBatchService;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        userPointTable = Mockito.spy(new UserPointTable());
+        pointHistoryRepository = Mockito.mock(PointHistoryRepository.class);
+        PointServiceImpl pointService = new PointServiceImpl(new UserPointTableRepository(userPointTable), pointHistoryRepository,
+                new LockUserTaskExecutor(new StripedUserLockTable(16), UserLockWaitLimiter.unbounded(), new NoOpPointTransactionMetrics()),
+                new GroupCommitQueue(false), new NoOpPointJournal(), new NoOpPointTransactionMetrics(), IdempotencyStore.disabled(),
+                new InMemoryPointSummaryRepository());
+        executor = Executors.newFixedThreadPool(8);
+        pointBatchService = new PointBatchService(pointService, executor, 4, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 유저별로_요청_순서대로_처리하고_잔액은_유저당_한_번만_기록한다() {
+        List<PointOperation> operations = new ArrayList<>();
+        for (long userId = 1; userId <= 5; userId++) {
+            operations.add(new PointOperation(userId, TransactionType.CHARGE, 100));
+        }
+        for (long userId = 1; userId <= 5; userId++) {
+            operations.add(new PointOperation(userId, TransactionType.USE, 30));
+        }
+
+        List<PointBatchResult> results = Collections.synchronizedList(new ArrayList<>());
+        pointBatchService.execute(operations, results::add);
+
+        assertEquals(operations.size(), results.size());
+        results.sort(Comparator.comparingInt(PointBatchResult::index));
+        for (int i = 0; i < 5; i++) {
+            assertNull(results.get(i).error());
+            assertEquals(100, results.get(i).userPoint().point());
+            assertEquals(70, results.get(i + 5).userPoint().point());
+        }
+        for (long userId = 1; userId <= 5; userId++) {
+            assertEquals(70, userPointTable.selectById(userId).point());
+            verify(userPointTable, times(1)).insertOrUpdate(eq(userId), anyLong());
+        }
+        verify(pointHistoryRepository, times(10)).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    void 잔액이_부족한_요청만_실패한다() {
+        List<PointOperation> operations = List.of(
+                new PointOperation(1L, TransactionType.CHARGE, 50),
+                new PointOperation(1L, TransactionType.USE, 80),
+                new PointOperation(1L, TransactionType.USE, 20)
+        );
+
+        List<PointBatchResult> results = Collections.synchronizedList(new ArrayList<>());
+        pointBatchService.execute(operations, results::add);
+
+        assertEquals(List.of(0, 1, 2), results.stream().map(PointBatchResult::index).toList());
+        assertNull(results.get(0).error());
+        assertNotNull(results.get(1).error());
+        assertNull(results.get(1).userPoint());
+        assertEquals(30, results.get(2).userPoint().point());
+        verify(pointHistoryRepository, times(2)).insert(eq(1L), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    void 최대_건수를_넘으면_처리하지_않는다() {
+        List<PointOperation> operations = Collections.nCopies(101, new PointOperation(1L, TransactionType.CHARGE, 10));
+
+        assertThrows(IllegalArgumentException.class, () -> pointBatchService.execute(operations, result -> {}));
+        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,202 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.cluster.ConsistentHashRing;
+import io.hhplus.tdd.point.cluster.PointClusterMembership;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 여러 노드 구성 테스트
+ *
+ */
+public class PointClusterTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Test
+    void 노드를_하나_더하면_새_노드로_옮겨_가는_유저만_바뀌고_고르게_나뉜다() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("node-1", "node-2", "node-3"), 160);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("node-4", "node-3", "node-2", "node-1"), 160);
+        Map<String, Integer> owned = new HashMap<>();
+        int moved = 0;
+        int users = 100_000;
+
+        for (long userId = 1; userId <= users; userId++) {
+            String owner = after.ownerOf(userId);
+            owned.merge(owner, 1, Integer::sum);
+            if (!owner.equals(before.ownerOf(userId))) {
+                assertEquals("node-4", owner);
+                moved++;
+            }
+        }
+
+        assertTrue(moved > users * 0.18 && moved < users * 0.32, () -> "moved: " + owned);
+        owned.values().forEach(count -> assertTrue(count > users * 0.18 && count < users * 0.32, () -> "owned: " + owned));
+    }
+
+    @Test
+    void 다른_노드의_유저_요청은_맡은_노드로_전달되고_전달하지_못하면_503으로_응답한다() throws Exception {
+        int port1 = freePort();
+        int port2 = freePort();
+        int unreachable = freePort();
+        Map<String, URI> nodes = Map.of("node-1", URI.create("http://localhost:" + port1),
+                "node-2", URI.create("http://localhost:" + port2),
+                "node-3", URI.create("http://localhost:" + unreachable));
+        PointClusterMembership membership = new PointClusterMembership("node-1", nodes, 160);
+        long remoteUser = LongStream.rangeClosed(1, 1000).filter(id -> membership.ownerOf(id).equals("node-2")).findFirst().orElseThrow();
+        long localUser = LongStream.rangeClosed(1, 1000).filter(id -> membership.ownerOf(id).equals("node-1")).findFirst().orElseThrow();
+        long downUser = LongStream.rangeClosed(1, 1000).filter(id -> membership.ownerOf(id).equals("node-3")).findFirst().orElseThrow();
+
+        try (ConfigurableApplicationContext node1 = start("node-1", port1, nodes);
+             ConfigurableApplicationContext node2 = start("node-2", port2, nodes)) {
+
+            HttpResponse<String> charged = send(port1, "PATCH", "/point/" + remoteUser + "/charge", "100");
+            assertEquals(200, charged.statusCode());
+            assertTrue(charged.body().contains("\"point\":100"), charged.body());
+
+            // 맡은 노드에만 기록되어 어느 노드로 조회해도 같은 잔액이 나옵니다.
+            assertTrue(send(port2, "GET", "/point/" + remoteUser, null).body().contains("\"point\":100"));
+            assertTrue(send(port1, "GET", "/point/" + remoteUser + "/histories", null).body().contains("\"amount\":100"));
+            assertEquals(100L, node2.getBean(PointService.class).selectById(remoteUser).point());
+            assertEquals(0L, node1.getBean(PointService.class).selectById(remoteUser).point());
+
+            // 오류 응답도 맡은 노드의 응답 그대로 돌려줍니다.
+            HttpResponse<String> insufficient = send(port1, "PATCH", "/point/" + remoteUser + "/use", "1000");
+            HttpResponse<String> direct = send(port2, "PATCH", "/point/" + remoteUser + "/use", "1000");
+            assertEquals(direct.statusCode(), insufficient.statusCode());
+            assertEquals(direct.body(), insufficient.body());
+
+            // 일괄 처리는 이 노드가 맡은 유저만 처리합니다.
+            HttpResponse<String> batch = send(port1, "POST", "/point/batch",
+                    "[{\"userId\":" + localUser + ",\"type\":\"CHARGE\",\"amount\":10},{\"userId\":" + remoteUser + ",\"type\":\"CHARGE\",\"amount\":10}]");
+            assertEquals(200, batch.statusCode());
+            assertTrue(batch.body().contains("다른 노드가 맡은 사용자입니다"), batch.body());
+            assertTrue(send(port2, "GET", "/point/" + remoteUser, null).body().contains("\"point\":100"));
+
+            // 송금은 받는 유저도 같은 노드가 맡아야 하며, 거절되면 어느 쪽도 바뀌지 않습니다.
+            HttpResponse<String> transfer = send(port1, "PATCH", "/point/" + localUser + "/transfer",
+                    "{\"toUserId\":" + remoteUser + ",\"amount\":1}");
+            assertEquals(422, transfer.statusCode());
+            assertTrue(transfer.body().contains("다른 노드가 맡은 사용자에게는 송금할 수 없습니다"), transfer.body());
+            assertTrue(send(port1, "GET", "/point/" + localUser, null).body().contains("\"point\":10"));
+            assertTrue(send(port2, "GET", "/point/" + remoteUser, null).body().contains("\"point\":100"));
+
+            HttpResponse<String> down = send(port1, "GET", "/point/" + downUser, null);
+            assertEquals(503, down.statusCode());
+            assertNotEquals(null, down.headers().firstValue("Retry-After").orElse(null));
+        }
+    }
+
+    @Test
+    void 노드를_더하면_새_노드는_옮겨_온_유저의_잔액과_내역을_이전_노드에서_넘겨받고_이전_노드는_그_유저를_전달한다() throws Exception {
+        int port1 = freePort();
+        int port2 = freePort();
+        Map<String, URI> before = Map.of("node-1", URI.create("http://localhost:" + port1));
+        Map<String, URI> after = Map.of("node-1", URI.create("http://localhost:" + port1),
+                "node-2", URI.create("http://localhost:" + port2));
+        PointClusterMembership membership = new PointClusterMembership("node-2", after, before, 160);
+        long[] moved = LongStream.rangeClosed(1, 1000).filter(id -> "node-1".equals(membership.previousOwnerOf(id))).limit(5).toArray();
+        long stayed = LongStream.rangeClosed(1, 1000).filter(id -> membership.ownerOf(id).equals("node-1")).findFirst().orElseThrow();
+
+        // 이전 노드는 새 목록으로 바꾸고, 옮겨 갈 유저는 목록을 바꾸기 전에 기록한 상태입니다.
+        try (ConfigurableApplicationContext node1 = start("node-1", port1, after)) {
+            PointService pointService1 = node1.getBean(PointService.class);
+            for (long userId : LongStream.concat(LongStream.of(moved), LongStream.of(stayed)).toArray()) {
+                pointService1.charge(userId, 100);
+                pointService1.use(userId, 30);
+            }
+
+            // 설정의 목록에 없는 노드나 이전 노드 자신에게는 넘기지 않습니다.
+            assertNotEquals(200, send(port1, "POST", "/cluster/point/" + moved[0] + "/handoff?to=node-9", null).statusCode());
+            assertNotEquals(200, send(port1, "POST", "/cluster/point/" + moved[0] + "/handoff?to=node-1", null).statusCode());
+            assertEquals(71L, pointService1.charge(moved[0], 1).point());
+            assertEquals(70L, pointService1.use(moved[0], 1).point());
+
+            // 새 노드는 새 목록과 이전 목록으로 시작합니다.
+            try (ConfigurableApplicationContext node2 = start("node-2", port2, after, before)) {
+                PointService pointService2 = node2.getBean(PointService.class);
+
+                // 처음 요청에서 넘겨받은 잔액, 내역, 집계
+                assertTrue(send(port2, "GET", "/point/" + moved[0], null).body().contains("\"point\":70"));
+                String histories = send(port2, "GET", "/point/" + moved[0] + "/histories", null).body();
+                assertTrue(histories.contains("\"amount\":100") && histories.contains("\"amount\":30"), histories);
+                assertEquals(2L, pointService2.selectSummary(moved[0]).useCount());
+
+                // 넘긴 유저는 이전 노드로 요청해도 새 노드로 전달되고, 이전 노드에서는 더 기록하지 않습니다.
+                HttpResponse<String> charged = send(port1, "PATCH", "/point/" + moved[0] + "/charge", "10");
+                assertEquals(200, charged.statusCode());
+                assertTrue(charged.body().contains("\"point\":80"), charged.body());
+                assertEquals(80L, pointService2.selectById(moved[0]).point());
+                assertThrows(RejectedExecutionException.class, () -> node1.getBean(PointService.class).charge(moved[0], 1));
+
+                // 비동기 API 도 넘겨받은 뒤 처리하고, 이전 노드에서는 sendAsync 로 전달합니다.
+                assertTrue(send(port2, "PATCH", "/async/point/" + moved[1] + "/charge", "10").body().contains("\"point\":80"));
+                HttpResponse<String> asyncCharged = send(port1, "PATCH", "/async/point/" + moved[1] + "/charge", "10");
+                assertEquals(200, asyncCharged.statusCode());
+                assertTrue(asyncCharged.body().contains("\"point\":90"), asyncCharged.body());
+
+                // 송금 받는 유저와 일괄 처리의 유저도 넘겨받은 뒤 처리합니다.
+                HttpResponse<String> transfer = send(port2, "PATCH", "/point/" + moved[2] + "/transfer",
+                        "{\"toUserId\":" + moved[3] + ",\"amount\":20}");
+                assertEquals(200, transfer.statusCode());
+                assertTrue(transfer.body().contains("\"point\":50"), transfer.body());
+                assertEquals(90L, pointService2.selectById(moved[3]).point());
+                HttpResponse<String> batch = send(port2, "POST", "/point/batch",
+                        "[{\"userId\":" + moved[4] + ",\"type\":\"CHARGE\",\"amount\":5}]");
+                assertEquals(200, batch.statusCode());
+                assertEquals(75L, pointService2.selectById(moved[4]).point());
+
+                // 맡은 노드가 바뀌지 않은 유저는 이전 노드에 그대로 있습니다.
+                assertTrue(send(port2, "GET", "/point/" + stayed, null).body().contains("\"point\":70"));
+                assertEquals(0L, pointService2.selectById(stayed).point());
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start(String nodeId, int port, Map<String, URI> nodes) {
+        return start(nodeId, port, nodes, Map.of());
+    }
+
+    private ConfigurableApplicationContext start(String nodeId, int port, Map<String, URI> nodes, Map<String, URI> previousNodes) {
+        List<String> args = new ArrayList<>(List.of("--server.port=" + port, "--point.cluster.enabled=true",
+                "--point.cluster.node-id=" + nodeId, "--point.cluster.forward-timeout=1s", "--point.balance.store=primitive",
+                "--point.history.store=columnar", "--point.metrics.enabled=false"));
+        nodes.forEach((id, uri) -> args.add("--point.cluster.nodes." + id + "=" + uri));
+        previousNodes.forEach((id, uri) -> args.add("--point.cluster.previous-nodes." + id + "=" + uri));
+        return new SpringApplicationBuilder(TddApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private HttpResponse<String> send(int port, String method, String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                                         .header("Content-Type", "application/json")
+                                         .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                                         .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package io.hhplus.tdd.point.controller;
 
 import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointOperation;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
 import io.hhplus.tdd.point.service.PointService;
@@ -13,11 +14,13 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.Mockito.when;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -64,6 +67,72 @@ class PointControllerTest {
         ;
     }
 
+    @Test
+    void summary_특정_유저의_누적_집계를_조회한다() throws Exception {
+        // 집계할 거래 설정
+        long userId = 301L;
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("100"))
+                .andExpect(status().isOk());
+
+        // 요청 및 응답 검증
+        mockMvc.perform(get("/point/{id}/summary", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.chargeCount").value(1))
+                .andExpect(jsonPath("$.chargeAmount").value(100))
+                .andExpect(jsonPath("$.useCount").value(0))
+        ;
+    }
+
+    @Test
+    void historyPage_페이지_크기가_범위를_벗어나면_실패한다() throws Exception {
+        // 요청 및 응답 검증
+        mockMvc.perform(get("/point/{id}/histories/page", 1L).param("limit", "0"))
+                .andExpect(status().is5xxServerError())
+        ;
+    }
+
+    @Test
+    void historyStream_특정_유저의_내역을_NDJSON으로_내려받는다() throws Exception {
+        // 요청 및 응답 검증
+        MvcResult mvcResult = mockMvc.perform(get("/point/{id}/histories/stream", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+        ;
+    }
+
+    @Test
+    void transfer_다른_유저에게_포인트를_송금한다() throws Exception {
+        // 보낼 포인트 충전
+        long fromId = 311L;
+        long toId = 312L;
+        mockMvc.perform(patch("/point/{id}/charge", fromId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("100"))
+                .andExpect(status().isOk());
+
+        // 요청 및 응답 검증
+        mockMvc.perform(patch("/point/{id}/transfer", fromId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"toUserId\":" + toId + ",\"amount\":30}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(70))
+        ;
+        mockMvc.perform(get("/point/{id}", toId))
+                .andExpect(jsonPath("$.point").value(30))
+        ;
+        mockMvc.perform(patch("/point/{id}/transfer", fromId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"toUserId\":" + toId + ",\"amount\":100}"))
+                .andExpect(status().is5xxServerError())
+        ;
+    }
+
     @Test
     void charge_특정_유저의_포인트를_충전한다() throws Exception {
         // 포인트 충전 데이터 설정
@@ -95,4 +164,80 @@ class PointControllerTest {
                 .andExpect(status().is5xxServerError())
         ;
     }
+
+    @Test
+    void charge_같은_멱등_키로_재시도하면_처음_결과를_돌려준다() throws Exception {
+        // 재시도 요청 설정
+        long userId = 201L;
+        String idempotencyKey = "charge-201-1";
+
+        // 요청 및 응답 검증
+        String first = mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("100"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("100"))
+                .andExpect(status().isOk())
+                .andExpect(content().json(first, true))
+        ;
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("200"))
+                .andExpect(status().isConflict())
+        ;
+        mockMvc.perform(get("/point/{id}", userId))
+                .andExpect(jsonPath("$.point").value(100))
+        ;
+    }
+
+    @Test
+    void asyncCharge_요청_스레드를_반납하고_충전_결과를_응답한다() throws Exception {
+        // 비동기 충전 데이터 설정
+        long userId = 401L;
+
+        // 요청 및 응답 검증
+        MvcResult mvcResult = mockMvc.perform(patch("/async/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("300"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(userId))
+                .andExpect(jsonPath("$.point").value(300))
+        ;
+        mockMvc.perform(asyncDispatch(mockMvc.perform(get("/async/point/{id}", userId)).andReturn()))
+                .andExpect(jsonPath("$.point").value(300))
+        ;
+    }
+
+    @Test
+    void batch_여러_유저의_포인트를_한_번에_충전한다() throws Exception {
+        // 대량 충전 데이터 설정
+        List<PointOperation> operations = List.of(
+                new PointOperation(101L, TransactionType.CHARGE, 100L),
+                new PointOperation(102L, TransactionType.CHARGE, 200L)
+        );
+
+        // 요청 및 응답 검증
+        MvcResult mvcResult = mockMvc.perform(post("/point/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(operations)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(containsString("\"userId\":101")))
+                .andExpect(content().string(containsString("\"userId\":102")))
+        ;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.repository.HistoryBackpressure;
+import io.hhplus.tdd.point.repository.OutboxPointHistoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 비동기 내역 기록(outbox) 테스트
+ *
+ */
+public class PointHistoryOutboxTest {
+
+    private PointHistoryTable pointHistoryTable;
+    private CountDownLatch writerGate;
+    private OutboxPointHistoryRepository outbox;
+
+    @BeforeEach
+    void setUp() {
+        AtomicLong cursor = new AtomicLong(1);
+        writerGate = new CountDownLatch(1);
+        pointHistoryTable = Mockito.mock(PointHistoryTable.class);
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> {
+            if ((long) invocation.getArgument(0) == 1L) {
+                writerGate.await(); // 유저 1 의 기록은 문이 열릴 때까지 멈춥니다.
+            }
+            return new PointHistory(cursor.getAndIncrement(), invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(2), invocation.getArgument(3));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        writerGate.countDown();
+        outbox.close();
+    }
+
+    @Test
+    void 기록_대기중인_내역도_바로_조회된다() {
+        outbox = new OutboxPointHistoryRepository(pointHistoryTable, 100, 1, HistoryBackpressure.BLOCK, Duration.ofSeconds(5));
+
+        outbox.insert(1L, 100L, TransactionType.CHARGE, 1L);
+        outbox.insert(1L, 200L, TransactionType.CHARGE, 2L);
+        outbox.insert(1L, 50L, TransactionType.USE, 3L);
+
+        List<PointHistory> pending = outbox.selectAllByUserId(1L);
+        assertEquals(List.of(100L, 200L, 50L), pending.stream().map(PointHistory::amount).toList());
+
+        writerGate.countDown();
+        outbox.close();
+
+        List<PointHistory> persisted = outbox.selectAllByUserId(1L);
+        assertEquals(List.of(100L, 200L, 50L), persisted.stream().map(PointHistory::amount).toList());
+        assertEquals(List.of(1L, 2L, 3L), persisted.stream().map(PointHistory::id).toList());
+    }
+
+    @Test
+    void 종료하면_남은_내역을_모두_기록하고_새_내역은_거절한다() {
+        outbox = new OutboxPointHistoryRepository(pointHistoryTable, 1000, 4, HistoryBackpressure.BLOCK, Duration.ofSeconds(5));
+        writerGate.countDown();
+
+        for (int i = 1; i <= 100; i++) {
+            outbox.insert(2L + i % 5, i, TransactionType.CHARGE, i);
+        }
+        outbox.close();
+
+        verify(pointHistoryTable, times(100)).insert(anyLong(), anyLong(), any(), anyLong());
+        for (long userId = 2; userId <= 6; userId++) {
+            List<Long> amounts = outbox.selectAllByUserId(userId).stream().map(PointHistory::amount).toList();
+            assertEquals(20, amounts.size());
+            for (int i = 1; i < amounts.size(); i++) {
+                assertTrue(amounts.get(i - 1) < amounts.get(i)); // 유저별 기록 순서 유지
+            }
+        }
+        assertThrows(IllegalStateException.class, () -> outbox.insert(2L, 1L, TransactionType.CHARGE, 1L));
+    }
+
+    @Test
+    void 여러_writer_와_직접_기록하는_요청이_있어도_테이블에는_한_번에_하나씩_기록한다() {
+        AtomicInteger writing = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        // 원본처럼 동기화하지 않은 테이블 : 기록이 겹치면 id 가 중복되거나 행이 사라질 수 있습니다.
+        PointHistoryTable unsafeTable = new PointHistoryTable() {
+            private long cursor = 1;
+
+            @Override
+            public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+                if (writing.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                Thread.yield();
+                PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+                writing.decrementAndGet();
+                return pointHistory;
+            }
+        };
+        outbox = new OutboxPointHistoryRepository(unsafeTable, 8, 4, HistoryBackpressure.CALLER_RUNS, Duration.ofSeconds(5));
+
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            long userId = 10L + t;
+            requests.add(CompletableFuture.runAsync(() -> {
+                for (int i = 1; i <= 500; i++) {
+                    outbox.insert(userId, i, TransactionType.CHARGE, i);
+                }
+            }));
+        }
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+        outbox.close();
+
+        assertEquals(0, overlaps.get());
+        Set<Long> ids = new HashSet<>();
+        for (long userId = 10; userId < 14; userId++) {
+            outbox.selectAllByUserId(userId).forEach(history -> ids.add(history.id()));
+        }
+        assertEquals(2000, ids.size());
+    }
+
+    @Test
+    void 테이블_기록에_실패한_내역은_id_없이_따로_두고_페이지_커서는_기록된_내역만_따른다() {
+        AtomicLong cursor = new AtomicLong(1);
+        when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong())).thenAnswer(invocation -> {
+            if ((long) invocation.getArgument(1) == 200L) {
+                throw new IllegalStateException("기록 실패");
+            }
+            return new PointHistory(cursor.getAndIncrement(), invocation.getArgument(0), invocation.getArgument(1),
+                    invocation.getArgument(2), invocation.getArgument(3));
+        });
+        outbox = new OutboxPointHistoryRepository(pointHistoryTable, 100, 1, HistoryBackpressure.BLOCK, Duration.ofSeconds(5));
+
+        for (long amount : new long[] {100L, 200L, 300L, 400L}) {
+            outbox.insert(7L, amount, TransactionType.CHARGE, amount);
+        }
+        outbox.close();
+
+        PointHistoryPage first = outbox.selectPageByUserId(7L, PointHistoryQuery.of(null, null, null, 2));
+        assertEquals(List.of(1L, 2L), first.histories().stream().map(PointHistory::id).toList());
+        PointHistoryPage second = outbox.selectPageByUserId(7L, PointHistoryQuery.of(first.nextAfter(), null, null, 2));
+        assertEquals(List.of(3L), second.histories().stream().map(PointHistory::id).toList());
+        assertEquals(List.of(100L, 300L, 400L, 200L), outbox.selectAllByUserId(7L).stream().map(PointHistory::amount).toList());
+    }
+
+    @Test
+    void 대기열이_가득_차면_대기_내역이_없는_유저는_직접_기록한다() throws InterruptedException {
+        outbox = new OutboxPointHistoryRepository(pointHistoryTable, 1, 1, HistoryBackpressure.CALLER_RUNS, Duration.ofSeconds(5));
+
+        outbox.insert(1L, 100L, TransactionType.CHARGE, 1L); // writer 가 꺼내서 문 앞에서 멈춤
+        Thread.sleep(100);
+        outbox.insert(2L, 200L, TransactionType.CHARGE, 2L); // 대기열을 채움
+        // 테이블 기록은 한 번에 하나씩이므로 writer 의 기록이 끝나야 직접 기록할 수 있습니다.
+        CompletableFuture.delayedExecutor(200, TimeUnit.MILLISECONDS).execute(writerGate::countDown);
+
+        PointHistory direct = outbox.insert(3L, 300L, TransactionType.CHARGE, 3L);
+
+        assertNotEquals(0L, direct.id());
+        assertEquals(direct, outbox.selectAllByUserId(3L).get(0));
+    }
+}
@@ -0,0 +1,128 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryPage;
+import io.hhplus.tdd.point.PointHistoryQuery;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 유저별 인덱스 내역 저장소 단위 테스트
+ *
+ */
+@ExtendWith(MockitoExtension.class)
+public class PointHistoryRepositoryTest {
+
+    @Mock
+    private PointHistoryTable pointHistoryTable;
+
+    private IndexedPointHistoryRepository pointHistoryRepository;
+
+    @BeforeEach
+    void setUp() {
+        AtomicLong cursor = new AtomicLong(1);
+        lenient().when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong()))
+                 .thenAnswer(invocation -> new PointHistory(cursor.getAndIncrement(),
+                         invocation.getArgument(0), invocation.getArgument(1),
+                         invocation.getArgument(2), invocation.getArgument(3)));
+        pointHistoryRepository = new IndexedPointHistoryRepository(pointHistoryTable);
+    }
+
+    @Test
+    void 내역이_없는_유저는_빈_목록을_반환한다() {
+        assertTrue(pointHistoryRepository.selectAllByUserId(1L).isEmpty());
+    }
+
+    @Test
+    void 유저별_내역을_기록한_순서대로_조회한다() {
+        pointHistoryRepository.insert(1L, 100L, TransactionType.CHARGE, 1L);
+        pointHistoryRepository.insert(2L, 200L, TransactionType.CHARGE, 2L);
+        pointHistoryRepository.insert(1L, 50L, TransactionType.USE, 3L);
+
+        List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(1L);
+
+        assertEquals(2, histories.size());
+        assertEquals(100L, histories.get(0).amount());
+        assertEquals(TransactionType.USE, histories.get(1).type());
+        assertEquals(1, pointHistoryRepository.selectAllByUserId(2L).size());
+        verify(pointHistoryTable, never()).selectAllByUserId(anyLong());
+    }
+
+    @Test
+    void 커서로_내역을_페이지_단위로_이어서_조회한다() {
+        for (int i = 1; i <= 25; i++) {
+            pointHistoryRepository.insert(1L, i, TransactionType.CHARGE, i);
+            pointHistoryRepository.insert(2L, i, TransactionType.CHARGE, i);
+        }
+
+        List<Long> amounts = new ArrayList<>();
+        PointHistoryQuery query = PointHistoryQuery.of(null, null, null, 10);
+        PointHistoryPage page = pointHistoryRepository.selectPageByUserId(1L, query);
+        page.histories().forEach(history -> amounts.add(history.amount()));
+        while (page.hasNext()) {
+            page = pointHistoryRepository.selectPageByUserId(1L, query.next(page.nextAfter()));
+            page.histories().forEach(history -> amounts.add(history.amount()));
+        }
+
+        assertEquals(25, amounts.size());
+        for (int i = 0; i < amounts.size(); i++) {
+            assertEquals(i + 1, amounts.get(i));
+        }
+        assertNull(page.nextAfter());
+    }
+
+    @Test
+    void 기간_조건에_맞는_내역만_조회한다() {
+        for (int i = 1; i <= 10; i++) {
+            pointHistoryRepository.insert(1L, i, TransactionType.CHARGE, i * 100L);
+        }
+
+        PointHistoryPage page = pointHistoryRepository.selectPageByUserId(1L, PointHistoryQuery.of(null, 300L, 600L, 100));
+
+        assertEquals(List.of(3L, 4L, 5L), page.histories().stream().map(PointHistory::amount).toList());
+        assertNull(page.nextAfter());
+    }
+
+    @Test
+    void 조회_중에_기록이_이어져도_순서가_유지된다() {
+        int userCount = 10;
+        int insertPerUser = 1000;
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (long userId = 1; userId <= userCount; userId++) {
+            long id = userId;
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = 1; i <= insertPerUser; i++) {
+                    pointHistoryRepository.insert(id, i, TransactionType.CHARGE, i);
+                    pointHistoryRepository.selectAllByUserId(id);
+                }
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        for (long userId = 1; userId <= userCount; userId++) {
+            List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(userId);
+            assertEquals(insertPerUser, histories.size());
+            for (int i = 0; i < insertPerUser; i++) {
+                assertEquals(i + 1, histories.get(i).amount());
+            }
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.journal.JournalSyncMode;
+import io.hhplus.tdd.point.journal.MappedPointJournal;
+import io.hhplus.tdd.point.journal.PointJournalRecord;
+import io.hhplus.tdd.point.journal.PointJournalReplayer;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 거래 저널 테스트
+ *
+ */
+public class PointJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 세그먼트를_넘나들며_기록한_순서대로_재생하고_다시_열면_이어서_기록한다() {
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 4, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            for (int i = 1; i <= 10; i++) {
+                journal.append(i % 3, i, i % 2 == 0 ? TransactionType.USE : TransactionType.CHARGE, i * 100L);
+            }
+        }
+
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 4, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            assertEquals(10, journal.lastSequence());
+            assertEquals(11, journal.append(1L, 11, TransactionType.CHARGE, 1100L));
+
+            List<PointJournalRecord> records = new ArrayList<>();
+            journal.replay(records::add);
+
+            assertEquals(11, records.size());
+            for (int i = 0; i < records.size(); i++) {
+                PointJournalRecord record = records.get(i);
+                assertEquals(i + 1, record.id());
+                assertEquals(i + 1, record.amount());
+                assertEquals((i + 1) * 100L, record.updateMillis());
+            }
+            assertEquals(TransactionType.USE, records.get(1).type());
+        }
+    }
+
+    @Test
+    void 손상된_꼬리_기록은_버리고_그_자리부터_이어서_기록한다() throws IOException {
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 16, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            for (int i = 1; i <= 5; i++) {
+                journal.append(1L, i, TransactionType.CHARGE, i);
+            }
+        }
+        corrupt(segments().get(0), 3);
+
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 16, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            assertEquals(3, journal.lastSequence());
+            assertEquals(4, journal.append(1L, 40, TransactionType.CHARGE, 4));
+
+            List<PointJournalRecord> records = new ArrayList<>();
+            journal.replay(records::add);
+            assertEquals(List.of(1L, 2L, 3L, 40L), records.stream().map(PointJournalRecord::amount).toList());
+        }
+    }
+
+    @Test
+    void 잘라낸_꼬리_뒤에_남아_있던_옛_기록은_다시_열어도_되살아나지_않는다() throws IOException {
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 16, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            for (int i = 1; i <= 5; i++) {
+                journal.append(1L, i, TransactionType.CHARGE, i);
+            }
+        }
+        corrupt(segments().get(0), 3);
+
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 16, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            assertEquals(4, journal.append(1L, 40, TransactionType.CHARGE, 4));
+        }
+        // 5번 자리에 남아 있던 옛 5번 기록이 새 4번 기록 뒤에 이어 붙지 않아야 합니다.
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 16, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            assertEquals(4, journal.lastSequence());
+            List<PointJournalRecord> records = new ArrayList<>();
+            journal.replay(records::add);
+            assertEquals(List.of(1L, 2L, 3L, 40L), records.stream().map(PointJournalRecord::amount).toList());
+        }
+    }
+
+    @Test
+    void 가운데_세그먼트가_손상되면_그_뒤의_세그먼트는_재생하지_않고_복구할_때_지운다() throws IOException {
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 4, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            for (int i = 1; i <= 10; i++) {
+                journal.append(1L, i, TransactionType.CHARGE, i);
+            }
+            // 5~8 번을 담은 두 번째 세그먼트의 6번 기록을 손상시킵니다.
+            corrupt(segments().get(1), 1);
+
+            List<PointJournalRecord> records = new ArrayList<>();
+            journal.replay(records::add);
+            assertEquals(5, records.size());
+        }
+
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 4, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            assertEquals(5, journal.lastSequence());
+            assertEquals(2, segments().size());
+            assertEquals(6, journal.append(1L, 60, TransactionType.CHARGE, 6));
+
+            List<PointJournalRecord> records = new ArrayList<>();
+            journal.replay(records::add);
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 60L), records.stream().map(PointJournalRecord::amount).toList());
+        }
+    }
+
+    @Test
+    void 스냅샷에_반영된_기록만_담은_세그먼트는_지우고_현재_세그먼트는_남긴다() throws IOException {
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 4, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            for (int i = 1; i <= 10; i++) {
+                journal.append(1L, i, TransactionType.CHARGE, i);
+            }
+            assertEquals(0, journal.prune(3));
+            assertEquals(1, journal.prune(4));
+            assertEquals(1, journal.prune(100));
+            assertEquals(List.of("00000000000000000009.journal"),
+                    segments().stream().map(path -> path.getFileName().toString()).toList());
+
+            List<PointJournalRecord> records = new ArrayList<>();
+            journal.replay(8, records::add);
+            assertEquals(List.of(9L, 10L), records.stream().map(PointJournalRecord::id).toList());
+        }
+    }
+
+    @Test
+    void 송금의_두_기록은_세그먼트를_나누지_않고_같은_세그먼트에_이어서_남는다() throws IOException {
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 3, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            journal.append(1L, 100, TransactionType.CHARGE, 1L);
+            journal.append(1L, 10, TransactionType.USE, 2L);
+            assertEquals(4, journal.appendTransfer(1L, 2L, 30, 3L));
+        }
+
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 3, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            assertEquals(4, journal.lastSequence());
+            List<PointJournalRecord> records = new ArrayList<>();
+            journal.replay(2, records::add);
+
+            assertEquals(List.of(new PointJournalRecord(3, 1L, 30, TransactionType.USE, 3L),
+                    new PointJournalRecord(4, 2L, 30, TransactionType.CHARGE, 3L)), records);
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void 송금의_받은_쪽_기록이_남지_않았으면_보낸_쪽_기록도_재생하지_않고_복구할_때_잘라낸다() throws IOException {
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 16, JournalSyncMode.INTERVAL, Duration.ofSeconds(10))) {
+            journal.append(1L, 100, TransactionType.CHARGE, 1L);
+            journal.append(2L, 100, TransactionType.CHARGE, 2L);
+            assertEquals(4, journal.appendTransfer(1L, 2L, 30, 3L));
+            // 3번(보낸 쪽)만 반영되고 4번(받은 쪽)은 남지 않은 경우
+            corrupt(segments().get(0), 3);
+
+            List<PointJournalRecord> records = new ArrayList<>();
+            journal.replay(records::add);
+            assertEquals(List.of(1L, 2L), records.stream().map(PointJournalRecord::id).toList());
+        }
+
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 16, JournalSyncMode.INTERVAL, Duration.ofSeconds(10))) {
+            assertEquals(2, journal.lastSequence());
+            assertEquals(3, journal.append(1L, 10, TransactionType.USE, 4L));
+
+            List<PointJournalRecord> records = new ArrayList<>();
+            journal.replay(records::add);
+            assertEquals(List.of(new PointJournalRecord(3, 1L, 10, TransactionType.USE, 4L)), records.subList(2, 3));
+            assertEquals(3, records.size());
+        }
+    }
+
+    @Test
+    void 그룹_fsync_모드에서_동시에_기록해도_빠짐없이_남는다() {
+        int threadCount = 8;
+        int appendPerThread = 500;
+
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 1000, JournalSyncMode.GROUP, Duration.ofMillis(10))) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                long userId = t + 1;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < appendPerThread; i++) {
+                        journal.sync(journal.append(userId, 1, TransactionType.CHARGE, i));
+                    }
+                }));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            List<PointJournalRecord> records = new ArrayList<>();
+            journal.replay(records::add);
+            assertEquals(threadCount * appendPerThread, records.size());
+            assertEquals(threadCount * appendPerThread, records.get(records.size() - 1).id());
+        }
+    }
+
+    @Test
+    void 재생하면_잔액과_내역을_복구하고_이후_내역은_복구된_id_뒤로_이어진다() {
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 16, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            journal.append(1L, 100, TransactionType.CHARGE, 1L);
+            journal.append(2L, 500, TransactionType.CHARGE, 2L);
+            journal.append(1L, 30, TransactionType.USE, 3L);
+
+            UserPointRepository userPointRepository = Mockito.mock(UserPointRepository.class);
+            PointHistoryTable pointHistoryTable = Mockito.mock(PointHistoryTable.class);
+            when(pointHistoryTable.insert(anyLong(), anyLong(), any(), anyLong()))
+                    .thenAnswer(invocation -> new PointHistory(1L, invocation.getArgument(0), invocation.getArgument(1),
+                            invocation.getArgument(2), invocation.getArgument(3)));
+            IndexedPointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(pointHistoryTable);
+
+            new PointJournalReplayer(journal, userPointRepository, pointHistoryRepository).afterSingletonsInstantiated();
+
+            verify(userPointRepository).insertOrUpdate(1L, 70L);
+            verify(userPointRepository).insertOrUpdate(2L, 500L);
+            assertEquals(List.of(1L, 3L), pointHistoryRepository.selectAllByUserId(1L).stream().map(PointHistory::id).toList());
+
+            PointHistory inserted = pointHistoryRepository.insert(1L, 10, TransactionType.CHARGE, 4L);
+            assertEquals(4L, inserted.id());
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.sorted().toList();
+        }
+    }
+
+    @Test
+    void 저널은_primitive_잔액_저장소와_함께_써야_시작한다() {
+        String journalDirectory = "--point.journal.directory=" + directory;
+        Throwable thrown = assertThrows(Exception.class, () -> start(journalDirectory, "--point.balance.store=table").close());
+        while (thrown.getCause() != null) {
+            thrown = thrown.getCause();
+        }
+        assertInstanceOf(IllegalStateException.class, thrown);
+        assertTrue(thrown.getMessage().startsWith("point.journal.enabled 는"), thrown.getMessage());
+
+        try (ConfigurableApplicationContext context = start(journalDirectory, "--point.balance.store=primitive")) {
+            assertEquals(0, context.getBean(PointJournalReplayer.class).replayedRecords());
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String... args) {
+        List<String> all = new ArrayList<>(List.of("--point.journal.enabled=true", "--point.metrics.enabled=false"));
+        all.addAll(List.of(args));
+        return new SpringApplicationBuilder(TddApplication.class).web(WebApplicationType.NONE).run(all.toArray(String[]::new));
+    }
+
+    /**
+     * index 번째 기록의 금액을 덮어써서 crc 가 맞지 않도록 합니다.
+     */
+    private static void corrupt(Path segment, int index) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).putLong(0, 999L), index * 40L + 16);
+        }
+    }
+}
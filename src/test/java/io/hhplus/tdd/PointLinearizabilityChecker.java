@@ -0,0 +1,412 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.PointOperationRecorder.Kind;
+import io.hhplus.tdd.PointOperationRecorder.Operations;
+import io.hhplus.tdd.PointOperationRecorder.Outcome;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * 기록된 충전/사용/조회가 유저별 잔액을 하나씩 차례로 바꾸는 모델로 설명되는지(선형화 가능한지) 검사합니다.
+ *
+ * 유저마다 독립된 잔액이므로 유저별로 나누어 검사합니다. (선형성은 객체별로 성립하면 전체도 성립합니다)
+ * 일반적인 선형성 검사는 가능한 순서를 모두 탐색해야 하지만, 여기서는 내역 테이블의 id 순서를 쓰기 순서로 보고
+ * 그 순서가 모든 결과와 맞는지만 확인하므로 요청 수 n 에 대해 O(n log n) 으로 끝납니다.
+ *
+ * 유저별로 확인하는 것
+ * - 내역 : id 가 오름차순이고, 차례로 반영한 잔액이 음수가 되지 않습니다. (초과 사용)
+ * - 쓰기 : 성공한 충전/사용마다 같은 유형, 금액, 반영 후 잔액인 내역이 정확히 하나 있고, 남는 내역도 없습니다. (잃어버린 갱신, 유령 내역)
+ *          내역 순서가 호출/응답 시각과 어긋나지 않습니다. (호출 전에 이미 끝난 요청보다 앞에 기록되면 안 됩니다)
+ * - 조회 : 호출~응답 사이에 있었던 잔액 중 하나를 돌려주고, 먼저 끝난 조회보다 이전 잔액을 돌려주지 않습니다.
+ * - 잔액 부족 : 호출~응답 사이에 사용 금액보다 작은 잔액이 있었습니다.
+ * - 최종 잔액 : 모든 내역을 반영한 잔액과 같습니다.
+ *
+ * 모든 유저의 잔액은 0 에서 시작한다고 가정합니다.
+ */
+public final class PointLinearizabilityChecker {
+
+    private static final int MAX_REPORTED = 20;
+
+    private PointLinearizabilityChecker() {
+    }
+
+    /**
+     * @param violationCount 찾은 위반 수
+     * @param violations     위반 설명 (앞의 일부만)
+     */
+    public record Result(int operations, int users, long violationCount, List<String> violations) {
+
+        public boolean linearizable() {
+            return violationCount == 0;
+        }
+    }
+
+    /**
+     * @param historiesOf 유저의 내역 (id 순서)
+     * @param balanceOf   유저의 최종 잔액
+     */
+    public static Result check(Operations operations, LongFunction<List<PointHistory>> historiesOf, LongFunction<UserPoint> balanceOf) {
+
+        Violations violations = new Violations();
+        Map<Long, IntList> byUser = new HashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            byUser.computeIfAbsent(operations.userId(i), userId -> new IntList()).add(i);
+        }
+        byUser.forEach((userId, indices) -> new UserCheck(operations, userId, indices.toArray(), historiesOf.apply(userId),
+                balanceOf.apply(userId), violations).run());
+        return new Result(operations.size(), byUser.size(), violations.count, violations.messages);
+    }
+
+    private static final class UserCheck {
+
+        private final Operations operations;
+        private final long userId;
+        private final int[] indices;
+        private final List<PointHistory> rows;
+        private final UserPoint finalBalance;
+        private final Violations violations;
+
+        private long[] balances;
+
+        UserCheck(Operations operations, long userId, int[] indices, List<PointHistory> rows, UserPoint finalBalance, Violations violations) {
+            this.operations = operations;
+            this.userId = userId;
+            this.indices = indices;
+            this.rows = rows;
+            this.finalBalance = finalBalance;
+            this.violations = violations;
+        }
+
+        void run() {
+
+            replayHistories();
+            matchWrites();
+            checkObservations();
+            if (finalBalance.point() != balances[rows.size()]) {
+                violation("최종 잔액 %d 이 내역을 반영한 잔액 %d 과 다릅니다.", finalBalance.point(), balances[rows.size()]);
+            }
+        }
+
+        /**
+         * balances[k] = k 번째 내역까지 반영한 잔액 (balances[0] = 0)
+         */
+        private void replayHistories() {
+
+            balances = new long[rows.size() + 1];
+            long previousId = Long.MIN_VALUE;
+            for (int k = 1; k <= rows.size(); k++) {
+                PointHistory row = rows.get(k - 1);
+                if (row.id() <= previousId) {
+                    violation("내역 id 가 오름차순이 아닙니다. %d 다음 %d", previousId, row.id());
+                }
+                previousId = row.id();
+                balances[k] = balances[k - 1] + (row.type() == TransactionType.CHARGE ? row.amount() : -row.amount());
+                if (balances[k] < 0) {
+                    violation("%d 번째 내역(id %d)에서 잔액이 %d 로 음수가 되었습니다.", k, row.id(), balances[k]);
+                }
+            }
+        }
+
+        /**
+         * 내역을 앞에서부터 차례로, 유형/금액/반영 후 잔액이 같은 성공한 충전/사용과 짝짓습니다.
+         * 호출 전에 끝난 쓰기가 모두 앞 내역에 짝지어진 요청만 후보가 되며, 후보 중 가장 먼저 끝난 요청을 고릅니다.
+         * 후보가 없는 내역은 요청 없이 기록되었거나 순서가 어긋난 것이고, 끝까지 짝이 없는 요청은 잃어버린 갱신입니다.
+         */
+        private void matchWrites() {
+
+            int[] writes = sortBy(filter(Outcome.OK, true), true);
+            long[] respondedTimes = new long[writes.length];
+            Map<Integer, Integer> rankOf = new HashMap<>();
+            for (int i = 0; i < writes.length; i++) {
+                respondedTimes[i] = operations.responded(writes[i]);
+                rankOf.put(writes[i], i);
+            }
+            // 같은 결과의 요청을 먼저 끝나야 하는 쓰기 수(호출 전에 끝난 쓰기 수) 순서로 모읍니다.
+            Map<WriteKey, ArrayDeque<Integer>> waitingByKey = new HashMap<>();
+            for (int op : sortBy(writes, false)) {
+                waitingByKey.computeIfAbsent(writeKey(op), key -> new ArrayDeque<>()).add(op);
+            }
+            Map<WriteKey, PriorityQueue<Integer>> readyByKey = new HashMap<>();
+            boolean[] placed = new boolean[writes.length];
+            int placedPrefix = 0;
+
+            for (int k = 1; k <= rows.size(); k++) {
+                PointHistory row = rows.get(k - 1);
+                WriteKey key = new WriteKey(row.type(), row.amount(), balances[k]);
+                ArrayDeque<Integer> waiting = waitingByKey.getOrDefault(key, new ArrayDeque<>());
+                PriorityQueue<Integer> ready = readyByKey.computeIfAbsent(key,
+                        ignored -> new PriorityQueue<>((a, b) -> Long.compare(operations.responded(a), operations.responded(b))));
+                while (!waiting.isEmpty() && countBelow(respondedTimes, operations.invoked(waiting.peek())) <= placedPrefix) {
+                    ready.add(waiting.poll());
+                }
+                Integer op = ready.poll();
+                if (op == null) {
+                    violation("%d 번째 내역(id %d, %s %d)과 맞는 요청이 없거나, 그 요청보다 먼저 끝난 요청이 아직 기록되지 않았습니다.",
+                            k, row.id(), row.type(), row.amount());
+                    continue;
+                }
+                placed[rankOf.get(op)] = true;
+                while (placedPrefix < placed.length && placed[placedPrefix]) {
+                    placedPrefix++;
+                }
+            }
+            for (int i = 0; i < writes.length; i++) {
+                if (!placed[i]) {
+                    violation("%s %d 의 결과 잔액 %d 과 맞는 내역이 없습니다. (잃어버린 갱신)",
+                            writeKey(writes[i]).type(), operations.amount(writes[i]), operations.point(writes[i]));
+                }
+            }
+        }
+
+        private WriteKey writeKey(int op) {
+            TransactionType type = operations.kind(op) == Kind.CHARGE ? TransactionType.CHARGE : TransactionType.USE;
+            return new WriteKey(type, operations.amount(op), operations.point(op));
+        }
+
+        /**
+         * 유형/금액/반영 후 잔액이 같은 요청끼리는 서로 자리를 바꿔도 내역이 같으므로, 짝지은 위치 대신
+         * 어떻게 짝지어도 성립하는 범위를 씁니다. 같은 결과의 요청 중 호출 전에 끝난 것이 a 개면 그 뒤 a + 1 번째 내역 이후,
+         * 응답 뒤에 호출된 것이 b 개면 끝에서 b + 1 번째 내역 이전에 있어야 합니다.
+         *
+         * @return [0] 요청별 가장 이른 위치, [1] 가장 늦은 위치 (writes 순서)
+         */
+        private int[][] positionBounds(int[] writes) {
+
+            Map<WriteKey, IntList> rowsByKey = new HashMap<>();
+            for (int k = 1; k <= rows.size(); k++) {
+                PointHistory row = rows.get(k - 1);
+                rowsByKey.computeIfAbsent(new WriteKey(row.type(), row.amount(), balances[k]), key -> new IntList()).add(k);
+            }
+            Map<WriteKey, IntList> opsByKey = new HashMap<>();
+            for (int op : writes) {
+                opsByKey.computeIfAbsent(writeKey(op), key -> new IntList()).add(op);
+            }
+            Map<WriteKey, long[][]> timesByKey = new HashMap<>();
+            opsByKey.forEach((key, ops) -> {
+                long[] invokedTimes = IntStream.of(ops.toArray()).mapToLong(operations::invoked).sorted().toArray();
+                long[] respondedTimes = IntStream.of(ops.toArray()).mapToLong(operations::responded).sorted().toArray();
+                timesByKey.put(key, new long[][] {invokedTimes, respondedTimes});
+            });
+
+            int[] earliest = new int[writes.length];
+            int[] latest = new int[writes.length];
+            for (int i = 0; i < writes.length; i++) {
+                WriteKey key = writeKey(writes[i]);
+                IntList keyRows = rowsByKey.getOrDefault(key, new IntList());
+                long[][] times = timesByKey.get(key);
+                int finishedBefore = countBelow(times[1], operations.invoked(writes[i]));
+                int invokedAfter = times[0].length - countAtMost(times[0], operations.responded(writes[i]));
+                // 짝이 없는 요청(잃어버린 갱신)은 이미 보고했으므로 범위를 좁히지 않습니다.
+                earliest[i] = finishedBefore < keyRows.size ? keyRows.values[finishedBefore] : 0;
+                latest[i] = keyRows.size - 1 - invokedAfter >= 0 ? keyRows.values[keyRows.size - 1 - invokedAfter] : rows.size() + 1;
+            }
+            return new int[][] {earliest, latest};
+        }
+
+        /**
+         * 조회와 잔액 부족 요청마다, 호출 전에 끝난 쓰기 이후 ~ 응답 뒤에 호출된 쓰기 이전의 잔액 가운데
+         * 결과와 맞는 가장 이른 잔액을 고릅니다. 먼저 끝난 조회가 고른 잔액보다 이전으로는 돌아가지 않습니다.
+         */
+        private void checkObservations() {
+
+            int[] writes = filter(Outcome.OK, true);
+            int[][] bounds = positionBounds(writes);
+            Integer[] order = IntStream.range(0, writes.length).boxed().toArray(Integer[]::new);
+
+            Arrays.sort(order, (a, b) -> Long.compare(operations.responded(writes[a]), operations.responded(writes[b])));
+            long[] respondedTimes = new long[writes.length];
+            int[] maxPositionUntil = new int[writes.length];
+            for (int i = 0; i < writes.length; i++) {
+                respondedTimes[i] = operations.responded(writes[order[i]]);
+                maxPositionUntil[i] = Math.max(i == 0 ? 0 : maxPositionUntil[i - 1], bounds[0][order[i]]);
+            }
+            Arrays.sort(order, (a, b) -> Long.compare(operations.invoked(writes[a]), operations.invoked(writes[b])));
+            long[] invokedTimes = new long[writes.length];
+            int[] minPositionFrom = new int[writes.length + 1];
+            minPositionFrom[writes.length] = rows.size() + 1;
+            for (int i = writes.length - 1; i >= 0; i--) {
+                invokedTimes[i] = operations.invoked(writes[order[i]]);
+                minPositionFrom[i] = Math.min(minPositionFrom[i + 1], bounds[1][order[i]]);
+            }
+
+            BalanceIndex balanceIndex = new BalanceIndex(balances);
+            int[] observations = IntStream.of(indices)
+                                          .filter(op -> operations.kind(op) == Kind.SELECT && operations.outcome(op) == Outcome.OK
+                                                  || operations.outcome(op) == Outcome.INSUFFICIENT_BALANCE)
+                                          .toArray();
+            int[] observationsByInvoked = sortBy(observations, false);
+            int[] observationsByResponded = sortBy(observations, true);
+            Map<Integer, Integer> chosen = new HashMap<>();
+            int finished = 0;
+            int floor = 0;
+
+            for (int op : observationsByInvoked) {
+                while (finished < observationsByResponded.length
+                        && operations.responded(observationsByResponded[finished]) < operations.invoked(op)) {
+                    floor = Math.max(floor, chosen.getOrDefault(observationsByResponded[finished], 0));
+                    finished++;
+                }
+                int before = countBelow(respondedTimes, operations.invoked(op));
+                int low = Math.max(floor, before == 0 ? 0 : maxPositionUntil[before - 1]);
+                int high = minPositionFrom[countAtMost(invokedTimes, operations.responded(op))] - 1;
+
+                int state = operations.kind(op) == Kind.SELECT
+                        ? balanceIndex.firstEqual(operations.point(op), low)
+                        : balanceIndex.firstBelow(operations.amount(op), low);
+                if (state < 0 || state > high) {
+                    if (operations.kind(op) == Kind.SELECT) {
+                        violation("조회 결과 %d 은 호출~응답 사이(내역 %d ~ %d 번째 이후)의 잔액이 아닙니다.", operations.point(op), low, high);
+                    } else {
+                        violation("사용 %d 이 잔액 부족으로 실패했지만 호출~응답 사이(내역 %d ~ %d 번째 이후) 잔액은 모두 충분했습니다.",
+                                operations.amount(op), low, high);
+                    }
+                    state = low;
+                }
+                chosen.put(op, state);
+            }
+        }
+
+        private int[] filter(Outcome outcome, boolean writes) {
+            return IntStream.of(indices)
+                            .filter(op -> operations.outcome(op) == outcome && (operations.kind(op) != Kind.SELECT) == writes)
+                            .toArray();
+        }
+
+        private int[] sortBy(int[] ops, boolean responded) {
+            return IntStream.of(ops).boxed()
+                            .sorted((a, b) -> responded
+                                    ? Long.compare(operations.responded(a), operations.responded(b))
+                                    : Long.compare(operations.invoked(a), operations.invoked(b)))
+                            .mapToInt(Integer::intValue).toArray();
+        }
+
+        private void violation(String format, Object... args) {
+            violations.add("user " + userId + ": " + String.format(format, args));
+        }
+    }
+
+    /**
+     * 오름차순 배열에서 value 보다 작은 원소 수
+     */
+    private static int countBelow(long[] sorted, long value) {
+
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 오름차순 배열에서 value 이하인 원소 수
+     */
+    private static int countAtMost(long[] sorted, long value) {
+        return value == Long.MAX_VALUE ? sorted.length : countBelow(sorted, value + 1);
+    }
+
+    private record WriteKey(TransactionType type, long amount, long balance) {
+    }
+
+    /**
+     * 잔액 순서(0 ~ n)에서 from 이후 처음으로 특정 잔액이거나 특정 값보다 작은 위치를 찾습니다.
+     */
+    private static final class BalanceIndex {
+
+        private final Map<Long, IntList> positionsByBalance = new HashMap<>();
+        private final long[] minTree;
+        private final int leaves;
+
+        BalanceIndex(long[] balances) {
+
+            for (int k = 0; k < balances.length; k++) {
+                positionsByBalance.computeIfAbsent(balances[k], balance -> new IntList()).add(k);
+            }
+            int size = 1;
+            while (size < balances.length) {
+                size <<= 1;
+            }
+            leaves = size;
+            minTree = new long[size << 1];
+            Arrays.fill(minTree, Long.MAX_VALUE);
+            System.arraycopy(balances, 0, minTree, size, balances.length);
+            for (int node = size - 1; node >= 1; node--) {
+                minTree[node] = Math.min(minTree[node << 1], minTree[(node << 1) | 1]);
+            }
+        }
+
+        int firstEqual(long balance, int from) {
+
+            IntList positions = positionsByBalance.get(balance);
+            if (positions == null) {
+                return -1;
+            }
+            int index = Arrays.binarySearch(positions.values, 0, positions.size, from);
+            index = index >= 0 ? index : -index - 1;
+            return index < positions.size ? positions.values[index] : -1;
+        }
+
+        int firstBelow(long threshold, int from) {
+            return firstBelow(1, 0, leaves - 1, from, threshold);
+        }
+
+        private int firstBelow(int node, int left, int right, int from, long threshold) {
+
+            if (right < from || minTree[node] >= threshold) {
+                return -1;
+            }
+            if (left == right) {
+                return left;
+            }
+            int mid = (left + right) >>> 1;
+            int found = firstBelow(node << 1, left, mid, from, threshold);
+            return found >= 0 ? found : firstBelow((node << 1) | 1, mid + 1, right, from, threshold);
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class Violations {
+
+        private final List<String> messages = new ArrayList<>();
+        private long count;
+
+        void add(String message) {
+            if (messages.size() < MAX_REPORTED) {
+                messages.add(message);
+            }
+            count++;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.PointLinearizabilityChecker.Result;
+import io.hhplus.tdd.PointOperationRecorder.Kind;
+import io.hhplus.tdd.PointOperationRecorder.Outcome;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.engine.MailboxUserTaskExecutor;
+import io.hhplus.tdd.point.metrics.NoOpPointTransactionMetrics;
+import io.hhplus.tdd.point.repository.CachedUserPointRepository;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointTableRepository;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 충전/사용/조회 선형성 검사 테스트
+ *
+ */
+public class PointLinearizabilityTest {
+
+    private static final int THREADS = 8;
+    private static final int USERS = 8;
+
+    @Test
+    void 유저_락_방식의_동시_충전_사용_조회_100만_건은_선형화_가능하다() {
+        PointServiceImpl pointService = PointServiceFixture.pointService();
+
+        Result result = runAndCheck(pointService, 1_000_000);
+
+        assertEquals(1_000_000, result.operations());
+        assertTrue(result.linearizable(), () -> String.join("\n", result.violations()));
+    }
+
+    @Test
+    void 그룹_커밋과_메일박스_방식의_동시_충전_사용_조회도_선형화_가능하다() {
+        Result groupCommit = runAndCheck(PointServiceFixture.builder().groupCommit(true).build(), 200_000);
+        assertTrue(groupCommit.linearizable(), () -> String.join("\n", groupCommit.violations()));
+
+        try (MailboxUserTaskExecutor mailbox = new MailboxUserTaskExecutor(4, 1024, new NoOpPointTransactionMetrics())) {
+            Result mailboxResult = runAndCheck(PointServiceFixture.builder().executor(mailbox).groupCommit(true).build(), 200_000);
+            assertTrue(mailboxResult.linearizable(), () -> String.join("\n", mailboxResult.violations()));
+        }
+    }
+
+    @Test
+    void 캐시한_잔액_테이블과_인덱스를_둔_내역_테이블_위에서도_선형화_가능하고_내역_id_가_겹치지_않는다() {
+        NonBlockingPointHistoryTable pointHistoryTable = new NonBlockingPointHistoryTable();
+        PointServiceImpl pointService = PointServiceFixture.builder()
+                .repositories(new CachedUserPointRepository(new UserPointTableRepository(new NonBlockingUserPointTable()), 1024),
+                        new IndexedPointHistoryRepository(pointHistoryTable))
+                .build();
+
+        Result result = runAndCheck(pointService, 200_000);
+
+        assertTrue(result.linearizable(), () -> String.join("\n", result.violations()));
+        Set<Long> ids = new HashSet<>();
+        LongStream.rangeClosed(1, USERS).forEach(userId -> pointService.selectAllByUserId(userId).forEach(history -> ids.add(history.id())));
+        assertEquals(pointHistoryTable.size(), ids.size());
+    }
+
+    @Test
+    void 같은_잔액에서_동시에_충전해_잃어버린_갱신과_초과_사용을_찾아낸다() {
+        // 두 충전이 모두 0 에서 계산하여 100 을 돌려주었고, 잔액 100 에서 80 을 두 번 사용함
+        PointOperationRecorder recorder = new PointOperationRecorder();
+        recorder.record(1L, Kind.CHARGE, 100, 0, 10, Outcome.OK, 100);
+        recorder.record(1L, Kind.CHARGE, 100, 0, 10, Outcome.OK, 100);
+        recorder.record(2L, Kind.CHARGE, 100, 0, 10, Outcome.OK, 100);
+        recorder.record(2L, Kind.USE, 80, 20, 30, Outcome.OK, 20);
+        recorder.record(2L, Kind.USE, 80, 20, 30, Outcome.OK, 20);
+        Map<Long, List<PointHistory>> histories = Map.of(
+                1L, List.of(history(1, 1L, 100, TransactionType.CHARGE), history(2, 1L, 100, TransactionType.CHARGE)),
+                2L, List.of(history(3, 2L, 100, TransactionType.CHARGE), history(4, 2L, 80, TransactionType.USE),
+                        history(5, 2L, 80, TransactionType.USE)));
+        Map<Long, Long> balances = Map.of(1L, 100L, 2L, 20L);
+
+        Result result = PointLinearizabilityChecker.check(recorder.operations(), histories::get,
+                userId -> new UserPoint(userId, balances.get(userId), 0));
+
+        assertFalse(result.linearizable());
+        assertTrue(result.violations().stream().anyMatch(message -> message.startsWith("user 1") && message.contains("잃어버린 갱신")));
+        assertTrue(result.violations().stream().anyMatch(message -> message.startsWith("user 2") && message.contains("음수")));
+    }
+
+    @Test
+    void 끝난_충전보다_이전_잔액을_돌려준_조회와_순서가_어긋난_내역을_찾아낸다() {
+        // user 1 : 충전이 끝난 뒤에 호출한 조회가 0 을 돌려줌
+        // user 2 : 10 충전이 끝난 뒤 호출한 20 충전이 먼저 기록됨
+        PointOperationRecorder recorder = new PointOperationRecorder();
+        recorder.record(1L, Kind.CHARGE, 100, 0, 10, Outcome.OK, 100);
+        recorder.record(1L, Kind.SELECT, 0, 20, 30, Outcome.OK, 0);
+        recorder.record(2L, Kind.CHARGE, 10, 0, 10, Outcome.OK, 30);
+        recorder.record(2L, Kind.CHARGE, 20, 20, 30, Outcome.OK, 20);
+        recorder.record(2L, Kind.USE, 50, 40, 50, Outcome.INSUFFICIENT_BALANCE, 0);
+        Map<Long, List<PointHistory>> histories = Map.of(
+                1L, List.of(history(1, 1L, 100, TransactionType.CHARGE)),
+                2L, List.of(history(2, 2L, 20, TransactionType.CHARGE), history(3, 2L, 10, TransactionType.CHARGE)));
+        Map<Long, Long> balances = Map.of(1L, 100L, 2L, 30L);
+
+        Result result = PointLinearizabilityChecker.check(recorder.operations(), histories::get,
+                userId -> new UserPoint(userId, balances.get(userId), 0));
+
+        assertFalse(result.linearizable());
+        assertTrue(result.violations().stream().anyMatch(message -> message.startsWith("user 1") && message.contains("조회 결과 0")));
+        assertTrue(result.violations().stream().anyMatch(message -> message.startsWith("user 2") && message.contains("아직 기록되지 않았습니다")));
+        assertTrue(result.violations().stream().noneMatch(message -> message.contains("잔액 부족")));
+    }
+
+    /**
+     * THREADS 개 스레드가 USERS 명에게 충전 45%, 사용 35%, 조회 20% 를 섞어 보내고 기록을 검사합니다.
+     * 금액을 10/20/30 중에서 골라 같은 결과가 자주 나오고 잔액 부족도 섞이게 합니다.
+     */
+    private Result runAndCheck(PointServiceImpl pointService, int operationCount) {
+
+        PointOperationRecorder recorder = new PointOperationRecorder();
+        ExecutorService clients = Executors.newFixedThreadPool(THREADS);
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            SplittableRandom random = new SplittableRandom(t);
+            requests.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < operationCount / THREADS; i++) {
+                    long userId = 1 + random.nextInt(USERS);
+                    long amount = 10L * (1 + random.nextInt(3));
+                    int dice = random.nextInt(100);
+                    if (dice < 45) {
+                        recorder.charge(pointService, userId, amount);
+                    } else if (dice < 80) {
+                        recorder.use(pointService, userId, amount);
+                    } else {
+                        recorder.selectById(pointService, userId);
+                    }
+                }
+            }, clients));
+        }
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+        clients.shutdown();
+
+        return PointLinearizabilityChecker.check(recorder.operations(), pointService::selectAllByUserId, pointService::selectById);
+    }
+
+    private static PointHistory history(long id, long userId, long amount, TransactionType type) {
+        return new PointHistory(id, userId, amount, type, 0);
+    }
+
+    /**
+     * 지연을 뺀 잔액 테이블
+     * 다른 유저끼리 동시에 기록해도 맵이 깨지지 않도록 ConcurrentHashMap 을 씁니다.
+     */
+    private static final class NonBlockingUserPointTable extends UserPointTable {
+
+        private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+        @Override
+        public UserPoint selectById(Long id) {
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint insertOrUpdate(long id, long amount) {
+            UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+    }
+
+    /**
+     * 원본처럼 동시 호출에 안전하지 않은(ArrayList, cursor++) 지연 없는 내역 테이블
+     */
+    private static final class NonBlockingPointHistoryTable extends PointHistoryTable {
+
+        private final List<PointHistory> table = new ArrayList<>();
+        private long cursor = 1;
+
+        @Override
+        public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+            PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+            table.add(pointHistory);
+            return pointHistory;
+        }
+
+        int size() {
+            return table.size();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.constant.ErrorMessage;
+import io.hhplus.tdd.point.service.PointService;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 실행한 충전/사용/조회의 호출/응답 시각과 결과를 기록합니다. (선형성 검사용)
+ *
+ * 스레드마다 원시 타입 열 배열에 이어 쓰므로 기록 중에는 스레드 사이 경합이 없고,
+ * 수백만 건을 기록해도 요청마다 객체를 만들지 않습니다.
+ */
+public class PointOperationRecorder {
+
+    private static final String INSUFFICIENT_BALANCE_PREFIX = ErrorMessage.INSUFFICIENT_BALANCE.format(0L, 0L).split(" id:")[0];
+
+    public enum Kind {
+        CHARGE,
+        USE,
+        SELECT
+    }
+
+    public enum Outcome {
+        OK,
+        INSUFFICIENT_BALANCE,
+        FAILED
+    }
+
+    private final ConcurrentLinkedQueue<Operations> logs = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Operations> local = ThreadLocal.withInitial(() -> {
+        Operations log = new Operations(1024);
+        logs.add(log);
+        return log;
+    });
+
+    public UserPoint charge(PointService pointService, long userId, long amount) {
+        return call(userId, Kind.CHARGE, amount, () -> pointService.charge(userId, amount));
+    }
+
+    public UserPoint use(PointService pointService, long userId, long amount) {
+        return call(userId, Kind.USE, amount, () -> pointService.use(userId, amount));
+    }
+
+    public UserPoint selectById(PointService pointService, long userId) {
+        return call(userId, Kind.SELECT, 0, () -> pointService.selectById(userId));
+    }
+
+    /**
+     * 호출/응답 시각(System.nanoTime)을 직접 지정해 기록합니다.
+     */
+    public void record(long userId, Kind kind, long amount, long invokedNanos, long respondedNanos, Outcome outcome, long point) {
+        local.get().add(userId, kind, amount, invokedNanos, respondedNanos, outcome, point);
+    }
+
+    /**
+     * 모든 스레드의 기록을 합칩니다. 기록하던 스레드가 모두 끝난 뒤 호출합니다.
+     */
+    public Operations operations() {
+
+        int size = logs.stream().mapToInt(Operations::size).sum();
+        Operations merged = new Operations(size);
+        for (Operations log : logs) {
+            for (int i = 0; i < log.size; i++) {
+                merged.add(log.userIds[i], log.kind(i), log.amounts[i], log.invoked[i], log.responded[i], log.outcome(i), log.points[i]);
+            }
+        }
+        return merged;
+    }
+
+    private UserPoint call(long userId, Kind kind, long amount, Supplier<UserPoint> operation) {
+
+        long invoked = System.nanoTime();
+        try {
+            UserPoint userPoint = operation.get();
+            record(userId, kind, amount, invoked, System.nanoTime(), Outcome.OK, userPoint.point());
+            return userPoint;
+        } catch (RuntimeException e) {
+            long responded = System.nanoTime();
+            boolean insufficient = e.getMessage() != null && e.getMessage().startsWith(INSUFFICIENT_BALANCE_PREFIX);
+            record(userId, kind, amount, invoked, responded, insufficient ? Outcome.INSUFFICIENT_BALANCE : Outcome.FAILED, 0);
+            return null;
+        }
+    }
+
+    /**
+     * 기록된 요청 목록 (요청 하나가 각 열 배열의 같은 위치를 차지합니다)
+     */
+    public static final class Operations {
+
+        private static final Kind[] KINDS = Kind.values();
+        private static final Outcome[] OUTCOMES = Outcome.values();
+
+        private long[] userIds;
+        private long[] amounts;
+        private long[] invoked;
+        private long[] responded;
+        private long[] points;
+        private byte[] kinds;
+        private byte[] outcomes;
+        private int size;
+
+        Operations(int capacity) {
+            int initial = Math.max(16, capacity);
+            userIds = new long[initial];
+            amounts = new long[initial];
+            invoked = new long[initial];
+            responded = new long[initial];
+            points = new long[initial];
+            kinds = new byte[initial];
+            outcomes = new byte[initial];
+        }
+
+        private void add(long userId, Kind kind, long amount, long invokedNanos, long respondedNanos, Outcome outcome, long point) {
+
+            if (size == userIds.length) {
+                int capacity = size << 1;
+                userIds = Arrays.copyOf(userIds, capacity);
+                amounts = Arrays.copyOf(amounts, capacity);
+                invoked = Arrays.copyOf(invoked, capacity);
+                responded = Arrays.copyOf(responded, capacity);
+                points = Arrays.copyOf(points, capacity);
+                kinds = Arrays.copyOf(kinds, capacity);
+                outcomes = Arrays.copyOf(outcomes, capacity);
+            }
+            userIds[size] = userId;
+            amounts[size] = amount;
+            invoked[size] = invokedNanos;
+            responded[size] = respondedNanos;
+            points[size] = point;
+            kinds[size] = (byte) kind.ordinal();
+            outcomes[size] = (byte) outcome.ordinal();
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long userId(int i) {
+            return userIds[i];
+        }
+
+        public Kind kind(int i) {
+            return KINDS[kinds[i]];
+        }
+
+        public long amount(int i) {
+            return amounts[i];
+        }
+
+        public long invoked(int i) {
+            return invoked[i];
+        }
+
+        public long responded(int i) {
+            return responded[i];
+        }
+
+        public Outcome outcome(int i) {
+            return OUTCOMES[outcomes[i]];
+        }
+
+        /**
+         * 성공한 요청이 돌려준 잔액
+         */
+        public long point(int i) {
+            return points[i];
+        }
+    }
+}
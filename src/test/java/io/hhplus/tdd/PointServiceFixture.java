@@ -0,0 +1,110 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.engine.LockUserTaskExecutor;
+import io.hhplus.tdd.point.engine.UserTaskExecutor;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.journal.NoOpPointJournal;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.lock.StripedUserLockTable;
+import io.hhplus.tdd.point.lock.UserLockTable;
+import io.hhplus.tdd.point.lock.UserLockWaitLimiter;
+import io.hhplus.tdd.point.metrics.NoOpPointTransactionMetrics;
+import io.hhplus.tdd.point.metrics.PointTransactionMetrics;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.repository.InMemoryPointSummaryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.GroupCommitQueue;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+
+/**
+ * 서비스 단위 테스트들이 함께 쓰는 PointServiceImpl 조립
+ *
+ * 잔액은 PrimitiveUserPointRepository(stripe 1, 캐시 없음), 내역은 ColumnarPointHistoryRepository 에 두어
+ * 테이블 지연 없이 실행합니다. 테스트마다 바꾸는 실행기, 그룹 커밋, 지표, 멱등 키 저장소, 저널, 저장소를 고를 수 있습니다.
+ */
+final class PointServiceFixture {
+
+    /**
+     * ShardedPointServiceTest 가 여러 서비스를 샤드로 묶으므로 기본 저널은 하나를 함께 씁니다.
+     */
+    private static final NoOpPointJournal POINT_JOURNAL = new NoOpPointJournal();
+
+    private UserTaskExecutor userTaskExecutor;
+    private boolean groupCommit;
+    private PointTransactionMetrics pointTransactionMetrics = new NoOpPointTransactionMetrics();
+    private IdempotencyStore idempotencyStore = IdempotencyStore.disabled();
+    private PointJournal pointJournal = POINT_JOURNAL;
+    private UserPointRepository userPointRepository;
+    private PointHistoryRepository pointHistoryRepository;
+
+    private PointServiceFixture() {
+    }
+
+    static PointServiceFixture builder() {
+        return new PointServiceFixture();
+    }
+
+    /**
+     * 스트라이프 16개 유저 락, 그룹 커밋 없이 조립합니다.
+     */
+    static PointServiceImpl pointService() {
+        return builder().build();
+    }
+
+    static PointServiceImpl pointService(UserTaskExecutor userTaskExecutor) {
+        return builder().executor(userTaskExecutor).build();
+    }
+
+    static UserTaskExecutor lockExecutor(UserLockTable userLockTable) {
+        return new LockUserTaskExecutor(userLockTable, UserLockWaitLimiter.unbounded(), new NoOpPointTransactionMetrics());
+    }
+
+    /**
+     * 지정하지 않으면 스트라이프 16개 유저 락을 사용합니다.
+     */
+    PointServiceFixture executor(UserTaskExecutor userTaskExecutor) {
+        this.userTaskExecutor = userTaskExecutor;
+        return this;
+    }
+
+    PointServiceFixture groupCommit(boolean groupCommit) {
+        this.groupCommit = groupCommit;
+        return this;
+    }
+
+    PointServiceFixture metrics(PointTransactionMetrics pointTransactionMetrics) {
+        this.pointTransactionMetrics = pointTransactionMetrics;
+        return this;
+    }
+
+    PointServiceFixture idempotencyStore(IdempotencyStore idempotencyStore) {
+        this.idempotencyStore = idempotencyStore;
+        return this;
+    }
+
+    PointServiceFixture journal(PointJournal pointJournal) {
+        this.pointJournal = pointJournal;
+        return this;
+    }
+
+    /**
+     * 지정하지 않으면 PrimitiveUserPointRepository, ColumnarPointHistoryRepository 를 사용합니다.
+     */
+    PointServiceFixture repositories(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        return this;
+    }
+
+    PointServiceImpl build() {
+        UserTaskExecutor executor = userTaskExecutor != null ? userTaskExecutor
+                : new LockUserTaskExecutor(new StripedUserLockTable(16), UserLockWaitLimiter.unbounded(), pointTransactionMetrics);
+        return new PointServiceImpl(
+                userPointRepository != null ? userPointRepository : new PrimitiveUserPointRepository(1, 0),
+                pointHistoryRepository != null ? pointHistoryRepository : new ColumnarPointHistoryRepository(),
+                executor, new GroupCommitQueue(groupCommit), pointJournal, pointTransactionMetrics,
+                idempotencyStore, new InMemoryPointSummaryRepository());
+    }
+}
@@ -1,15 +1,28 @@
 package io.hhplus.tdd;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.PointHistory;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.engine.LockUserTaskExecutor;
+import io.hhplus.tdd.point.engine.UserTaskExecutor;
+import io.hhplus.tdd.point.idempotency.IdempotencyStore;
+import io.hhplus.tdd.point.journal.NoOpPointJournal;
+import io.hhplus.tdd.point.journal.PointJournal;
+import io.hhplus.tdd.point.lock.StripedUserLockTable;
+import io.hhplus.tdd.point.lock.UserLockWaitLimiter;
+import io.hhplus.tdd.point.metrics.NoOpPointTransactionMetrics;
+import io.hhplus.tdd.point.metrics.PointTransactionMetrics;
+import io.hhplus.tdd.point.repository.InMemoryPointSummaryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointSummaryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.GroupCommitQueue;
 import io.hhplus.tdd.point.service.PointServiceImpl;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
@@ -29,10 +42,29 @@ public class PointServiceTest {
     private PointServiceImpl pointService;
 
     @Mock
-    private UserPointTable userPointTable;
+    private UserPointRepository userPointRepository;
 
     @Mock
-    private PointHistoryTable pointHistoryTable;
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Spy
+    private UserTaskExecutor userTaskExecutor = new LockUserTaskExecutor(new StripedUserLockTable(16), UserLockWaitLimiter.unbounded(),
+            new NoOpPointTransactionMetrics());
+
+    @Spy
+    private GroupCommitQueue groupCommitQueue = new GroupCommitQueue(false);
+
+    @Spy
+    private PointJournal pointJournal = new NoOpPointJournal();
+
+    @Spy
+    private PointTransactionMetrics pointTransactionMetrics = new NoOpPointTransactionMetrics();
+
+    @Spy
+    private IdempotencyStore idempotencyStore = IdempotencyStore.disabled();
+
+    @Spy
+    private PointSummaryRepository pointSummaryRepository = new InMemoryPointSummaryRepository();
 
 
     @Test
@@ -90,14 +122,14 @@ public class PointServiceTest {
         long time = System.currentTimeMillis();
 
         UserPoint userPoint = new UserPoint(userId, 0, time);
-        when(userPointTable.selectById(userId)).thenReturn(userPoint);
+        when(userPointRepository.selectById(userId)).thenReturn(userPoint);
 
         //when
         UserPoint result = pointService.selectById(userId);
 
         //then
         assertEquals(0, result.point());
-        verify(userPointTable).selectById(userId);
+        verify(userPointRepository).selectById(userId);
     }
 
     @Test
@@ -122,11 +154,11 @@ public class PointServiceTest {
 
         // 기존 포인트 500 설정
         UserPoint existingPoint = new UserPoint(userId, initialPoint, time);
-        when(userPointTable.selectById(userId)).thenReturn(existingPoint);
+        when(userPointRepository.selectById(userId)).thenReturn(existingPoint);
 
         // 충전 후의 포인트 설정
         UserPoint chargedUserPoint = new UserPoint(userId, (initialPoint + chargeAmount), time);
-        when(userPointTable.insertOrUpdate(userId, (initialPoint + chargeAmount))).thenReturn(chargedUserPoint);
+        when(userPointRepository.insertOrUpdate(userId, (initialPoint + chargeAmount))).thenReturn(chargedUserPoint);
 
         // when
         UserPoint result = pointService.charge(userId, chargeAmount);
@@ -164,11 +196,11 @@ public class PointServiceTest {
 
         // Mock: 초기 포인트 설정
         UserPoint existingPoint = new UserPoint(userId, initialPoint, System.currentTimeMillis());
-        when(userPointTable.selectById(userId)).thenReturn(existingPoint);
+        when(userPointRepository.selectById(userId)).thenReturn(existingPoint);
 
         // Mock: 포인트 사용 후 포인트 업데이트
         UserPoint updatedPoint = new UserPoint(userId, initialPoint - useAmount, System.currentTimeMillis());
-        when(userPointTable.insertOrUpdate(userId, initialPoint - useAmount)).thenReturn(updatedPoint);
+        when(userPointRepository.insertOrUpdate(userId, initialPoint - useAmount)).thenReturn(updatedPoint);
 
         // when
         UserPoint result = pointService.use(userId, useAmount);
@@ -194,15 +226,15 @@ public class PointServiceTest {
 
         // 첫 번째 충전 후 포인트
         UserPoint chargePoint1 = new UserPoint(userId, charge1, time1);
-        when(userPointTable.insertOrUpdate(userId, charge1)).thenReturn(chargePoint1);
+        when(userPointRepository.insertOrUpdate(userId, charge1)).thenReturn(chargePoint1);
 
         // 두 번째 충전 후 포인트
         UserPoint chargePoint2 = new UserPoint(userId, charge2, time2);
-        when(userPointTable.insertOrUpdate(userId, charge2)).thenReturn(chargePoint2);
+        when(userPointRepository.insertOrUpdate(userId, charge2)).thenReturn(chargePoint2);
 
         // 세 번째 충전 후 포인트
         UserPoint chargePoint3 = new UserPoint(userId, charge3, time3);
-        when(userPointTable.insertOrUpdate(userId, charge3)).thenReturn(chargePoint3);
+        when(userPointRepository.insertOrUpdate(userId, charge3)).thenReturn(chargePoint3);
 
         // 포인트 이력 설정
         List<PointHistory> pointHistoryList = List.of(
@@ -210,7 +242,7 @@ public class PointServiceTest {
                 new PointHistory(2, userId, charge2, TransactionType.CHARGE, time2),
                 new PointHistory(3, userId, charge3, TransactionType.CHARGE, time3)
         );
-        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(pointHistoryList);
+        when(pointHistoryRepository.selectAllByUserId(userId)).thenReturn(pointHistoryList);
 
         // when
         pointService.charge(userId, charge1);
@@ -0,0 +1,173 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.journal.JournalSyncMode;
+import io.hhplus.tdd.point.journal.MappedPointJournal;
+import io.hhplus.tdd.point.journal.PointJournalReplayer;
+import io.hhplus.tdd.point.journal.PointSnapshotStore;
+import io.hhplus.tdd.point.journal.PointSnapshotStore.Snapshot;
+import io.hhplus.tdd.point.journal.PointSnapshotter;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 잔액 스냅샷 테스트
+ *
+ */
+public class PointSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private MappedPointJournal journal;
+    private PointSnapshotStore snapshotStore;
+    private PointSnapshotter snapshotter;
+
+    @BeforeEach
+    void setUp() {
+        journal = new MappedPointJournal(directory.resolve("journal"), 8, JournalSyncMode.NONE, Duration.ofMillis(10));
+        snapshotStore = new PointSnapshotStore(directory.resolve("snapshot"));
+        snapshotter = new PointSnapshotter(journal, snapshotStore, Duration.ofHours(1), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        snapshotter.close();
+        journal.close();
+    }
+
+    @Test
+    void 스냅샷은_직전_스냅샷에_이후_저널을_더한_잔액이다() {
+        journal.append(1L, 100, TransactionType.CHARGE, 1L);
+        journal.append(300L, 500, TransactionType.CHARGE, 2L);
+        journal.append(1L, 30, TransactionType.USE, 3L);
+        Snapshot first = snapshotter.snapshot().orElseThrow();
+        assertEquals(3, first.sequence());
+        assertEquals(2, first.userCount());
+
+        journal.append(2L, 70, TransactionType.CHARGE, 4L);
+        journal.append(300L, 200, TransactionType.USE, 5L);
+        Snapshot second = snapshotter.snapshot().orElseThrow();
+
+        assertEquals(5, second.sequence());
+        assertEquals(Map.of(1L, 70L, 2L, 70L, 300L, 300L), balancesOf(second));
+        assertTrue(snapshotter.snapshot().isEmpty());
+        assertEquals(second, snapshotStore.latest().orElseThrow());
+    }
+
+    @Test
+    void 시작_시_스냅샷_이후의_저널만_재생한다() {
+        journal.append(1L, 100, TransactionType.CHARGE, 1L);
+        journal.append(2L, 200, TransactionType.CHARGE, 2L);
+        snapshotter.snapshot();
+        journal.append(1L, 40, TransactionType.USE, 3L);
+        journal.append(3L, 10, TransactionType.CHARGE, 4L);
+
+        UserPointRepository userPointRepository = Mockito.mock(UserPointRepository.class);
+        PointHistoryRepository pointHistoryRepository = Mockito.mock(PointHistoryRepository.class);
+        PointJournalReplayer replayer = new PointJournalReplayer(journal, userPointRepository, pointHistoryRepository, snapshotStore);
+        replayer.afterSingletonsInstantiated();
+
+        verify(userPointRepository).insertOrUpdate(1L, 60L);
+        verify(userPointRepository).insertOrUpdate(2L, 200L);
+        verify(userPointRepository).insertOrUpdate(3L, 10L);
+        verify(pointHistoryRepository, times(2)).restore(any());
+        assertEquals(2, replayer.replayedRecords());
+        assertEquals(3, replayer.recoveredUsers());
+    }
+
+    @Test
+    void 남겨_둔_가장_오래된_스냅샷까지_반영된_저널_세그먼트는_지운다() throws IOException {
+        for (long i = 1; i <= 10; i++) {
+            journal.append(1L, 1, TransactionType.CHARGE, i);
+        }
+        snapshotter.snapshot();
+        for (long i = 11; i <= 20; i++) {
+            journal.append(2L, 1, TransactionType.CHARGE, i);
+        }
+        snapshotter.snapshot();
+
+        // 스냅샷 10, 20 을 남기므로 1~8 번 세그먼트만 지우고, 10 번 스냅샷부터 복구할 수 있도록 9 번부터 남깁니다.
+        try (Stream<Path> files = Files.list(directory.resolve("journal"))) {
+            assertEquals(List.of("00000000000000000009.journal", "00000000000000000017.journal"),
+                    files.map(path -> path.getFileName().toString()).sorted().toList());
+        }
+        long[] replayed = {0};
+        journal.replay(10, record -> replayed[0]++);
+        assertEquals(10, replayed[0]);
+    }
+
+    @Test
+    void 손상된_스냅샷은_읽지_않는다() throws IOException {
+        for (long userId = 1; userId <= 100; userId++) {
+            journal.append(userId, userId * 10, TransactionType.CHARGE, userId);
+        }
+        Snapshot snapshot = snapshotter.snapshot().orElseThrow();
+        corrupt(snapshot);
+
+        assertThrows(UncheckedIOException.class, () -> balancesOf(snapshot));
+        assertTrue(snapshotStore.latest().isEmpty());
+    }
+
+    @Test
+    void 최근_스냅샷이_손상되면_이전_스냅샷과_그_이후_저널로_복구한다() throws IOException {
+        for (long userId = 1; userId <= 100; userId++) {
+            journal.append(userId, userId * 10, TransactionType.CHARGE, userId);
+        }
+        Snapshot previous = snapshotter.snapshot().orElseThrow();
+        for (long userId = 1; userId <= 100; userId++) {
+            journal.append(userId, userId, TransactionType.USE, userId);
+        }
+        corrupt(snapshotter.snapshot().orElseThrow());
+
+        assertEquals(previous, snapshotStore.latest().orElseThrow());
+        UserPointRepository userPointRepository = Mockito.mock(UserPointRepository.class);
+        PointJournalReplayer replayer = new PointJournalReplayer(journal, userPointRepository,
+                Mockito.mock(PointHistoryRepository.class), snapshotStore);
+        replayer.afterSingletonsInstantiated();
+
+        assertEquals(100, replayer.replayedRecords());
+        for (long userId = 1; userId <= 100; userId++) {
+            verify(userPointRepository).insertOrUpdate(userId, userId * 9);
+        }
+    }
+
+    /**
+     * 본문의 한 바이트를 뒤집습니다.
+     */
+    private static void corrupt(Snapshot snapshot) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot.path(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer one = ByteBuffer.allocate(1);
+            channel.read(one, 40);
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) (one.get(0) ^ 0x40)}), 40);
+        }
+    }
+
+    private Map<Long, Long> balancesOf(Snapshot snapshot) {
+        Map<Long, Long> balances = new LinkedHashMap<>();
+        snapshotStore.forEach(snapshot, balances::put);
+        return balances;
+    }
+}
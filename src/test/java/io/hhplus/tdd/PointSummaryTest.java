@@ -0,0 +1,106 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointSummary;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.journal.JournalSyncMode;
+import io.hhplus.tdd.point.journal.MappedPointJournal;
+import io.hhplus.tdd.point.journal.PointJournalReplayer;
+import io.hhplus.tdd.point.journal.PointSnapshotStore;
+import io.hhplus.tdd.point.journal.PointSnapshotter;
+import io.hhplus.tdd.point.repository.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.point.repository.InMemoryPointSummaryRepository;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 유저별 누적 집계 테스트
+ *
+ */
+public class PointSummaryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void 충전과_사용을_기록할_때마다_집계가_갱신된다() {
+        PointServiceImpl pointService = PointServiceFixture.pointService();
+
+        pointService.charge(1L, 100L);
+        pointService.charge(1L, 50L);
+        pointService.use(1L, 30L);
+        assertThrows(RuntimeException.class, () -> pointService.use(1L, 1000L));
+
+        PointSummary summary = pointService.selectSummary(1L);
+        assertEquals(2, summary.chargeCount());
+        assertEquals(150L, summary.chargeAmount());
+        assertEquals(1, summary.useCount());
+        assertEquals(30L, summary.useAmount());
+        List<Long> millis = pointService.selectAllByUserId(1L).stream().map(PointHistory::updateMillis).toList();
+        assertEquals(millis.get(0), summary.firstUpdateMillis());
+        assertEquals(millis.get(2), summary.lastUpdateMillis());
+        assertEquals(PointSummary.empty(2L), pointService.selectSummary(2L));
+    }
+
+    @Test
+    void 한_번에_처리한_요청도_성공한_건만_집계된다() {
+        PointServiceImpl pointService = PointServiceFixture.builder().groupCommit(true).build();
+
+        pointService.executeAll(1L, List.of(
+                new PointOperation(1L, TransactionType.CHARGE, 100L),
+                new PointOperation(1L, TransactionType.USE, 500L),
+                new PointOperation(1L, TransactionType.USE, 40L)));
+
+        PointSummary summary = pointService.selectSummary(1L);
+        assertEquals(1, summary.chargeCount());
+        assertEquals(100L, summary.chargeAmount());
+        assertEquals(1, summary.useCount());
+        assertEquals(40L, summary.useAmount());
+    }
+
+    @Test
+    void 저널을_재생하면_집계도_복구된다() {
+        try (MappedPointJournal journal = new MappedPointJournal(directory, 16, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            journal.append(1L, 100, TransactionType.CHARGE, 1L);
+            journal.append(1L, 30, TransactionType.USE, 3L);
+            journal.append(2L, 500, TransactionType.CHARGE, 2L);
+
+            InMemoryPointSummaryRepository pointSummaryRepository = new InMemoryPointSummaryRepository();
+            new PointJournalReplayer(journal, new PrimitiveUserPointRepository(1, 0), new ColumnarPointHistoryRepository(),
+                    null, pointSummaryRepository).afterSingletonsInstantiated();
+
+            assertEquals(new PointSummary(1L, 1, 100L, 1, 30L, 1L, 3L), pointSummaryRepository.selectById(1L));
+            assertEquals(new PointSummary(2L, 1, 500L, 0, 0L, 2L, 2L), pointSummaryRepository.selectById(2L));
+        }
+    }
+
+    @Test
+    void 스냅샷으로_복구하면_집계에_포함하는_거래의_시작_시각을_표시한다() {
+        try (MappedPointJournal journal = new MappedPointJournal(directory.resolve("journal"), 16, JournalSyncMode.NONE, Duration.ofMillis(10))) {
+            PointSnapshotStore snapshotStore = new PointSnapshotStore(directory.resolve("snapshot"));
+            journal.append(1L, 100, TransactionType.CHARGE, 1L);
+            try (PointSnapshotter snapshotter = new PointSnapshotter(journal, snapshotStore, Duration.ofHours(1), 2)) {
+                snapshotter.snapshot();
+            }
+            journal.append(1L, 30, TransactionType.USE, 5L);
+
+            InMemoryPointSummaryRepository pointSummaryRepository = new InMemoryPointSummaryRepository();
+            new PointJournalReplayer(journal, new PrimitiveUserPointRepository(1, 0), new ColumnarPointHistoryRepository(),
+                    snapshotStore, pointSummaryRepository).afterSingletonsInstantiated();
+
+            // 스냅샷 이전의 충전은 집계에 없으므로 5 시각부터의 거래만 포함함을 표시합니다.
+            assertEquals(new PointSummary(1L, 0, 0L, 1, 30L, 5L, 5L, 5L), pointSummaryRepository.selectById(1L));
+            assertEquals(5L, pointSummaryRepository.selectById(2L).coveredFromMillis());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.constant.ErrorMessage;
+import io.hhplus.tdd.point.engine.LockUserTaskExecutor;
+import io.hhplus.tdd.point.hotaccount.HotAccount;
+import io.hhplus.tdd.point.hotaccount.HotAccountOrder;
+import io.hhplus.tdd.point.hotaccount.HotAccountTracker;
+import io.hhplus.tdd.point.lock.StripedUserLockTable;
+import io.hhplus.tdd.point.lock.UserLockTable;
+import io.hhplus.tdd.point.lock.UserLockWaitLimiter;
+import io.hhplus.tdd.point.metrics.MicrometerPointTransactionMetrics;
+import io.hhplus.tdd.point.metrics.PointTransactionMetrics;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 충전/사용 처리 지표 테스트
+ *
+ */
+public class PointTransactionMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private UserLockTable userLockTable;
+    private HotAccountTracker hotAccountTracker;
+    private PointServiceImpl pointService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        userLockTable = new StripedUserLockTable(16);
+        hotAccountTracker = new HotAccountTracker(8, Duration.ofMinutes(1), 6);
+        PointTransactionMetrics pointTransactionMetrics = new MicrometerPointTransactionMetrics(registry, userLockTable, true, hotAccountTracker);
+        pointService = PointServiceFixture.builder()
+                                          .executor(new LockUserTaskExecutor(userLockTable, UserLockWaitLimiter.unbounded(), pointTransactionMetrics))
+                                          .metrics(pointTransactionMetrics)
+                                          .build();
+    }
+
+    @Test
+    void 충전은_구간별_시간을_남긴다() {
+        pointService.charge(1L, 100L);
+        pointService.charge(1L, 50L);
+
+        for (String stage : new String[]{"lock_wait", "lock_hold", "balance_read", "journal_append",
+                "balance_write", "history_write", "journal_sync"}) {
+            assertEquals(2, registry.get("point.transaction.stage").tag("stage", stage).timer().count(), stage);
+        }
+        assertTrue(registry.get("point.transaction.stage").tag("stage", "lock_hold").timer().totalTime(TimeUnit.NANOSECONDS) > 0);
+        assertEquals(16.0, registry.get("point.lock.table.size").gauge().value());
+    }
+
+    @Test
+    void 거절된_요청은_사유별로_센다() {
+        pointService.charge(1L, 100L);
+
+        assertThrows(RuntimeException.class, () -> pointService.use(1L, 500L));
+        assertThrows(IllegalArgumentException.class, () -> pointService.charge(1L, -1L));
+        assertThrows(IllegalArgumentException.class, () -> pointService.selectById(-1L));
+
+        assertEquals(1.0, rejections(ErrorMessage.INSUFFICIENT_BALANCE));
+        assertEquals(1.0, rejections(ErrorMessage.NEGATIVE_AMOUNT_ERROR));
+        assertEquals(1.0, rejections(ErrorMessage.NEGATIVE_ID_ERROR));
+        assertEquals(0.0, rejections(ErrorMessage.POINT_NOT_FOUND));
+        assertEquals(1, registry.get("point.transaction.stage").tag("stage", "balance_write").timer().count());
+    }
+
+    @Test
+    void 락을_기다린_요청은_경합_유저로_집계된다() throws Exception {
+        Lock lock = userLockTable.lockOf(7L);
+        lock.lock();
+        CompletableFuture<UserPoint> waiting;
+        try {
+            waiting = CompletableFuture.supplyAsync(() -> pointService.charge(7L, 100L));
+            while (!((ReentrantLock) lock).hasQueuedThreads()) {
+                Thread.onSpinWait();
+            }
+        } finally {
+            lock.unlock();
+        }
+        waiting.get(10, TimeUnit.SECONDS);
+        pointService.charge(8L, 100L);
+
+        assertEquals(1.0, registry.get("point.lock.contentions").counter().count());
+        List<HotAccount> top = hotAccountTracker.top(10, HotAccountOrder.CONTENTIONS);
+        assertEquals(1, top.size());
+        assertEquals(7L, top.get(0).userId());
+        assertEquals(1, top.get(0).contentions());
+        assertTrue(top.get(0).totalWaitNanos() > 0);
+    }
+
+    private double rejections(ErrorMessage reason) {
+        return registry.get("point.transaction.rejections").tag("reason", reason.name()).counter().count();
+    }
+}
@@ -0,0 +1,126 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.engine.MailboxUserTaskExecutor;
+import io.hhplus.tdd.point.lock.ReclaimableUserLockTable;
+import io.hhplus.tdd.point.lock.StripedUserLockTable;
+import io.hhplus.tdd.point.metrics.NoOpPointTransactionMetrics;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import io.hhplus.tdd.point.service.ShardedPointService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static io.hhplus.tdd.PointServiceFixture.lockExecutor;
+import static io.hhplus.tdd.PointServiceFixture.pointService;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 두 유저 사이의 송금 테스트
+ *
+ */
+public class PointTransferTest {
+
+    private static final int USERS = 16;
+    private static final long INITIAL_POINT = 1_000L;
+
+    @Test
+    void 송금하면_두_유저의_잔액과_내역과_집계가_함께_기록된다() {
+        PointServiceImpl pointService = pointService();
+        pointService.charge(1L, 100L);
+
+        assertEquals(70L, pointService.transfer(1L, 2L, 30L).point());
+
+        assertEquals(70L, pointService.selectById(1L).point());
+        assertEquals(30L, pointService.selectById(2L).point());
+        assertEquals(List.of(TransactionType.CHARGE, TransactionType.USE),
+                pointService.selectAllByUserId(1L).stream().map(PointHistory::type).toList());
+        assertEquals(30L, pointService.selectAllByUserId(2L).get(0).amount());
+        assertEquals(TransactionType.CHARGE, pointService.selectAllByUserId(2L).get(0).type());
+        assertEquals(1L, pointService.selectSummary(1L).useCount());
+        assertEquals(30L, pointService.selectSummary(2L).chargeAmount());
+    }
+
+    @Test
+    void 잔액이_부족하거나_자기_자신에게_보내면_어느_쪽도_기록하지_않는다() {
+        PointServiceImpl pointService = pointService();
+        pointService.charge(1L, 100L);
+
+        assertThrows(RuntimeException.class, () -> pointService.transfer(1L, 2L, 101L));
+        assertThrows(IllegalArgumentException.class, () -> pointService.transfer(1L, 1L, 10L));
+        assertThrows(IllegalArgumentException.class, () -> pointService.transfer(1L, 2L, 0L));
+        assertThrows(IllegalArgumentException.class, () -> pointService.transfer(1L, -2L, 10L));
+
+        assertEquals(100L, pointService.selectById(1L).point());
+        assertEquals(0L, pointService.selectById(2L).point());
+        assertEquals(1, pointService.selectAllByUserId(1L).size());
+        assertEquals(0, pointService.selectAllByUserId(2L).size());
+    }
+
+    @Test
+    void 무작위_쌍의_동시_송금은_교착_없이_끝나고_총액과_유저별_내역이_맞는다() throws Exception {
+        Map<String, Supplier<PointService>> services = new LinkedHashMap<>();
+        // 스트라이프 2개 : 서로 다른 유저가 같은 락을 쓰거나 반대 순서로 만나는 경우가 많습니다.
+        services.put("striped", () -> pointService(lockExecutor(new StripedUserLockTable(2))));
+        services.put("reclaimable", () -> pointService(lockExecutor(new ReclaimableUserLockTable())));
+        services.put("groupCommit", () -> PointServiceFixture.builder().groupCommit(true).build());
+        services.put("mailbox", () -> pointService(new MailboxUserTaskExecutor(4, 64, new NoOpPointTransactionMetrics())));
+        services.put("sharded", () -> new ShardedPointService(IntStream.range(0, 4)
+                .mapToObj(i -> pointService(lockExecutor(new StripedUserLockTable(2)))).toList()));
+        services.put("shardedMailbox", () -> new ShardedPointService(IntStream.range(0, 4)
+                .mapToObj(i -> pointService(new MailboxUserTaskExecutor(2, 64, new NoOpPointTransactionMetrics()))).toList()));
+
+        for (Map.Entry<String, Supplier<PointService>> entry : services.entrySet()) {
+            PointService pointService = entry.getValue().get();
+            for (long userId = 1; userId <= USERS; userId++) {
+                pointService.charge(userId, INITIAL_POINT);
+            }
+
+            ExecutorService clients = Executors.newFixedThreadPool(8);
+            List<CompletableFuture<Void>> requests = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                SplittableRandom random = new SplittableRandom(t);
+                requests.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        long from = 1 + random.nextInt(USERS);
+                        long to = 1 + (from + random.nextInt(USERS - 1)) % USERS;
+                        try {
+                            pointService.transfer(from, to, 1 + random.nextInt(200));
+                        } catch (RuntimeException e) {
+                            // 잔액 부족은 어느 쪽도 기록하지 않으므로 무시합니다.
+                        }
+                    }
+                }, clients));
+            }
+            // 교착이 생기면 끝나지 않으므로 제한 시간 안에 끝나는지 확인합니다.
+            CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+            clients.shutdown();
+
+            long total = 0;
+            for (long userId = 1; userId <= USERS; userId++) {
+                long point = pointService.selectById(userId).point();
+                long recorded = pointService.selectAllByUserId(userId).stream()
+                                            .mapToLong(h -> h.type() == TransactionType.CHARGE ? h.amount() : -h.amount())
+                                            .sum();
+                assertTrue(point >= 0, entry.getKey());
+                assertEquals(recorded, point, entry.getKey() + " user " + userId);
+                total += point;
+            }
+            assertEquals(USERS * INITIAL_POINT, total, entry.getKey());
+        }
+    }
+}
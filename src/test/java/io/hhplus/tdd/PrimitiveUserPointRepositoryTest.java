@@ -0,0 +1,103 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * primitive 잔액 저장소 테스트
+ *
+ */
+public class PrimitiveUserPointRepositoryTest {
+
+    @Test
+    void 기록하지_않은_유저는_빈_잔액을_반환한다() {
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(4, 0);
+
+        UserPoint result = repository.selectById(7L);
+
+        assertEquals(7L, result.id());
+        assertEquals(0L, result.point());
+        assertEquals(0, repository.size());
+    }
+
+    @Test
+    void 같은_유저에_다시_기록하면_잔액을_덮어쓴다() {
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(1, 0);
+
+        repository.insertOrUpdate(1L, 100L);
+        UserPoint written = repository.insertOrUpdate(1L, 300L);
+        UserPoint result = repository.selectById(1L);
+
+        assertEquals(300L, result.point());
+        assertEquals(written.updateMillis(), result.updateMillis());
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void 초기_용량을_넘어_확장되어도_모든_잔액이_남는다() {
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(8, 0);
+        int userCount = 100_000;
+
+        for (long userId = 1; userId <= userCount; userId++) {
+            repository.insertOrUpdate(userId, userId * 10);
+        }
+        repository.insertOrUpdate(-1L, 5L);
+
+        assertEquals(userCount + 1, repository.size());
+        for (long userId = 1; userId <= userCount; userId++) {
+            assertEquals(userId * 10, repository.selectById(userId).point());
+        }
+        assertEquals(5L, repository.selectById(-1L).point());
+        assertEquals(0L, repository.selectById(userCount + 1).point());
+    }
+
+    @Test
+    void 확장_중에도_조회는_기록된_잔액만_읽는다() {
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(2, 0);
+        int writerCount = 4;
+        int usersPerWriter = 50_000;
+        AtomicBoolean done = new AtomicBoolean();
+
+        List<CompletableFuture<Void>> writers = new ArrayList<>();
+        for (int w = 0; w < writerCount; w++) {
+            long base = (long) w * usersPerWriter;
+            writers.add(CompletableFuture.runAsync(() -> {
+                for (long userId = base + 1; userId <= base + usersPerWriter; userId++) {
+                    repository.insertOrUpdate(userId, userId);
+                }
+            }));
+        }
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+            while (!done.get()) {
+                for (long userId = 1; userId <= (long) writerCount * usersPerWriter; userId += 97) {
+                    long point = repository.selectById(userId).point();
+                    assertTrue(point == 0 || point == userId, "userId: " + userId + ", point: " + point);
+                }
+            }
+        });
+
+        CompletableFuture.allOf(writers.toArray(new CompletableFuture[0])).join();
+        done.set(true);
+        reader.join();
+
+        assertEquals((long) writerCount * usersPerWriter, repository.size());
+        for (long userId = 1; userId <= (long) writerCount * usersPerWriter; userId++) {
+            assertEquals(userId, repository.selectById(userId).point());
+        }
+    }
+
+    @Test
+    void 아이디_0_은_기록할_수_없다() {
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(1, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> repository.insertOrUpdate(0L, 100L));
+    }
+}
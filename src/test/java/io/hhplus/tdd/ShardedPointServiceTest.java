@@ -0,0 +1,156 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.PointLinearizabilityChecker.Result;
+import io.hhplus.tdd.point.engine.UserTaskExecutor;
+import io.hhplus.tdd.point.journal.NoOpPointJournal;
+import io.hhplus.tdd.point.lock.UserLockTable;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointSummaryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import io.hhplus.tdd.point.service.ShardedPointService;
+import io.hhplus.tdd.point.shard.ShardUserLockTables;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 유저 샤드 라우터 테스트
+ *
+ */
+public class ShardedPointServiceTest {
+
+    private static final int SHARDS = 4;
+
+    @Test
+    void 유저는_자기_샤드에만_기록되고_다른_샤드와_저장소를_함께_쓰지_않는다() {
+        List<PointServiceImpl> shards = shards(false);
+        ShardedPointService pointService = new ShardedPointService(shards);
+        Set<Integer> used = new HashSet<>();
+
+        for (long userId = 1; userId <= 100; userId++) {
+            pointService.charge(userId, userId);
+            int owner = pointService.shardIndexOf(userId);
+            used.add(owner);
+            for (int i = 0; i < SHARDS; i++) {
+                assertEquals(i == owner ? userId : 0L, shards.get(i).selectById(userId).point());
+                assertEquals(i == owner ? 1 : 0, shards.get(i).selectAllByUserId(userId).size());
+            }
+        }
+
+        assertEquals(SHARDS, used.size());
+        assertEquals(100L, pointService.selectById(100L).point());
+        assertEquals(1L, pointService.selectSummary(100L).chargeCount());
+    }
+
+    @Test
+    void 샤드로_나누어도_여러_유저의_동시_충전_사용_조회는_선형화_가능하다() {
+        for (boolean groupCommit : new boolean[] {false, true}) {
+            ShardedPointService pointService = new ShardedPointService(shards(groupCommit));
+            PointOperationRecorder recorder = new PointOperationRecorder();
+            ExecutorService clients = Executors.newFixedThreadPool(8);
+            List<CompletableFuture<Void>> requests = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                SplittableRandom random = new SplittableRandom(t);
+                requests.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        long userId = 1 + random.nextInt(32);
+                        int dice = random.nextInt(100);
+                        if (dice < 45) {
+                            recorder.charge(pointService, userId, 10L * (1 + random.nextInt(3)));
+                        } else if (dice < 80) {
+                            recorder.use(pointService, userId, 10L * (1 + random.nextInt(3)));
+                        } else {
+                            recorder.selectById(pointService, userId);
+                        }
+                    }
+                }, clients));
+            }
+            CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+            clients.shutdown();
+
+            Result result = PointLinearizabilityChecker.check(recorder.operations(), pointService::selectAllByUserId, pointService::selectById);
+
+            assertEquals(32, result.users());
+            assertTrue(result.linearizable(), () -> String.join("\n", result.violations()));
+        }
+    }
+
+    @Test
+    void 샤드마다_다른_저널을_쓰면_샤드_사이_송금을_한_저널에_남길_수_없으므로_만들지_않는다() {
+        List<PointServiceImpl> shards = List.of(PointServiceFixture.pointService(),
+                PointServiceFixture.builder().journal(new NoOpPointJournal()).build());
+
+        assertThrows(IllegalArgumentException.class, () -> new ShardedPointService(shards));
+    }
+
+    @Test
+    void 샤드를_켜면_단일_서비스와_저장소를_만들지_않고_함께_쓸_수_없는_설정이면_시작하지_않는다() {
+        try (ConfigurableApplicationContext context = start("--point.shard.count=2")) {
+            assertInstanceOf(ShardedPointService.class, context.getBean(PointService.class));
+            assertArrayEquals(new String[0], context.getBeanNamesForType(PointServiceImpl.class));
+            assertArrayEquals(new String[0], context.getBeanNamesForType(UserPointRepository.class));
+            assertArrayEquals(new String[0], context.getBeanNamesForType(PointHistoryRepository.class));
+            assertArrayEquals(new String[0], context.getBeanNamesForType(PointSummaryRepository.class));
+            assertArrayEquals(new String[0], context.getBeanNamesForType(UserLockTable.class));
+            assertArrayEquals(new String[0], context.getBeanNamesForType(UserTaskExecutor.class));
+        }
+
+        for (String incompatible : new String[] {"--point.engine.mode=mailbox", "--point.history-outbox.enabled=true",
+                "--point.journal.enabled=true"}) {
+            Throwable thrown = assertThrows(Exception.class, () -> start(incompatible).close());
+            while (thrown.getCause() != null) {
+                thrown = thrown.getCause();
+            }
+            assertInstanceOf(IllegalStateException.class, thrown, incompatible);
+            assertTrue(thrown.getMessage().startsWith("point.shard.enabled 는"), thrown.getMessage());
+        }
+    }
+
+    @Test
+    void 샤드를_켜면_락_테이블_크기_지표는_모든_샤드의_락_테이블_크기의_합이다() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TddApplication.class).web(WebApplicationType.NONE)
+                .run("--point.shard.enabled=true", "--point.shard.count=2", "--point.lock.mode=reclaimable")) {
+            ShardUserLockTables shardUserLockTables = context.getBean(ShardUserLockTables.class);
+            Lock first = shardUserLockTables.get(0).lockOf(1L);
+            Lock second = shardUserLockTables.get(1).lockOf(2L);
+
+            assertEquals(2.0, context.getBean(MeterRegistry.class).get("point.lock.table.size").gauge().value());
+
+            shardUserLockTables.get(0).release(1L, first);
+            shardUserLockTables.get(1).release(2L, second);
+        }
+    }
+
+    private static ConfigurableApplicationContext start(String arg) {
+        return new SpringApplicationBuilder(TddApplication.class).web(WebApplicationType.NONE)
+                .run("--point.shard.enabled=true", "--point.metrics.enabled=false", arg);
+    }
+
+    private static List<PointServiceImpl> shards(boolean groupCommit) {
+        List<PointServiceImpl> shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            shards.add(PointServiceFixture.builder().groupCommit(groupCommit).build());
+        }
+        return shards;
+    }
+}
@@ -0,0 +1,78 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.lock.ReclaimableUserLockTable;
+import io.hhplus.tdd.point.lock.StripedUserLockTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 유저 락 테이블 단위 테스트
+ *
+ */
+public class UserLockTableTest {
+
+    @Test
+    void 스트라이프_수는_2의_거듭제곱으로_올림된다() {
+        assertEquals(1024, new StripedUserLockTable(1000).size());
+        assertEquals(1, new StripedUserLockTable(1).size());
+        assertThrows(IllegalArgumentException.class, () -> new StripedUserLockTable(0));
+    }
+
+    @Test
+    void 같은_유저는_항상_같은_스트라이프_락을_받는다() {
+        StripedUserLockTable userLockTable = new StripedUserLockTable(64);
+
+        for (long userId = 1; userId <= 1000; userId++) {
+            assertSame(userLockTable.lockOf(userId), userLockTable.lockOf(userId));
+        }
+        assertEquals(64, userLockTable.size());
+    }
+
+    @Test
+    void 사용이_끝난_유저_락은_회수된다() {
+        ReclaimableUserLockTable userLockTable = new ReclaimableUserLockTable();
+
+        Lock first = userLockTable.lockOf(1L);
+        Lock second = userLockTable.lockOf(1L);
+        assertSame(first, second);
+        assertEquals(1, userLockTable.size());
+
+        userLockTable.release(1L, first);
+        assertEquals(1, userLockTable.size()); // 아직 한 스레드가 사용 중
+
+        userLockTable.release(1L, second);
+        assertEquals(0, userLockTable.size());
+    }
+
+    @Test
+    void 여러_스레드가_번갈아_써도_회수_후_테이블이_비어있다() {
+        ReclaimableUserLockTable userLockTable = new ReclaimableUserLockTable();
+        int[] counter = new int[1];
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int j = 0; j < 100; j++) {
+                    Lock lock = userLockTable.lockOf(1L);
+                    lock.lock();
+                    try {
+                        counter[0]++;
+                    } finally {
+                        lock.unlock();
+                        userLockTable.release(1L, lock);
+                    }
+                }
+            }));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        assertEquals(10000, counter[0]);
+        assertEquals(0, userLockTable.size());
+    }
+}
@@ -0,0 +1,114 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.constant.ErrorMessage;
+import io.hhplus.tdd.point.engine.LockUserTaskExecutor;
+import io.hhplus.tdd.point.lock.StripedUserLockTable;
+import io.hhplus.tdd.point.lock.UserLockBusyException;
+import io.hhplus.tdd.point.lock.UserLockTable;
+import io.hhplus.tdd.point.lock.UserLockWaitLimiter;
+import io.hhplus.tdd.point.metrics.NoOpPointTransactionMetrics;
+import io.hhplus.tdd.point.service.PointServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 유저 락 대기 제한 테스트
+ *
+ */
+public class UserLockWaitLimiterTest {
+
+    private ExecutorService holder;
+
+    @BeforeEach
+    void setUp() {
+        holder = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        holder.shutdownNow();
+    }
+
+    @Test
+    void 대기_요청이_가득_차면_기다리지_않고_거절한다() throws Exception {
+        UserLockWaitLimiter limiter = new UserLockWaitLimiter(Duration.ZERO, 1);
+        Lock lock = new ReentrantLock();
+        holder.submit(lock::lock).get();
+
+        CompletableFuture<Integer> waiter = CompletableFuture.supplyAsync(() -> {
+            int waiting = limiter.acquire(1L, lock);
+            lock.unlock();
+            return waiting;
+        });
+        while (limiter.waiters(1L) == 0) {
+            Thread.onSpinWait();
+        }
+
+        UserLockBusyException e = assertThrows(UserLockBusyException.class, () -> limiter.acquire(1L, lock));
+        assertEquals(ErrorMessage.TOO_MANY_WAITERS, e.reason());
+        assertEquals(1, limiter.waiters(1L));
+
+        holder.submit(lock::unlock).get();
+        assertEquals(1, waiter.get());
+        assertEquals(0, limiter.waiters(1L));
+    }
+
+    @Test
+    void 정해진_시간_안에_락을_얻지_못하면_거절한다() throws Exception {
+        UserLockWaitLimiter limiter = new UserLockWaitLimiter(Duration.ofMillis(50), 0);
+        Lock lock = new ReentrantLock();
+        holder.submit(lock::lock).get();
+
+        UserLockBusyException e = assertThrows(UserLockBusyException.class, () -> limiter.acquire(1L, lock));
+
+        assertEquals(ErrorMessage.USER_LOCK_TIMEOUT, e.reason());
+        assertEquals(0, limiter.waiters(1L));
+    }
+
+    @Test
+    void 그룹_커밋_요청이_락을_기다리다_거절되면_반영되지_않는다() throws Exception {
+        UserLockTable userLockTable = new StripedUserLockTable(16);
+        PointServiceImpl pointService = PointServiceFixture.builder()
+                                                           .executor(new LockUserTaskExecutor(userLockTable,
+                                                                   new UserLockWaitLimiter(Duration.ofMillis(50), 0), new NoOpPointTransactionMetrics()))
+                                                           .groupCommit(true)
+                                                           .build();
+        Lock lock = userLockTable.lockOf(1L);
+        holder.submit(lock::lock).get();
+
+        assertThrows(UserLockBusyException.class, () -> pointService.charge(1L, 100L));
+
+        holder.submit(lock::unlock).get();
+        assertEquals(10L, pointService.charge(1L, 10L).point());
+        assertEquals(1, pointService.selectAllByUserId(1L).size());
+    }
+
+    @Test
+    void 대기_요청이_가득_차면_429_시간을_넘기면_503으로_응답한다() {
+        ApiControllerAdvice advice = new ApiControllerAdvice();
+
+        ResponseEntity<ErrorResponse> tooMany = advice.handleUserLockBusy(
+                new UserLockBusyException(ErrorMessage.TOO_MANY_WAITERS, ErrorMessage.TOO_MANY_WAITERS.format(1L, 4)));
+        ResponseEntity<ErrorResponse> timeout = advice.handleUserLockBusy(
+                new UserLockBusyException(ErrorMessage.USER_LOCK_TIMEOUT, ErrorMessage.USER_LOCK_TIMEOUT.format(1L, 50L)));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, tooMany.getStatusCode());
+        assertEquals("429", tooMany.getBody().code());
+        assertEquals("1", tooMany.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, timeout.getStatusCode());
+    }
+}
@@ -0,0 +1,98 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.repository.CachedUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 잔액 캐시 단위 테스트
+ *
+ */
+@ExtendWith(MockitoExtension.class)
+public class UserPointCacheTest {
+
+    @Mock
+    private UserPointRepository userPointRepository;
+
+    private CachedUserPointRepository cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CachedUserPointRepository(userPointRepository, 16);
+    }
+
+    @Test
+    void 한번_조회한_잔액은_저장소를_다시_조회하지_않는다() {
+        when(userPointRepository.selectById(1L)).thenReturn(new UserPoint(1L, 100L, 0L));
+
+        cache.selectById(1L);
+        UserPoint result = cache.selectById(1L);
+
+        assertEquals(100L, result.point());
+        verify(userPointRepository, times(1)).selectById(1L);
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void 쓰기는_저장소에_기록한_뒤_캐시를_갱신한다() {
+        when(userPointRepository.insertOrUpdate(1L, 300L)).thenReturn(new UserPoint(1L, 300L, 0L));
+
+        cache.insertOrUpdate(1L, 300L);
+        UserPoint result = cache.selectById(1L);
+
+        assertEquals(300L, result.point());
+        verify(userPointRepository).insertOrUpdate(1L, 300L);
+        verify(userPointRepository, never()).selectById(anyLong());
+    }
+
+    @Test
+    void 락_없이_조회하는_동안_기록되고_밀려난_잔액을_옛_조회_결과로_캐시하지_않는다() throws Exception {
+        CachedUserPointRepository cache = new CachedUserPointRepository(userPointRepository, 1);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        when(userPointRepository.selectById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            written.await();
+            return new UserPoint(1L, 100L, 0L);
+        }).thenReturn(new UserPoint(1L, 300L, 0L));
+        when(userPointRepository.insertOrUpdate(anyLong(), anyLong()))
+                .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 0L));
+
+        // 조회가 저장소에서 옛 값(100)을 읽는 사이 새 잔액(300)이 기록되고, 다른 유저의 기록으로 캐시에서 밀려납니다.
+        CompletableFuture<UserPoint> reader = CompletableFuture.supplyAsync(() -> cache.selectById(1L));
+        loading.await();
+        cache.insertOrUpdate(1L, 300L);
+        cache.insertOrUpdate(2L, 50L);
+        written.countDown();
+        reader.get(5, TimeUnit.SECONDS);
+
+        assertEquals(300L, cache.selectById(1L).point());
+    }
+
+    @Test
+    void 용량을_넘으면_오래_쓰지_않은_유저부터_밀려난다() {
+        when(userPointRepository.selectById(anyLong())).thenAnswer(invocation -> UserPoint.empty(invocation.getArgument(0)));
+
+        for (long id = 1; id <= 100; id++) {
+            cache.selectById(id);
+        }
+
+        CachedUserPointRepository.CacheStats stats = cache.stats();
+        assertEquals(16, stats.size());
+        assertEquals(84, stats.evictions());
+    }
+}